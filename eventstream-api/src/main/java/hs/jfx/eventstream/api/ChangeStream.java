@@ -1,5 +1,9 @@
 package hs.jfx.eventstream.api;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -48,6 +52,32 @@ public interface ChangeStream<T> extends ObservableStream<T> {
    */
   ChangeStream<T> peek(Consumer<? super T> sideEffect);
 
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which
+   * only emits values which are not equal to the value it emitted last. The
+   * first value received after the stream becomes observed is always emitted;
+   * observers subscribing while it is already observed do not reset this.
+   *
+   * @return a {@link ChangeStream} which does not emit the same value twice in a row, never null
+   */
+  default ChangeStream<T> distinct() {
+    return distinct(Objects::equals);
+  }
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which
+   * only emits values which are not equal to the value it emitted last
+   * according to the given equality predicate. The first value received
+   * after the stream becomes observed is always emitted.<p>
+   *
+   * This function is null safe and the predicate will not be called when either
+   * value is {@code null}; {@code null} is only considered equal to {@code null}.
+   *
+   * @param equality a {@link BiPredicate} which determines whether the value emitted last and a new value are equal, cannot be null
+   * @return a {@link ChangeStream} which does not emit equal values twice in a row, never null
+   */
+  ChangeStream<T> distinct(BiPredicate<? super T, ? super T> equality);
+
   /**
    * Returns a {@link ChangeStream}, using this stream as its source,
    * which only observes this stream when {@code condition} is {@code true}.
@@ -76,6 +106,27 @@ public interface ChangeStream<T> extends ObservableStream<T> {
    */
   <U> ChangeStream<U> map(Function<? super T, ? extends U> mapper);
 
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source,
+   * which emits values converted by the given mapper function, remembering
+   * the results for the most recently used inputs.<p>
+   *
+   * Inputs are compared by equality. When an input is mapped again while its result is
+   * still remembered, the mapper is not called. At most {@code maxSize} results are
+   * remembered, discarding the result of the least recently used input first. Results
+   * are also remembered while the stream is not observed.<p>
+   *
+   * This function is null safe and the mapper will not be called when the stream
+   * emits {@code null}.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link Function} which converts a source value to a new value to emit, cannot be null
+   * @param maxSize the maximum number of results to remember, must be positive
+   * @return a {@link ChangeStream} which emits values converted by the given mapper function, never null
+   * @throws IllegalArgumentException when {@code maxSize} is not positive
+   */
+  <U> ChangeStream<U> mapCached(Function<? super T, ? extends U> mapper, int maxSize);
+
   /**
    * Returns a {@link ChangeStream} which, each time this stream emits a value,
    * obtains a new stream supplied by mapper and emits its values instead. If
@@ -108,6 +159,149 @@ public interface ChangeStream<T> extends ObservableStream<T> {
    */
   <U> ChangeStream<U> flatMap(Function<? super T, ? extends ChangeStream<? extends U>> mapper);
 
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which only
+   * emits a value after the given duration has passed without this stream
+   * emitting another value. Bursts of values are therefore collapsed into the
+   * last value of the burst.<p>
+   *
+   * Values are emitted on the JavaFX Application Thread.
+   *
+   * @param duration a {@link Duration} during which no values must be emitted before the last value is emitted, cannot be null or negative
+   * @return a {@link ChangeStream} which only emits the last value of a burst of values, never null
+   */
+  ChangeStream<T> debounce(Duration duration);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which only
+   * emits a value after the given duration has passed without this stream
+   * emitting another value. The given {@link Scheduler} determines when the
+   * duration has passed.
+   *
+   * @param duration a {@link Duration} during which no values must be emitted before the last value is emitted, cannot be null or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return a {@link ChangeStream} which only emits the last value of a burst of values, never null
+   * @see #debounce(Duration)
+   */
+  ChangeStream<T> debounce(Duration duration, Scheduler scheduler);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which emits
+   * a value immediately and then ignores values until the given duration has
+   * passed.<p>
+   *
+   * The duration is measured on the JavaFX Application Thread.
+   *
+   * @param duration a {@link Duration} during which values are ignored after a value was emitted, cannot be null or negative
+   * @return a {@link ChangeStream} which emits the first value of each window of the given duration, never null
+   */
+  ChangeStream<T> throttleFirst(Duration duration);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which emits
+   * a value immediately and then ignores values until the given duration has
+   * passed. The given {@link Scheduler} determines when the duration has passed.
+   *
+   * @param duration a {@link Duration} during which values are ignored after a value was emitted, cannot be null or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return a {@link ChangeStream} which emits the first value of each window of the given duration, never null
+   * @see #throttleFirst(Duration)
+   */
+  ChangeStream<T> throttleFirst(Duration duration, Scheduler scheduler);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which when
+   * receiving a value waits for the given duration and then emits the latest
+   * value received.<p>
+   *
+   * Values are emitted on the JavaFX Application Thread.
+   *
+   * @param duration a {@link Duration} to wait before emitting the latest value, cannot be null or negative
+   * @return a {@link ChangeStream} which emits the last value of each window of the given duration, never null
+   */
+  ChangeStream<T> throttleLast(Duration duration);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which when
+   * receiving a value waits for the given duration and then emits the latest
+   * value received. The given {@link Scheduler} determines when the duration
+   * has passed.
+   *
+   * @param duration a {@link Duration} to wait before emitting the latest value, cannot be null or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return a {@link ChangeStream} which emits the last value of each window of the given duration, never null
+   * @see #throttleLast(Duration)
+   */
+  ChangeStream<T> throttleLast(Duration duration, Scheduler scheduler);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which emits
+   * the latest value received at a fixed interval, but only if a value was
+   * received since the previous interval.<p>
+   *
+   * Values are emitted on the JavaFX Application Thread.
+   *
+   * @param interval a {@link Duration} between samples, cannot be null, zero or negative
+   * @return a {@link ChangeStream} which emits the latest value at a fixed interval, never null
+   */
+  ChangeStream<T> sample(Duration interval);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which emits
+   * the latest value received at a fixed interval, but only if a value was
+   * received since the previous interval. The given {@link Scheduler} determines
+   * when an interval has passed.
+   *
+   * @param interval a {@link Duration} between samples, cannot be null, zero or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return a {@link ChangeStream} which emits the latest value at a fixed interval, never null
+   * @see #sample(Duration)
+   */
+  ChangeStream<T> sample(Duration interval, Scheduler scheduler);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which defers
+   * values received while a transaction is in progress until the transaction ends.
+   * Only the last value received during the transaction is then emitted.
+   *
+   * @return a {@link ChangeStream} which defers values received during a transaction, never null
+   * @see #transactional(TransactionPolicy)
+   */
+  default ChangeStream<T> transactional() {
+    return transactional(TransactionPolicy.LAST_VALUE_WINS);
+  }
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which defers
+   * values received while a transaction is in progress until the transaction ends.
+   * The given {@link TransactionPolicy} determines which of the deferred values
+   * are then emitted.
+   *
+   * @param policy a {@link TransactionPolicy} which determines which deferred values are emitted, cannot be null
+   * @return a {@link ChangeStream} which defers values received during a transaction, never null
+   */
+  ChangeStream<T> transactional(TransactionPolicy policy);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which emits the values
+   * of this stream using the given {@link Executor}. Values are collected and emitted
+   * in batches, in the order they were received, with only one task submitted to the
+   * executor per batch. Batches are never emitted concurrently.<p>
+   *
+   * Streams are not thread-safe: operations following the returned stream are subscribed
+   * and unsubscribed on the thread which subscribes to this stream, but receive values on
+   * the threads of the executor. This is therefore only supported with an executor which
+   * runs tasks on the thread which subscribes, like the JavaFX Application Thread for
+   * streams subscribed on that thread. To run expensive operations on another thread,
+   * use {@link ValueStream#mapAsync(Function, Executor)} instead.<p>
+   *
+   * Values queued but not yet emitted when unsubscribing are discarded.
+   *
+   * @param executor an {@link Executor} used to emit values, cannot be null
+   * @return a {@link ChangeStream} which emits values using the given executor, never null
+   */
+  ChangeStream<T> observeOn(Executor executor);
+
   /**
    * Returns a {@link ValueStream}, using this stream as its source,
    * which emits the given value as its default value for new subscribers.
@@ -0,0 +1,131 @@
+package hs.jfx.eventstream.api;
+
+import java.util.Objects;
+
+/**
+ * A {@link Subscription} which groups other subscriptions so they can be cancelled
+ * together. Subscriptions can be added and removed individually in constant time.<p>
+ *
+ * Cancelling this subscription cancels all subscriptions in the group, in the order
+ * they were added, and leaves the group empty so it can be reused.
+ */
+public final class CompositeSubscription implements Subscription {
+  private final Entry head = new Entry(null);  // sentinel of a circular doubly linked list
+
+  private int size;
+
+  /**
+   * Constructs a new instance containing the given subscriptions.
+   *
+   * @param subscriptions an array of {@link Subscription}s, cannot be null or contain nulls
+   */
+  public CompositeSubscription(Subscription... subscriptions) {
+    head.previous = head;
+    head.next = head;
+
+    for(Subscription subscription : subscriptions) {
+      add(subscription);
+    }
+  }
+
+  /**
+   * Adds a subscription to this group. The returned {@link Subscription} cancels
+   * the given subscription and removes it from this group.
+   *
+   * @param subscription a {@link Subscription} to add, cannot be null
+   * @return a {@link Subscription} which cancels and removes the given subscription, never null
+   */
+  public Subscription add(Subscription subscription) {
+    Entry entry = new Entry(Objects.requireNonNull(subscription, "subscription cannot be null"));
+
+    entry.previous = head.previous;
+    entry.next = head;
+    head.previous.next = entry;
+    head.previous = entry;
+    size++;
+
+    return entry;
+  }
+
+  /**
+   * Returns the number of subscriptions in this group.
+   *
+   * @return the number of subscriptions in this group
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether this group contains no subscriptions.
+   *
+   * @return {@code true} if this group contains no subscriptions, otherwise {@code false}
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Cancels all subscriptions in this group, in the order they were added, and
+   * removes them. If a subscription throws an exception, the remaining subscriptions
+   * are still cancelled after which the first exception is rethrown.
+   */
+  @Override
+  public void unsubscribe() {
+    Entry entry = head.next;
+    RuntimeException exception = null;
+
+    head.previous = head;
+    head.next = head;
+    size = 0;
+
+    while(entry != head) {
+      Entry next = entry.next;
+
+      entry.previous = null;
+      entry.next = null;
+
+      try {
+        entry.subscription.unsubscribe();
+      }
+      catch(RuntimeException e) {
+        if(exception == null) {
+          exception = e;
+        }
+        else {
+          exception.addSuppressed(e);
+        }
+      }
+
+      entry = next;
+    }
+
+    if(exception != null) {
+      throw exception;
+    }
+  }
+
+  private class Entry implements Subscription {
+    final Subscription subscription;
+
+    Entry previous;
+    Entry next;  // null when removed
+
+    Entry(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void unsubscribe() {
+      if(next != null) {
+        previous.next = next;
+        next.previous = previous;
+        previous = null;
+        next = null;
+        size--;
+
+        subscription.unsubscribe();
+      }
+    }
+  }
+}
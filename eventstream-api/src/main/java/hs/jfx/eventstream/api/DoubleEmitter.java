@@ -0,0 +1,14 @@
+package hs.jfx.eventstream.api;
+
+/**
+ * Interface used for emitting a primitive {@code double} value.
+ */
+public interface DoubleEmitter {
+
+  /**
+   * Emits the given value.
+   *
+   * @param value a value to emit
+   */
+  void emit(double value);
+}
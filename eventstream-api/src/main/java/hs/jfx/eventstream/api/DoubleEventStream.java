@@ -0,0 +1,78 @@
+package hs.jfx.eventstream.api;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A sequence of primitive {@code double} events supporting aggregate operations.
+ * Values are passed from stage to stage without boxing; use {@link #boxed()} or
+ * {@link #mapToObj(DoubleFunction)} to continue with a regular {@link EventStream}.<p>
+ *
+ * Subscribers will receive events only when they occur. If no events
+ * occur it is therefore possible that a subscription will never receive
+ * an event.
+ *
+ * @see EventStream
+ */
+public interface DoubleEventStream extends DoubleObservableStream {
+
+  /**
+   * Returns a {@link DoubleEventStream}, using this stream as its source,
+   * which only emits values matching the given predicate.
+   *
+   * @param predicate a {@link DoublePredicate} which values must match to be emitted, cannot be null
+   * @return a {@link DoubleEventStream} which only emits values matching the given predicate, never null
+   */
+  DoubleEventStream filter(DoublePredicate predicate);
+
+  /**
+   * Returns a {@link DoubleEventStream} which emits the same values as this stream and,
+   * each time this stream emits a value, calls the given {@code sideEffect}
+   * consumer with the value.
+   *
+   * @param sideEffect a {@link DoubleConsumer} called when this stream emits a value, cannot be null
+   * @return a {@link DoubleEventStream} which emits the same values as this stream and calls the given {@code sideEffect}
+   *         consumer with each value, never null
+   */
+  DoubleEventStream peek(DoubleConsumer sideEffect);
+
+  /**
+   * Returns a {@link DoubleEventStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param mapper a {@link DoubleUnaryOperator} which converts a source value to a new value to emit, cannot be null
+   * @return a {@link DoubleEventStream} which emits values converted by the given mapper function, never null
+   */
+  DoubleEventStream map(DoubleUnaryOperator mapper);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.<p>
+   *
+   * If the mapper maps the event to {@code null}, the event is discarded.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link DoubleFunction} which converts a source value to a new value to emit, cannot be null
+   * @return an {@link EventStream} which emits values converted by the given mapper function, never null
+   */
+  <U> EventStream<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source,
+   * which emits the values of this stream boxed as {@link Double}s.
+   *
+   * @return an {@link EventStream} which emits the values of this stream boxed, never null
+   */
+  EventStream<Double> boxed();
+
+  /**
+   * Returns a {@link DoubleValueStream}, using this stream as its source,
+   * which emits the given value as its default value for new subscribers.
+   *
+   * @param value a value to emit as default value for new subscribers
+   * @return a {@link DoubleValueStream} which emits the given value as its default value, never null
+   */
+  DoubleValueStream withDefault(double value);
+}
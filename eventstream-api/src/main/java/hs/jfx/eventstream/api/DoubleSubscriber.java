@@ -0,0 +1,17 @@
+package hs.jfx.eventstream.api;
+
+/**
+ * A subscriber for creating {@link Subscription}s for streams which
+ * emit primitive {@code double} values.
+ */
+public interface DoubleSubscriber {
+
+  /**
+   * Subscribes to a source using the given {@link DoubleEmitter} to
+   * emit values.
+   *
+   * @param emitter a {@link DoubleEmitter} used to emit values, cannot be null
+   * @return a {@link Subscription} with which the subscription can be cancelled, never null
+   */
+  Subscription subscribe(DoubleEmitter emitter);
+}
@@ -0,0 +1,77 @@
+package hs.jfx.eventstream.api;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A sequence of primitive {@code double} values with a notion of a current value
+ * supporting aggregate operations. Value streams always immediately emit their
+ * current value upon subscribing. Values are passed from stage to stage without
+ * boxing; use {@link #boxed()} or {@link #mapToObj(DoubleFunction)} to continue with
+ * a regular {@link ValueStream}.<p>
+ *
+ * Subscribers will receive the current value upon subscription immediately
+ * and then any new values when they occur.
+ *
+ * @see ValueStream
+ */
+public interface DoubleValueStream extends DoubleObservableStream {
+
+  /**
+   * Returns a {@link DoubleEventStream}, using this stream as its source,
+   * which only emits values matching the given predicate.
+   *
+   * @param predicate a {@link DoublePredicate} which values must match to be emitted, cannot be null
+   * @return a {@link DoubleEventStream} which only emits values matching the given predicate, never null
+   */
+  DoubleEventStream filter(DoublePredicate predicate);
+
+  /**
+   * Returns a {@link DoubleValueStream} which emits the same values as this stream and,
+   * each time this stream emits a value, calls the given {@code sideEffect}
+   * consumer with the value.
+   *
+   * @param sideEffect a {@link DoubleConsumer} called when this stream emits a value, cannot be null
+   * @return a {@link DoubleValueStream} which emits the same values as this stream and calls the given {@code sideEffect}
+   *         consumer with each value, never null
+   */
+  DoubleValueStream peek(DoubleConsumer sideEffect);
+
+  /**
+   * Returns a {@link DoubleValueStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param mapper a {@link DoubleUnaryOperator} which converts a source value to a new value to emit, cannot be null
+   * @return a {@link DoubleValueStream} which emits values converted by the given mapper function, never null
+   */
+  DoubleValueStream map(DoubleUnaryOperator mapper);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link DoubleFunction} which converts a source value to a new value to emit, cannot be null
+   * @return a {@link ValueStream} which emits values converted by the given mapper function, never null
+   */
+  <U> ValueStream<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source,
+   * which emits the values of this stream boxed as {@link Double}s.
+   *
+   * @return a {@link ValueStream} which emits the values of this stream boxed, never null
+   */
+  ValueStream<Double> boxed();
+
+  /**
+   * Returns the value this stream will supply to new subscribers. Unlike
+   * {@link ValueStream#getInitialValue()} a value is always present, as
+   * primitive value streams cannot be suspended.
+   *
+   * @return the value this stream will supply to new subscribers
+   */
+  double getInitialValue();
+}
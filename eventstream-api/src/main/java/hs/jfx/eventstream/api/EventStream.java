@@ -1,5 +1,8 @@
 package hs.jfx.eventstream.api;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -71,6 +74,26 @@ public interface EventStream<T> extends ObservableStream<T> {
    */
   <U> EventStream<U> map(Function<? super T, ? extends U> mapper);
 
+  /**
+   * Returns a {@link EventStream}, using this stream as its source,
+   * which emits values converted by the given mapper function, remembering
+   * the results for the most recently used inputs.<p>
+   *
+   * Inputs are compared by equality. When an input is mapped again while its result is
+   * still remembered, the mapper is not called. At most {@code maxSize} results are
+   * remembered, discarding the result of the least recently used input first. Results
+   * are also remembered while the stream is not observed.<p>
+   *
+   * If the mapper maps the event to {@code null}, the event is discarded.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link Function} which converts a source value to a new value to emit, cannot be null
+   * @param maxSize the maximum number of results to remember, must be positive
+   * @return a {@link EventStream} which emits values converted by the given mapper function, never null
+   * @throws IllegalArgumentException when {@code maxSize} is not positive
+   */
+  <U> EventStream<U> mapCached(Function<? super T, ? extends U> mapper, int maxSize);
+
   /**
    * Returns a {@link EventStream} which, each time this stream emits a value,
    * obtains a new stream supplied by mapper and emits its values instead. If
@@ -100,6 +123,178 @@ public interface EventStream<T> extends ObservableStream<T> {
    */
   <U> EventStream<U> flatMap(Function<? super T, ? extends EventStream<? extends U>> mapper);
 
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which emits the
+   * results of the {@link CompletionStage}s supplied by the given mapper function.
+   * Only the result of the stage for the latest value is emitted; when a new value
+   * arrives while the previous stage is still in progress, that stage is cancelled
+   * and its result is discarded. Stages which fail are reported to the uncaught
+   * exception handler, and {@code null} results are not emitted.<p>
+   *
+   * Results are emitted on the JavaFX Application Thread.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link Function} which supplies a {@link CompletionStage} for a source value, cannot be null
+   * @return an {@link EventStream} which emits the result of the latest stage, never null
+   */
+  <U> EventStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which emits the
+   * results of the {@link CompletionStage}s supplied by the given mapper function,
+   * using the given {@link Executor}.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link Function} which supplies a {@link CompletionStage} for a source value, cannot be null
+   * @param executor an {@link Executor} used to emit results, cannot be null
+   * @return an {@link EventStream} which emits the result of the latest stage, never null
+   * @see #mapAsync(Function)
+   */
+  <U> EventStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper, Executor executor);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which only
+   * emits a value after the given duration has passed without this stream
+   * emitting another value. Bursts of values are therefore collapsed into the
+   * last value of the burst.<p>
+   *
+   * Values are emitted on the JavaFX Application Thread.
+   *
+   * @param duration a {@link Duration} during which no values must be emitted before the last value is emitted, cannot be null or negative
+   * @return an {@link EventStream} which only emits the last value of a burst of values, never null
+   */
+  EventStream<T> debounce(Duration duration);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which only
+   * emits a value after the given duration has passed without this stream
+   * emitting another value. The given {@link Scheduler} determines when the
+   * duration has passed.
+   *
+   * @param duration a {@link Duration} during which no values must be emitted before the last value is emitted, cannot be null or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return an {@link EventStream} which only emits the last value of a burst of values, never null
+   * @see #debounce(Duration)
+   */
+  EventStream<T> debounce(Duration duration, Scheduler scheduler);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which emits
+   * a value immediately and then ignores values until the given duration has
+   * passed.<p>
+   *
+   * The duration is measured on the JavaFX Application Thread.
+   *
+   * @param duration a {@link Duration} during which values are ignored after a value was emitted, cannot be null or negative
+   * @return an {@link EventStream} which emits the first value of each window of the given duration, never null
+   */
+  EventStream<T> throttleFirst(Duration duration);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which emits
+   * a value immediately and then ignores values until the given duration has
+   * passed. The given {@link Scheduler} determines when the duration has passed.
+   *
+   * @param duration a {@link Duration} during which values are ignored after a value was emitted, cannot be null or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return an {@link EventStream} which emits the first value of each window of the given duration, never null
+   * @see #throttleFirst(Duration)
+   */
+  EventStream<T> throttleFirst(Duration duration, Scheduler scheduler);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which when
+   * receiving a value waits for the given duration and then emits the latest
+   * value received.<p>
+   *
+   * Values are emitted on the JavaFX Application Thread.
+   *
+   * @param duration a {@link Duration} to wait before emitting the latest value, cannot be null or negative
+   * @return an {@link EventStream} which emits the last value of each window of the given duration, never null
+   */
+  EventStream<T> throttleLast(Duration duration);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which when
+   * receiving a value waits for the given duration and then emits the latest
+   * value received. The given {@link Scheduler} determines when the duration
+   * has passed.
+   *
+   * @param duration a {@link Duration} to wait before emitting the latest value, cannot be null or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return an {@link EventStream} which emits the last value of each window of the given duration, never null
+   * @see #throttleLast(Duration)
+   */
+  EventStream<T> throttleLast(Duration duration, Scheduler scheduler);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which emits
+   * the latest value received at a fixed interval, but only if a value was
+   * received since the previous interval.<p>
+   *
+   * Values are emitted on the JavaFX Application Thread.
+   *
+   * @param interval a {@link Duration} between samples, cannot be null, zero or negative
+   * @return an {@link EventStream} which emits the latest value at a fixed interval, never null
+   */
+  EventStream<T> sample(Duration interval);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which emits
+   * the latest value received at a fixed interval, but only if a value was
+   * received since the previous interval. The given {@link Scheduler} determines
+   * when an interval has passed.
+   *
+   * @param interval a {@link Duration} between samples, cannot be null, zero or negative
+   * @param scheduler a {@link Scheduler} used to schedule emissions, cannot be null
+   * @return an {@link EventStream} which emits the latest value at a fixed interval, never null
+   * @see #sample(Duration)
+   */
+  EventStream<T> sample(Duration interval, Scheduler scheduler);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which defers
+   * values received while a transaction is in progress until the transaction ends.
+   * Only the last value received during the transaction is then emitted.
+   *
+   * @return an {@link EventStream} which defers values received during a transaction, never null
+   * @see #transactional(TransactionPolicy)
+   */
+  default EventStream<T> transactional() {
+    return transactional(TransactionPolicy.LAST_VALUE_WINS);
+  }
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which defers
+   * values received while a transaction is in progress until the transaction ends.
+   * The given {@link TransactionPolicy} determines which of the deferred values
+   * are then emitted.
+   *
+   * @param policy a {@link TransactionPolicy} which determines which deferred values are emitted, cannot be null
+   * @return an {@link EventStream} which defers values received during a transaction, never null
+   */
+  EventStream<T> transactional(TransactionPolicy policy);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source, which emits the values
+   * of this stream using the given {@link Executor}. Values are collected and emitted
+   * in batches, in the order they were received, with only one task submitted to the
+   * executor per batch. Batches are never emitted concurrently.<p>
+   *
+   * Streams are not thread-safe: operations following the returned stream are subscribed
+   * and unsubscribed on the thread which subscribes to this stream, but receive values on
+   * the threads of the executor. This is therefore only supported with an executor which
+   * runs tasks on the thread which subscribes, like the JavaFX Application Thread for
+   * streams subscribed on that thread. To run expensive operations on another thread,
+   * use {@link #mapAsync(Function, Executor)} instead.<p>
+   *
+   * Values queued but not yet emitted when unsubscribing are discarded.
+   *
+   * @param executor an {@link Executor} used to emit values, cannot be null
+   * @return an {@link EventStream} which emits values using the given executor, never null
+   */
+  EventStream<T> observeOn(Executor executor);
+
   /**
    * Returns a {@link ValueStream}, using this stream as its source,
    * which emits the given value as its default value for new subscribers.
@@ -0,0 +1,78 @@
+package hs.jfx.eventstream.api;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A sequence of primitive {@code int} events supporting aggregate operations.
+ * Values are passed from stage to stage without boxing; use {@link #boxed()} or
+ * {@link #mapToObj(IntFunction)} to continue with a regular {@link EventStream}.<p>
+ *
+ * Subscribers will receive events only when they occur. If no events
+ * occur it is therefore possible that a subscription will never receive
+ * an event.
+ *
+ * @see EventStream
+ */
+public interface IntEventStream extends IntObservableStream {
+
+  /**
+   * Returns an {@link IntEventStream}, using this stream as its source,
+   * which only emits values matching the given predicate.
+   *
+   * @param predicate an {@link IntPredicate} which values must match to be emitted, cannot be null
+   * @return an {@link IntEventStream} which only emits values matching the given predicate, never null
+   */
+  IntEventStream filter(IntPredicate predicate);
+
+  /**
+   * Returns an {@link IntEventStream} which emits the same values as this stream and,
+   * each time this stream emits a value, calls the given {@code sideEffect}
+   * consumer with the value.
+   *
+   * @param sideEffect an {@link IntConsumer} called when this stream emits a value, cannot be null
+   * @return an {@link IntEventStream} which emits the same values as this stream and calls the given {@code sideEffect}
+   *         consumer with each value, never null
+   */
+  IntEventStream peek(IntConsumer sideEffect);
+
+  /**
+   * Returns an {@link IntEventStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param mapper an {@link IntUnaryOperator} which converts a source value to a new value to emit, cannot be null
+   * @return an {@link IntEventStream} which emits values converted by the given mapper function, never null
+   */
+  IntEventStream map(IntUnaryOperator mapper);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.<p>
+   *
+   * If the mapper maps the event to {@code null}, the event is discarded.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper an {@link IntFunction} which converts a source value to a new value to emit, cannot be null
+   * @return an {@link EventStream} which emits values converted by the given mapper function, never null
+   */
+  <U> EventStream<U> mapToObj(IntFunction<? extends U> mapper);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source,
+   * which emits the values of this stream boxed as {@link Integer}s.
+   *
+   * @return an {@link EventStream} which emits the values of this stream boxed, never null
+   */
+  EventStream<Integer> boxed();
+
+  /**
+   * Returns an {@link IntValueStream}, using this stream as its source,
+   * which emits the given value as its default value for new subscribers.
+   *
+   * @param value a value to emit as default value for new subscribers
+   * @return an {@link IntValueStream} which emits the given value as its default value, never null
+   */
+  IntValueStream withDefault(int value);
+}
@@ -0,0 +1,46 @@
+package hs.jfx.eventstream.api;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A sequence of primitive {@code int} values which can be observed or subscribed
+ * to. Values are never boxed when passed to observers.<p>
+ *
+ * Like {@link ObservableStream}s, these streams are lazy, which means they only
+ * observe their source when they have observers of their own.
+ *
+ * @see ObservableStream
+ */
+public interface IntObservableStream {
+
+  /**
+   * Add an observer to this stream. It is allowed to add the same observer
+   * twice.
+   *
+   * @param observer an observer to add to this stream, cannot be null
+   */
+  void addObserver(IntConsumer observer);
+
+  /**
+   * Removes an observer from this stream. If the observer was not registered
+   * with this stream this call does nothing. If the same observer was registered
+   * twice, two calls will be needed to remove both.
+   *
+   * @param observer an observer to remove from this stream, cannot be null
+   */
+  void removeObserver(IntConsumer observer);
+
+  /**
+   * Start observing this stream and returns a {@link Subscription} which
+   * can be used to stop observing the stream. It is allowed to add the same
+   * subscriber twice.
+   *
+   * @param subscriber a consumer to add to this stream, cannot be null
+   * @return a {@link Subscription} that can be used to stop observing this stream, never null
+   */
+  default Subscription subscribe(IntConsumer subscriber) {
+    addObserver(subscriber);
+
+    return () -> removeObserver(subscriber);
+  }
+}
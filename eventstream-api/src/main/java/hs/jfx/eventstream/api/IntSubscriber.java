@@ -0,0 +1,17 @@
+package hs.jfx.eventstream.api;
+
+/**
+ * A subscriber for creating {@link Subscription}s for streams which
+ * emit primitive {@code int} values.
+ */
+public interface IntSubscriber {
+
+  /**
+   * Subscribes to a source using the given {@link IntEmitter} to
+   * emit values.
+   *
+   * @param emitter an {@link IntEmitter} used to emit values, cannot be null
+   * @return a {@link Subscription} with which the subscription can be cancelled, never null
+   */
+  Subscription subscribe(IntEmitter emitter);
+}
@@ -0,0 +1,77 @@
+package hs.jfx.eventstream.api;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A sequence of primitive {@code int} values with a notion of a current value
+ * supporting aggregate operations. Value streams always immediately emit their
+ * current value upon subscribing. Values are passed from stage to stage without
+ * boxing; use {@link #boxed()} or {@link #mapToObj(IntFunction)} to continue with
+ * a regular {@link ValueStream}.<p>
+ *
+ * Subscribers will receive the current value upon subscription immediately
+ * and then any new values when they occur.
+ *
+ * @see ValueStream
+ */
+public interface IntValueStream extends IntObservableStream {
+
+  /**
+   * Returns an {@link IntEventStream}, using this stream as its source,
+   * which only emits values matching the given predicate.
+   *
+   * @param predicate an {@link IntPredicate} which values must match to be emitted, cannot be null
+   * @return an {@link IntEventStream} which only emits values matching the given predicate, never null
+   */
+  IntEventStream filter(IntPredicate predicate);
+
+  /**
+   * Returns an {@link IntValueStream} which emits the same values as this stream and,
+   * each time this stream emits a value, calls the given {@code sideEffect}
+   * consumer with the value.
+   *
+   * @param sideEffect an {@link IntConsumer} called when this stream emits a value, cannot be null
+   * @return an {@link IntValueStream} which emits the same values as this stream and calls the given {@code sideEffect}
+   *         consumer with each value, never null
+   */
+  IntValueStream peek(IntConsumer sideEffect);
+
+  /**
+   * Returns an {@link IntValueStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param mapper an {@link IntUnaryOperator} which converts a source value to a new value to emit, cannot be null
+   * @return an {@link IntValueStream} which emits values converted by the given mapper function, never null
+   */
+  IntValueStream map(IntUnaryOperator mapper);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper an {@link IntFunction} which converts a source value to a new value to emit, cannot be null
+   * @return a {@link ValueStream} which emits values converted by the given mapper function, never null
+   */
+  <U> ValueStream<U> mapToObj(IntFunction<? extends U> mapper);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source,
+   * which emits the values of this stream boxed as {@link Integer}s.
+   *
+   * @return a {@link ValueStream} which emits the values of this stream boxed, never null
+   */
+  ValueStream<Integer> boxed();
+
+  /**
+   * Returns the value this stream will supply to new subscribers. Unlike
+   * {@link ValueStream#getInitialValue()} a value is always present, as
+   * primitive value streams cannot be suspended.
+   *
+   * @return the value this stream will supply to new subscribers
+   */
+  int getInitialValue();
+}
@@ -0,0 +1,78 @@
+package hs.jfx.eventstream.api;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A sequence of primitive {@code long} events supporting aggregate operations.
+ * Values are passed from stage to stage without boxing; use {@link #boxed()} or
+ * {@link #mapToObj(LongFunction)} to continue with a regular {@link EventStream}.<p>
+ *
+ * Subscribers will receive events only when they occur. If no events
+ * occur it is therefore possible that a subscription will never receive
+ * an event.
+ *
+ * @see EventStream
+ */
+public interface LongEventStream extends LongObservableStream {
+
+  /**
+   * Returns a {@link LongEventStream}, using this stream as its source,
+   * which only emits values matching the given predicate.
+   *
+   * @param predicate a {@link LongPredicate} which values must match to be emitted, cannot be null
+   * @return a {@link LongEventStream} which only emits values matching the given predicate, never null
+   */
+  LongEventStream filter(LongPredicate predicate);
+
+  /**
+   * Returns a {@link LongEventStream} which emits the same values as this stream and,
+   * each time this stream emits a value, calls the given {@code sideEffect}
+   * consumer with the value.
+   *
+   * @param sideEffect a {@link LongConsumer} called when this stream emits a value, cannot be null
+   * @return a {@link LongEventStream} which emits the same values as this stream and calls the given {@code sideEffect}
+   *         consumer with each value, never null
+   */
+  LongEventStream peek(LongConsumer sideEffect);
+
+  /**
+   * Returns a {@link LongEventStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param mapper a {@link LongUnaryOperator} which converts a source value to a new value to emit, cannot be null
+   * @return a {@link LongEventStream} which emits values converted by the given mapper function, never null
+   */
+  LongEventStream map(LongUnaryOperator mapper);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.<p>
+   *
+   * If the mapper maps the event to {@code null}, the event is discarded.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link LongFunction} which converts a source value to a new value to emit, cannot be null
+   * @return an {@link EventStream} which emits values converted by the given mapper function, never null
+   */
+  <U> EventStream<U> mapToObj(LongFunction<? extends U> mapper);
+
+  /**
+   * Returns an {@link EventStream}, using this stream as its source,
+   * which emits the values of this stream boxed as {@link Long}s.
+   *
+   * @return an {@link EventStream} which emits the values of this stream boxed, never null
+   */
+  EventStream<Long> boxed();
+
+  /**
+   * Returns a {@link LongValueStream}, using this stream as its source,
+   * which emits the given value as its default value for new subscribers.
+   *
+   * @param value a value to emit as default value for new subscribers
+   * @return a {@link LongValueStream} which emits the given value as its default value, never null
+   */
+  LongValueStream withDefault(long value);
+}
@@ -0,0 +1,17 @@
+package hs.jfx.eventstream.api;
+
+/**
+ * A subscriber for creating {@link Subscription}s for streams which
+ * emit primitive {@code long} values.
+ */
+public interface LongSubscriber {
+
+  /**
+   * Subscribes to a source using the given {@link LongEmitter} to
+   * emit values.
+   *
+   * @param emitter a {@link LongEmitter} used to emit values, cannot be null
+   * @return a {@link Subscription} with which the subscription can be cancelled, never null
+   */
+  Subscription subscribe(LongEmitter emitter);
+}
@@ -0,0 +1,77 @@
+package hs.jfx.eventstream.api;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A sequence of primitive {@code long} values with a notion of a current value
+ * supporting aggregate operations. Value streams always immediately emit their
+ * current value upon subscribing. Values are passed from stage to stage without
+ * boxing; use {@link #boxed()} or {@link #mapToObj(LongFunction)} to continue with
+ * a regular {@link ValueStream}.<p>
+ *
+ * Subscribers will receive the current value upon subscription immediately
+ * and then any new values when they occur.
+ *
+ * @see ValueStream
+ */
+public interface LongValueStream extends LongObservableStream {
+
+  /**
+   * Returns a {@link LongEventStream}, using this stream as its source,
+   * which only emits values matching the given predicate.
+   *
+   * @param predicate a {@link LongPredicate} which values must match to be emitted, cannot be null
+   * @return a {@link LongEventStream} which only emits values matching the given predicate, never null
+   */
+  LongEventStream filter(LongPredicate predicate);
+
+  /**
+   * Returns a {@link LongValueStream} which emits the same values as this stream and,
+   * each time this stream emits a value, calls the given {@code sideEffect}
+   * consumer with the value.
+   *
+   * @param sideEffect a {@link LongConsumer} called when this stream emits a value, cannot be null
+   * @return a {@link LongValueStream} which emits the same values as this stream and calls the given {@code sideEffect}
+   *         consumer with each value, never null
+   */
+  LongValueStream peek(LongConsumer sideEffect);
+
+  /**
+   * Returns a {@link LongValueStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param mapper a {@link LongUnaryOperator} which converts a source value to a new value to emit, cannot be null
+   * @return a {@link LongValueStream} which emits values converted by the given mapper function, never null
+   */
+  LongValueStream map(LongUnaryOperator mapper);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source,
+   * which emits values converted by the given mapper function.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link LongFunction} which converts a source value to a new value to emit, cannot be null
+   * @return a {@link ValueStream} which emits values converted by the given mapper function, never null
+   */
+  <U> ValueStream<U> mapToObj(LongFunction<? extends U> mapper);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source,
+   * which emits the values of this stream boxed as {@link Long}s.
+   *
+   * @return a {@link ValueStream} which emits the values of this stream boxed, never null
+   */
+  ValueStream<Long> boxed();
+
+  /**
+   * Returns the value this stream will supply to new subscribers. Unlike
+   * {@link ValueStream#getInitialValue()} a value is always present, as
+   * primitive value streams cannot be suspended.
+   *
+   * @return the value this stream will supply to new subscribers
+   */
+  long getInitialValue();
+}
@@ -0,0 +1,22 @@
+package hs.jfx.eventstream.api;
+
+import java.time.Duration;
+
+/**
+ * Schedules actions to run after a delay. Used by time based stream operations,
+ * like debouncing, to determine when values are emitted.<p>
+ *
+ * Scheduled actions must be run on the thread the streams involved are used on,
+ * which for streams observing JavaFX properties is the JavaFX Application Thread.
+ */
+public interface Scheduler {
+
+  /**
+   * Schedules the given action to run once after the given delay.
+   *
+   * @param delay a {@link Duration} after which to run the action, cannot be null or negative
+   * @param action a {@link Runnable} to run, cannot be null
+   * @return a {@link Subscription} which cancels the action if it did not run yet, never null
+   */
+  Subscription schedule(Duration delay, Runnable action);
+}
@@ -11,4 +11,16 @@ public interface Subscription {
      * Cancels this subscription.
      */
     void unsubscribe();
+
+    /**
+     * Combines this subscription with the given subscription, returning a new
+     * {@link CompositeSubscription} which cancels both. This subscription is not
+     * modified, even when it is a {@link CompositeSubscription} itself.
+     *
+     * @param other a {@link Subscription} to combine with, cannot be null
+     * @return a {@link CompositeSubscription} which cancels both subscriptions, never null
+     */
+    default CompositeSubscription and(Subscription other) {
+        return new CompositeSubscription(this, other);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package hs.jfx.eventstream.api;
+
+/**
+ * Determines which values a transactional stream emits for the values it
+ * received while a transaction was in progress.
+ */
+public enum TransactionPolicy {
+
+  /**
+   * Only the last value received during the transaction is emitted when
+   * the transaction ends.
+   */
+  LAST_VALUE_WINS,
+
+  /**
+   * All values received during the transaction are emitted, in the order
+   * they were received, when the transaction ends.
+   */
+  COLLECT_ALL
+}
@@ -1,5 +1,9 @@
 package hs.jfx.eventstream.api;
 
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -82,6 +86,27 @@ public interface ValueStream<T> extends ObservableStream<T> {
    */
   <U> ValueStream<U> map(Function<? super T, ? extends U> mapper);
 
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source,
+   * which emits values converted by the given mapper function, remembering
+   * the results for the most recently used inputs.<p>
+   *
+   * Inputs are compared by equality. When an input is mapped again while its result is
+   * still remembered, the mapper is not called. At most {@code maxSize} results are
+   * remembered, discarding the result of the least recently used input first. Results
+   * are also remembered while the stream is not observed.<p>
+   *
+   * This function is null safe and the mapper will not be called when the stream
+   * emits {@code null}.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link Function} which converts a source value to a new value to emit, cannot be null
+   * @param maxSize the maximum number of results to remember, must be positive
+   * @return a {@link ValueStream} which emits values converted by the given mapper function, never null
+   * @throws IllegalArgumentException when {@code maxSize} is not positive
+   */
+  <U> ValueStream<U> mapCached(Function<? super T, ? extends U> mapper, int maxSize);
+
   /**
    * Returns a {@link ValueStream} which, each time this stream emits a value,
    * obtains a new stream supplied by mapper and emits its values instead. If
@@ -115,6 +140,41 @@ public interface ValueStream<T> extends ObservableStream<T> {
    */
   <U> ValueStream<U> flatMap(Function<? super T, ? extends ValueStream<? extends U>> mapper);
 
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which emits the
+   * results of the {@link CompletionStage}s supplied by the given mapper function.
+   * Only the result of the stage for the latest value is emitted; when a new value
+   * arrives while the previous stage is still in progress, that stage is cancelled
+   * and its result is discarded. Stages which fail are reported to the uncaught
+   * exception handler.<p>
+   *
+   * As results are not available immediately, this does not result in a {@code ValueStream}.
+   * The current value of this stream is mapped upon subscription, and its result is emitted
+   * when it becomes available.<p>
+   *
+   * This function is null safe and the mapper will not be called when the stream
+   * emits {@code null}; {@code null} is emitted instead. Results are emitted on the
+   * JavaFX Application Thread.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link Function} which supplies a {@link CompletionStage} for a source value, cannot be null
+   * @return a {@link ChangeStream} which emits the result of the latest stage, never null
+   */
+  <U> ChangeStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper);
+
+  /**
+   * Returns a {@link ChangeStream}, using this stream as its source, which emits the
+   * results of the {@link CompletionStage}s supplied by the given mapper function,
+   * using the given {@link Executor}.
+   *
+   * @param <U> the type of values the new stream emits
+   * @param mapper a {@link Function} which supplies a {@link CompletionStage} for a source value, cannot be null
+   * @param executor an {@link Executor} used to emit results, cannot be null
+   * @return a {@link ChangeStream} which emits the result of the latest stage, never null
+   * @see #mapAsync(Function)
+   */
+  <U> ChangeStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper, Executor executor);
+
   /**
    * Returns a {@link ChangeStream} which, each time this stream emits a value,
    * obtains a new stream supplied by mapper and emits its values instead. If
@@ -189,6 +249,91 @@ public interface ValueStream<T> extends ObservableStream<T> {
    */
   EventStream<T> filterNull();
 
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source, which
+   * only emits values which are not equal to the value it emitted last.<p>
+   *
+   * While observed, the returned stream supplies the value it emitted last to new
+   * subscribers, so all subscribers agree on its current value.
+   *
+   * @return a {@link ValueStream} which does not emit the same value twice in a row, never null
+   */
+  default ValueStream<T> distinct() {
+    return distinct(Objects::equals);
+  }
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source, which
+   * only emits values which are not equal to the value it emitted last
+   * according to the given equality predicate.<p>
+   *
+   * This function is null safe and the predicate will not be called when either
+   * value is {@code null}; {@code null} is only considered equal to {@code null}.<p>
+   *
+   * While observed, the returned stream supplies the value it emitted last to new
+   * subscribers, so all subscribers agree on its current value.
+   *
+   * @param equality a {@link BiPredicate} which determines whether the value emitted last and a new value are equal, cannot be null
+   * @return a {@link ValueStream} which does not emit equal values twice in a row, never null
+   */
+  ValueStream<T> distinct(BiPredicate<? super T, ? super T> equality);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source, which
+   * remembers the latest value emitted while it is observed and supplies
+   * it to new subscribers directly.<p>
+   *
+   * Normally, a new subscriber is supplied with a value determined by
+   * {@link #getInitialValue()}, which re-evaluates the operations of all
+   * ancestor streams. For long chains with many late subscribers this can
+   * be avoided by caching the value. When the returned stream is not observed
+   * nothing is remembered and {@link #getInitialValue()} is used as normal.<p>
+   *
+   * Note that the latest value emitted can differ from the value this stream would
+   * supply to new subscribers, for example when this stream is based on a default
+   * value (see {@link ChangeStream#withDefault(Object)}) or was suspended by
+   * {@link #conditionOn(ObservableValue)}. Only use this when the latest value
+   * emitted is the correct value for new subscribers.
+   *
+   * @return a {@link ValueStream} which supplies the latest value emitted to new subscribers, never null
+   */
+  ValueStream<T> cache();
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source, which defers
+   * emitting changes until the next JavaFX pulse and then only emits the latest
+   * value. Any number of changes occurring between two pulses therefore only
+   * result in a single emission, or none at all when the latest value equals the
+   * value emitted last.<p>
+   *
+   * New subscribers still immediately receive the current value of this stream.
+   *
+   * @return a {@link ValueStream} which emits the latest value of this stream once per pulse, never null
+   */
+  ValueStream<T> coalescePerPulse();
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source, which defers
+   * emitting changes until the given {@link Scheduler} runs a scheduled action and
+   * then only emits the latest value.
+   *
+   * @param scheduler a {@link Scheduler} which determines when the latest value is emitted, cannot be null
+   * @return a {@link ValueStream} which coalesces changes until the given {@link Scheduler} runs an action, never null
+   * @see #coalescePerPulse()
+   */
+  ValueStream<T> coalesce(Scheduler scheduler);
+
+  /**
+   * Returns a {@link ValueStream}, using this stream as its source, which defers
+   * values received while a transaction is in progress until the transaction ends.
+   * Only the last value received during the transaction is then emitted.<p>
+   *
+   * New subscribers still immediately receive the current value of this stream.
+   *
+   * @return a {@link ValueStream} which defers values received during a transaction, never null
+   */
+  ValueStream<T> transactional();
+
   /**
    * Returns the values of this stream as a {@link Binding}.
    *
@@ -196,6 +341,20 @@ public interface ValueStream<T> extends ObservableStream<T> {
    */
   Binding<T> toBinding();
 
+  /**
+   * Returns the values of this stream as a lazy {@link Binding}. Unlike
+   * {@link #toBinding()}, the returned binding only observes this stream while
+   * it has listeners of its own. When it has no listeners, its value is computed
+   * each time it is requested.<p>
+   *
+   * While observed, the binding follows the usual JavaFX semantics: it becomes
+   * invalid when this stream emits a new value and only notifies its invalidation
+   * listeners again after the value was requested.
+   *
+   * @return the values of this stream as a lazy {@link Binding}, never null
+   */
+  Binding<T> toLazyBinding();
+
   /**
    * Returns an {@link OptionalValue} which contained value this stream will supply
    * to new subscribers. If the {@link OptionalValue} is empty, no value will be
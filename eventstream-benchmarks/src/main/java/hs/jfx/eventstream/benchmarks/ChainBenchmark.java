@@ -0,0 +1,84 @@
+package hs.jfx.eventstream.benchmarks;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.EventSource;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures chains of {@code map}, {@code filter} and {@code peek} stages of
+ * varying depth, both the cost of emitting a value through an already subscribed
+ * chain and the cost of constructing, subscribing and unsubscribing a new chain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+
+  @Param({"1", "3", "6", "12"})
+  public int depth;
+
+  private final EventSource<Integer> source = new EventSource<>();
+
+  private Blackhole blackhole;
+  private Subscription subscription;
+  private int counter;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    this.blackhole = blackhole;
+    this.subscription = createChain(source, depth).subscribe(blackhole::consume);
+  }
+
+  @TearDown
+  public void tearDown() {
+    subscription.unsubscribe();
+  }
+
+  @Benchmark
+  public void emitThroughChain() {
+    source.push(counter++ & 0xff);  // values up to 255 are cached by Integer.valueOf
+  }
+
+  @Benchmark
+  public void constructAndSubscribeChain() {
+    Subscription subscription = createChain(new EventSource<>(), depth).subscribe(blackhole::consume);
+
+    subscription.unsubscribe();
+  }
+
+  /**
+   * Creates a chain of the given depth, where each step in the chain consists
+   * of a map, filter and peek stage.
+   */
+  private EventStream<Integer> createChain(EventStream<Integer> source, int depth) {
+    EventStream<Integer> stream = source;
+
+    for(int i = 0; i < depth; i++) {
+      stream = stream
+        .map(v -> v + 1)
+        .filter(v -> v >= 0)
+        .peek(blackhole::consume);
+    }
+
+    return stream;
+  }
+}
@@ -0,0 +1,49 @@
+package hs.jfx.eventstream.benchmarks;
+
+import hs.jfx.eventstream.core.EventSource;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of emitting a single value to a varying number of
+ * observers of a stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmitBenchmark {
+  private static final String VALUE = "value";
+
+  @Param({"1", "2", "16", "256"})
+  public int observerCount;
+
+  private final EventSource<String> source = new EventSource<>();
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    for(int i = 0; i < observerCount; i++) {
+      source.addObserver(v -> blackhole.consume(v));
+    }
+  }
+
+  @Benchmark
+  public void emit() {
+    source.push(VALUE);
+  }
+}
@@ -0,0 +1,70 @@
+package hs.jfx.eventstream.benchmarks;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.Values;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code flatMap} on value streams, both switching between two
+ * mapped streams and emitting values from the currently tracked stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatMapBenchmark {
+  private final SimpleIntegerProperty selector = new SimpleIntegerProperty(0);
+  private final StringProperty[] properties = new StringProperty[] {
+    new SimpleStringProperty("A"),
+    new SimpleStringProperty("B")
+  };
+
+  private Subscription subscription;
+  private boolean toggle;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    ValueStream<String> stream = Values.of(selector)
+      .flatMap(i -> Values.of(properties[i]));
+
+    subscription = stream.subscribe(blackhole::consume);
+  }
+
+  @TearDown
+  public void tearDown() {
+    subscription.unsubscribe();
+  }
+
+  @Benchmark
+  public void switchStream() {
+    selector.set(selector.get() ^ 1);
+  }
+
+  @Benchmark
+  public void emitFromTrackedStream() {
+    toggle = !toggle;
+
+    properties[selector.get()].set(toggle ? "X" : "Y");
+  }
+}
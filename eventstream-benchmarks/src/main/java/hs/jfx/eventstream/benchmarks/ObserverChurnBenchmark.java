@@ -0,0 +1,66 @@
+package hs.jfx.eventstream.benchmarks;
+
+import hs.jfx.eventstream.core.EventSource;
+import hs.jfx.eventstream.core.util.ListHelper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of adding and then removing an observer, both on a
+ * stream and directly on a {@link ListHelper}, which already holds a
+ * varying number of other observers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObserverChurnBenchmark {
+
+  @Param({"0", "1", "16", "256"})
+  public int existingObservers;
+
+  private final EventSource<String> source = new EventSource<>();
+  private final Consumer<String> observer = v -> {};
+
+  private ListHelper<Consumer<String>> listHelper;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    for(int i = 0; i < existingObservers; i++) {
+      Consumer<String> existingObserver = v -> blackhole.consume(v);
+
+      source.addObserver(existingObserver);
+      listHelper = ListHelper.add(listHelper, existingObserver);
+    }
+  }
+
+  @Benchmark
+  public void addAndRemoveObserver() {
+    source.addObserver(observer);
+    source.removeObserver(observer);
+  }
+
+  @Benchmark
+  public ListHelper<Consumer<String>> addAndRemoveListHelper() {
+    listHelper = ListHelper.add(listHelper, observer);
+    listHelper = ListHelper.remove(listHelper, observer);
+
+    return listHelper;
+  }
+}
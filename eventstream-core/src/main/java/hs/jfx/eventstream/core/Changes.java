@@ -2,8 +2,8 @@ package hs.jfx.eventstream.core;
 
 import hs.jfx.eventstream.api.EventStream;
 import hs.jfx.eventstream.core.impl.RootEventStream;
+import hs.jfx.eventstream.core.impl.SharedRoots;
 
-import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableFloatValue;
 import javafx.beans.value.ObservableIntegerValue;
@@ -24,13 +24,7 @@ public interface Changes {
    * @return a {@link EventStream} which uses the given {@link ObservableValue} as source, never null
    */
   static <T> EventStream<Change<T>> of(ObservableValue<T> observable) {
-    return RootEventStream.of(emitter -> {
-      ChangeListener<T> listener = (obs, old, current) -> emitter.emit(Change.of(old, current));
-
-      observable.addListener(listener);
-
-      return () -> observable.removeListener(listener);
-    });
+    return RootEventStream.of(emitter -> SharedRoots.addListener(observable, (obs, old, current) -> emitter.emit(Change.of(old, current))));
   }
 
   /**
@@ -78,12 +72,6 @@ public interface Changes {
   }
 
   private static <S, T> EventStream<Change<T>> withCast(ObservableValue<S> observable, Class<T> cls) {
-    return RootEventStream.of(emitter -> {
-      ChangeListener<S> listener = (obs, old, current) -> emitter.emit(Change.of(cls.cast(old), cls.cast(current)));
-
-      observable.addListener(listener);
-
-      return () -> observable.removeListener(listener);
-    });
+    return RootEventStream.of(emitter -> SharedRoots.addListener(observable, (obs, old, current) -> emitter.emit(Change.of(cls.cast(old), cls.cast(current)))));
   }
 }
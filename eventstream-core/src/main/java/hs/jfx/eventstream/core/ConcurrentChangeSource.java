@@ -0,0 +1,53 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.ChangeStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.core.impl.BaseChangeStream;
+import hs.jfx.eventstream.core.impl.DrainingQueue;
+import hs.jfx.eventstream.core.impl.ExecutorStreams;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A source for a {@link ChangeStream} which accepts values from any thread and
+ * emits them on the thread of a given {@link Executor}, by default the JavaFX
+ * Application Thread.<p>
+ *
+ * Values are collected and emitted in batches like {@link ConcurrentEventSource}
+ * does, except that {@code null} is a valid value.
+ *
+ * @param <T> the type of values the stream emits
+ */
+public class ConcurrentChangeSource<T> extends BaseChangeStream<T, T> {
+  private final DrainingQueue<T> queue;
+
+  /**
+   * Constructs a new instance which emits all values on the JavaFX Application Thread.
+   */
+  public ConcurrentChangeSource() {
+    this(ExecutorStreams.FX, TransactionPolicy.COLLECT_ALL);
+  }
+
+  /**
+   * Constructs a new instance which emits values using the given {@link Executor}.
+   *
+   * @param executor an {@link Executor} to emit values with, cannot be null
+   * @param policy a {@link TransactionPolicy} which determines which values of a batch are emitted, cannot be null
+   */
+  public ConcurrentChangeSource(Executor executor, TransactionPolicy policy) {
+    super(e -> Subscription.EMPTY);
+
+    this.queue = new DrainingQueue<>(executor, policy, this::emit);
+  }
+
+  /**
+   * Queues the given value for emission to subscribers of this stream. Can be
+   * called from any thread.
+   *
+   * @param value a value to emit, can be null
+   */
+  public void push(T value) {
+    queue.offer(value);
+  }
+}
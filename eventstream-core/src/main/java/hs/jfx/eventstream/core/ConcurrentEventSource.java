@@ -0,0 +1,61 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.core.impl.BaseEventStream;
+import hs.jfx.eventstream.core.impl.DrainingQueue;
+import hs.jfx.eventstream.core.impl.ExecutorStreams;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * A source for a {@link EventStream} which accepts values from any thread and
+ * emits them on the thread of a given {@link Executor}, by default the JavaFX
+ * Application Thread.<p>
+ *
+ * Pushing a value does not block; values are collected without locking and then
+ * emitted in a single batch, requiring only one task to be submitted to the executor
+ * for all values pushed before the batch is emitted. Batches are never emitted
+ * concurrently, even by an executor with multiple threads. A batch is emitted as a
+ * transaction (see {@link Transactions}). Depending on the {@link TransactionPolicy},
+ * either all values of a batch are emitted in the order they were pushed, or only
+ * the last value.<p>
+ *
+ * Note that event streams do not allow {@code null} values.
+ *
+ * @param <T> the type of values the stream emits
+ */
+public class ConcurrentEventSource<T> extends BaseEventStream<T, T> {
+  private final DrainingQueue<T> queue;
+
+  /**
+   * Constructs a new instance which emits all values on the JavaFX Application Thread.
+   */
+  public ConcurrentEventSource() {
+    this(ExecutorStreams.FX, TransactionPolicy.COLLECT_ALL);
+  }
+
+  /**
+   * Constructs a new instance which emits values using the given {@link Executor}.
+   *
+   * @param executor an {@link Executor} to emit values with, cannot be null
+   * @param policy a {@link TransactionPolicy} which determines which values of a batch are emitted, cannot be null
+   */
+  public ConcurrentEventSource(Executor executor, TransactionPolicy policy) {
+    super(e -> Subscription.EMPTY);
+
+    this.queue = new DrainingQueue<>(executor, policy, this::emit);
+  }
+
+  /**
+   * Queues the given value for emission to subscribers of this stream. Can be
+   * called from any thread.
+   *
+   * @param value a value to emit, cannot be null
+   */
+  public void push(T value) {
+    queue.offer(Objects.requireNonNull(value));
+  }
+}
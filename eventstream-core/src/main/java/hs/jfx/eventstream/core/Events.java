@@ -1,10 +1,16 @@
 package hs.jfx.eventstream.core;
 
+import hs.jfx.eventstream.api.DoubleEventStream;
 import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.IntEventStream;
+import hs.jfx.eventstream.api.LongEventStream;
 import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.core.impl.DoubleStreams;
+import hs.jfx.eventstream.core.impl.IntStreams;
+import hs.jfx.eventstream.core.impl.LongStreams;
 import hs.jfx.eventstream.core.impl.RootEventStream;
+import hs.jfx.eventstream.core.impl.SharedRoots;
 
-import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableFloatValue;
 import javafx.beans.value.ObservableIntegerValue;
@@ -25,13 +31,7 @@ public interface Events {
    * @return a {@link EventStream} which uses the given {@link ObservableValue} as source, never null
    */
   static <T> EventStream<T> of(ObservableValue<T> observable) {
-    return RootEventStream.of(emitter -> {
-      ChangeListener<T> listener = (obs, old, current) -> emitter.emit(current);
-
-      observable.addListener(listener);
-
-      return () -> observable.removeListener(listener);
-    });
+    return RootEventStream.of(emitter -> SharedRoots.addListener(observable, (obs, old, current) -> emitter.emit(current)));
   }
 
   /**
@@ -78,6 +78,42 @@ public interface Events {
     return withCast(observable, Double.class);
   }
 
+  /**
+   * Constructs an {@link IntEventStream} from a given {@link ObservableIntegerValue}.
+   * The returned stream will emit every change of the observable as a
+   * primitive <code>int</code> without boxing it.
+   *
+   * @param observable an {@link ObservableIntegerValue} used as source for the stream, cannot be null
+   * @return an {@link IntEventStream} which uses the given {@link ObservableIntegerValue} as source, never null
+   */
+  static IntEventStream ofInt(ObservableIntegerValue observable) {
+    return IntStreams.event(observable);
+  }
+
+  /**
+   * Constructs a {@link LongEventStream} from a given {@link ObservableLongValue}.
+   * The returned stream will emit every change of the observable as a
+   * primitive <code>long</code> without boxing it.
+   *
+   * @param observable an {@link ObservableLongValue} used as source for the stream, cannot be null
+   * @return a {@link LongEventStream} which uses the given {@link ObservableLongValue} as source, never null
+   */
+  static LongEventStream ofLong(ObservableLongValue observable) {
+    return LongStreams.event(observable);
+  }
+
+  /**
+   * Constructs a {@link DoubleEventStream} from a given {@link ObservableDoubleValue}.
+   * The returned stream will emit every change of the observable as a
+   * primitive <code>double</code> without boxing it.
+   *
+   * @param observable an {@link ObservableDoubleValue} used as source for the stream, cannot be null
+   * @return a {@link DoubleEventStream} which uses the given {@link ObservableDoubleValue} as source, never null
+   */
+  static DoubleEventStream ofDouble(ObservableDoubleValue observable) {
+    return DoubleStreams.event(observable);
+  }
+
   /**
    * Constructs an {@link EventStream}, with values of type <code>T</code>, using the given
    * {@link Subscriber} to subscribe to a source. The returned stream will emit all not null
@@ -92,12 +128,6 @@ public interface Events {
   }
 
   private static <S, T> EventStream<T> withCast(ObservableValue<S> observable, Class<T> cls) {
-    return RootEventStream.of(emitter -> {
-      ChangeListener<S> listener = (obs, old, current) -> emitter.emit(cls.cast(current));
-
-      observable.addListener(listener);
-
-      return () -> observable.removeListener(listener);
-    });
+    return RootEventStream.of(emitter -> SharedRoots.addListener(observable, (obs, old, current) -> emitter.emit(cls.cast(current))));
   }
 }
@@ -0,0 +1,304 @@
+package hs.jfx.eventstream.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Represents a change of a list as a sequence of {@link Step}s, each describing
+ * a range of elements which was replaced, permutated or updated. The steps must
+ * be applied in order; the indices of a step refer to the list as it is after the
+ * preceding steps were applied.<p>
+ *
+ * Unlike a {@link ListChangeListener.Change}, instances of this class are immutable
+ * and remain valid after they were delivered.
+ *
+ * @param <E> type of the elements of the list
+ */
+public final class ListChange<E> {
+  private static final ListChange<?> EMPTY = new ListChange<>(List.of());
+
+  private final List<Step<E>> steps;
+
+  /**
+   * Constructs a new instance with the given steps.
+   *
+   * @param <E> type of the elements of the list
+   * @param steps a list of {@link Step}s, cannot be null
+   * @return a new {@link ListChange} instance, never null
+   */
+  public static <E> ListChange<E> of(List<Step<E>> steps) {
+    return new ListChange<>(List.copyOf(steps));
+  }
+
+  /**
+   * Constructs a new instance from the given {@link ListChangeListener.Change}.
+   * The elements involved are copied, so this must be called while the given
+   * change is being delivered.
+   *
+   * @param <E> type of the elements of the list
+   * @param change a {@link ListChangeListener.Change}, cannot be null
+   * @return a new {@link ListChange} instance, never null
+   */
+  public static <E> ListChange<E> of(ListChangeListener.Change<? extends E> change) {
+    List<Step<E>> steps = new ArrayList<>();
+
+    change.reset();
+
+    while(change.next()) {
+      int from = change.getFrom();
+
+      if(change.wasPermutated()) {
+        int[] permutation = new int[change.getTo() - from];
+
+        for(int i = 0; i < permutation.length; i++) {
+          permutation[i] = change.getPermutation(from + i);
+        }
+
+        steps.add(new Step<>(Type.PERMUTATION, from, List.of(), List.of(), permutation));
+      }
+      else if(change.wasUpdated()) {
+        steps.add(new Step<>(Type.UPDATE, from, List.of(), copy(change.getList().subList(from, change.getTo())), null));
+      }
+      else {
+        steps.add(new Step<>(Type.REPLACEMENT, from, copy(change.getRemoved()), copy(change.getAddedSubList()), null));
+      }
+    }
+
+    return new ListChange<>(Collections.unmodifiableList(steps));
+  }
+
+  /**
+   * Constructs a new instance which describes adding all elements of the given
+   * list to an empty list.
+   *
+   * @param <E> type of the elements of the list
+   * @param elements a list of elements, cannot be null
+   * @return a new {@link ListChange} instance, never null
+   */
+  public static <E> ListChange<E> ofAdded(List<? extends E> elements) {
+    if(elements.isEmpty()) {
+      @SuppressWarnings("unchecked")
+      ListChange<E> empty = (ListChange<E>)EMPTY;
+
+      return empty;
+    }
+
+    return new ListChange<>(List.of(Step.replacement(0, List.of(), elements)));
+  }
+
+  private ListChange(List<Step<E>> steps) {
+    this.steps = steps;
+  }
+
+  /**
+   * Returns the steps of this change.
+   *
+   * @return an immutable list of {@link Step}s, never null but can be empty
+   */
+  public List<Step<E>> getSteps() {
+    return steps;
+  }
+
+  /**
+   * Applies this change to the given list, which must contain the elements
+   * of the changed list as they were before this change.
+   *
+   * @param list a list to apply this change to, cannot be null
+   */
+  public void applyTo(List<E> list) {
+    for(Step<E> step : steps) {
+      step.applyTo(list);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ListChange" + steps;
+  }
+
+  private static <E> List<E> copy(List<? extends E> list) {
+    return list.isEmpty() ? List.of() : Collections.unmodifiableList(new ArrayList<>(list));
+  }
+
+  /**
+   * The type of a {@link Step}.
+   */
+  public enum Type {
+
+    /**
+     * Elements were removed, added or both, starting at the same index.
+     */
+    REPLACEMENT,
+
+    /**
+     * The elements in a range were reordered.
+     */
+    PERMUTATION,
+
+    /**
+     * The elements in a range were updated in place.
+     */
+    UPDATE
+  }
+
+  /**
+   * A single step of a {@link ListChange}.
+   *
+   * @param <E> type of the elements of the list
+   */
+  public static final class Step<E> {
+    private final Type type;
+    private final int from;
+    private final List<E> removed;
+    private final List<E> added;
+    private final int[] permutation;
+
+    /**
+     * Constructs a step in which the given removed elements were replaced by the
+     * given added elements, starting at the given index. Either list can be empty.
+     *
+     * @param <E> type of the elements of the list
+     * @param from the index of the first element removed or added
+     * @param removed a list of elements which were removed, cannot be null
+     * @param added a list of elements which were added, cannot be null
+     * @return a new {@link Step}, never null
+     */
+    public static <E> Step<E> replacement(int from, List<? extends E> removed, List<? extends E> added) {
+      return new Step<>(Type.REPLACEMENT, from, copy(removed), copy(added), null);
+    }
+
+    /**
+     * Constructs a step in which the elements starting at the given index were
+     * reordered. The element at index {@code from + i} moved to index
+     * {@code permutation[i]}.
+     *
+     * @param <E> type of the elements of the list
+     * @param from the index of the first element of the reordered range
+     * @param permutation an array with the new index of each element in the range, cannot be null
+     * @return a new {@link Step}, never null
+     */
+    public static <E> Step<E> permutation(int from, int[] permutation) {
+      return new Step<>(Type.PERMUTATION, from, List.of(), List.of(), permutation.clone());
+    }
+
+    /**
+     * Constructs a step in which the elements starting at the given index were
+     * updated in place.
+     *
+     * @param <E> type of the elements of the list
+     * @param from the index of the first element updated
+     * @param updated a list of the updated elements, cannot be null
+     * @return a new {@link Step}, never null
+     */
+    public static <E> Step<E> update(int from, List<? extends E> updated) {
+      return new Step<>(Type.UPDATE, from, List.of(), copy(updated), null);
+    }
+
+    private Step(Type type, int from, List<E> removed, List<E> added, int[] permutation) {
+      this.type = type;
+      this.from = from;
+      this.removed = removed;
+      this.added = added;
+      this.permutation = permutation;
+    }
+
+    /**
+     * Returns the type of this step.
+     *
+     * @return the {@link Type} of this step, never null
+     */
+    public Type getType() {
+      return type;
+    }
+
+    /**
+     * Returns the index of the first element affected by this step.
+     *
+     * @return the index of the first element affected by this step
+     */
+    public int getFrom() {
+      return from;
+    }
+
+    /**
+     * Returns the index after the last element affected by this step, after it
+     * was applied. For a replacement, this is the index after the last added element.
+     *
+     * @return the index after the last element affected by this step
+     */
+    public int getTo() {
+      return from + (permutation == null ? added.size() : permutation.length);
+    }
+
+    /**
+     * Returns the elements removed in this step.
+     *
+     * @return an immutable list of removed elements, never null but can be empty
+     */
+    public List<E> getRemoved() {
+      return removed;
+    }
+
+    /**
+     * Returns the elements added in this step, or for updates, the updated elements.
+     *
+     * @return an immutable list of added or updated elements, never null but can be empty
+     */
+    public List<E> getAdded() {
+      return added;
+    }
+
+    /**
+     * Returns the new index of the element which was at the given index before
+     * this permutation.
+     *
+     * @param index an index in the range of this step
+     * @return the new index of the element
+     * @throws IllegalStateException when this step is not a permutation
+     */
+    public int getPermutation(int index) {
+      if(type != Type.PERMUTATION) {
+        throw new IllegalStateException("Not a permutation: " + this);
+      }
+
+      return permutation[index - from];
+    }
+
+    void applyTo(List<E> list) {
+      switch(type) {
+      case REPLACEMENT:
+        list.subList(from, from + removed.size()).clear();
+        list.addAll(from, added);
+        break;
+      case PERMUTATION:
+        List<E> original = new ArrayList<>(list.subList(from, from + permutation.length));
+
+        for(int i = 0; i < permutation.length; i++) {
+          list.set(permutation[i], original.get(i));
+        }
+        break;
+      case UPDATE:
+        for(int i = 0; i < added.size(); i++) {
+          list.set(from + i, added.get(i));
+        }
+        break;
+      }
+    }
+
+    @Override
+    public String toString() {
+      switch(type) {
+      case PERMUTATION:
+        return "Permutation[" + from + ": " + Arrays.toString(permutation) + "]";
+      case UPDATE:
+        return "Update[" + from + ": " + added + "]";
+      default:
+        return "Replacement[" + from + ": " + removed + " -> " + added + "]";
+      }
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.core.impl.ListChangeStreams;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Constructs streams with changes of lists presented by {@link ListChange} objects.
+ */
+public interface ListChanges {
+
+  /**
+   * Constructs an {@link EventStream}, with values of type <code>ListChange&lt;E&gt;</code>, from a given
+   * {@link ObservableList}. The returned stream will emit every change of the list as a {@link ListChange},
+   * containing only the elements involved in the change.
+   *
+   * @param <E> the type of elements in the list
+   * @param list an {@link ObservableList} used as source for the stream, cannot be null
+   * @return a {@link EventStream} which uses the given {@link ObservableList} as source, never null
+   */
+  static <E> EventStream<ListChange<E>> of(ObservableList<E> list) {
+    return ListChangeStreams.event(list);
+  }
+}
@@ -0,0 +1,142 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.impl.ListChangeStreams;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Constructs and transforms {@link ValueStream}s of {@link ListChange}s. The first
+ * value such a stream emits to a subscriber adds all elements of the list to an
+ * empty list, after which only changes are emitted. Applying all values in order
+ * to an empty list (see {@link ListChange#applyTo(java.util.List)}) therefore
+ * reproduces the list.<p>
+ *
+ * The operations offered here process only the elements involved in a change,
+ * instead of the whole list. This includes the aggregates, which are {@link ValueStream}s
+ * of a single value that can be converted to a binding with {@link ValueStream#toBinding()}.
+ */
+public interface ListStreams {
+
+  /**
+   * Constructs a {@link ValueStream}, with values of type <code>ListChange&lt;E&gt;</code>, from a given
+   * {@link ObservableList}. The returned stream will emit the current contents of the list immediately
+   * for every subscriber and then every change of the list.
+   *
+   * @param <E> the type of elements in the list
+   * @param list an {@link ObservableList} used as source for the stream, cannot be null
+   * @return a {@link ValueStream} which uses the given {@link ObservableList} as source, never null
+   */
+  static <E> ValueStream<ListChange<E>> of(ObservableList<E> list) {
+    return ListChangeStreams.value(list);
+  }
+
+  /**
+   * Returns a {@link ValueStream} which emits the changes of the given stream with
+   * all elements converted by the given mapper function. The mapper is only called
+   * for elements which are added or updated; removed elements are the results of
+   * earlier calls.
+   *
+   * @param <E> the type of elements in the source list
+   * @param <R> the type of elements in the mapped list
+   * @param source a {@link ValueStream} of {@link ListChange}s, cannot be null
+   * @param mapper a {@link Function} which converts an element of the source list, cannot be null
+   * @return a {@link ValueStream} which emits the changes of the mapped list, never null
+   */
+  static <E, R> ValueStream<ListChange<R>> mapList(ValueStream<ListChange<E>> source, Function<? super E, ? extends R> mapper) {
+    return ListChangeStreams.mapList(source, mapper);
+  }
+
+  /**
+   * Returns a {@link ValueStream} which emits the changes of the given stream restricted
+   * to the elements matching the given predicate. The predicate is only called for
+   * elements which are added or updated, and translating an index of the source list to
+   * the filtered list takes O(log n).
+   *
+   * @param <E> the type of elements in the list
+   * @param source a {@link ValueStream} of {@link ListChange}s, cannot be null
+   * @param predicate a {@link Predicate} which elements must match to be included, cannot be null
+   * @return a {@link ValueStream} which emits the changes of the filtered list, never null
+   */
+  static <E> ValueStream<ListChange<E>> filterList(ValueStream<ListChange<E>> source, Predicate<? super E> predicate) {
+    return ListChangeStreams.filterList(source, predicate);
+  }
+
+  /**
+   * Returns a {@link ValueStream} which emits the number of elements in the list
+   * whenever it changes. Takes O(1) per change.
+   *
+   * @param <E> the type of elements in the list
+   * @param source a {@link ValueStream} of {@link ListChange}s, cannot be null
+   * @return a {@link ValueStream} which emits the size of the list, never null
+   */
+  static <E> ValueStream<Integer> count(ValueStream<ListChange<E>> source) {
+    return ListChangeStreams.count(source);
+  }
+
+  /**
+   * Returns a {@link ValueStream} which emits the sum of a value extracted from each
+   * element of the list whenever it changes. The extractor is only called for added
+   * or updated elements, and the sum takes O(1) per changed element.
+   *
+   * @param <E> the type of elements in the list
+   * @param source a {@link ValueStream} of {@link ListChange}s, cannot be null
+   * @param valueExtractor a {@link ToLongFunction} which extracts the value to sum, cannot be null
+   * @return a {@link ValueStream} which emits the sum, never null
+   */
+  static <E> ValueStream<Long> sumLong(ValueStream<ListChange<E>> source, ToLongFunction<? super E> valueExtractor) {
+    return ListChangeStreams.sumLong(source, valueExtractor);
+  }
+
+  /**
+   * Returns a {@link ValueStream} which emits the sum of a value extracted from each
+   * element of the list whenever it changes. The extractor is only called for added
+   * or updated elements, and the sum takes O(1) per changed element. Compensated
+   * summation is used to keep rounding errors from accumulating.
+   *
+   * @param <E> the type of elements in the list
+   * @param source a {@link ValueStream} of {@link ListChange}s, cannot be null
+   * @param valueExtractor a {@link ToDoubleFunction} which extracts the value to sum, cannot be null
+   * @return a {@link ValueStream} which emits the sum, never null
+   */
+  static <E> ValueStream<Double> sumDouble(ValueStream<ListChange<E>> source, ToDoubleFunction<? super E> valueExtractor) {
+    return ListChangeStreams.sumDouble(source, valueExtractor);
+  }
+
+  /**
+   * Returns a {@link ValueStream} which emits the smallest key extracted from the
+   * elements of the list whenever it changes, or <code>null</code> when there are no
+   * keys. Elements with a <code>null</code> key are ignored. Takes O(log n) per
+   * changed element.
+   *
+   * @param <E> the type of elements in the list
+   * @param <K> the type of the keys
+   * @param source a {@link ValueStream} of {@link ListChange}s, cannot be null
+   * @param keyExtractor a {@link Function} which extracts the key of an element, cannot be null
+   * @return a {@link ValueStream} which emits the smallest key, never null
+   */
+  static <E, K extends Comparable<? super K>> ValueStream<K> min(ValueStream<ListChange<E>> source, Function<? super E, ? extends K> keyExtractor) {
+    return ListChangeStreams.min(source, keyExtractor);
+  }
+
+  /**
+   * Returns a {@link ValueStream} which emits the largest key extracted from the
+   * elements of the list whenever it changes, or <code>null</code> when there are no
+   * keys. Elements with a <code>null</code> key are ignored. Takes O(log n) per
+   * changed element.
+   *
+   * @param <E> the type of elements in the list
+   * @param <K> the type of the keys
+   * @param source a {@link ValueStream} of {@link ListChange}s, cannot be null
+   * @param keyExtractor a {@link Function} which extracts the key of an element, cannot be null
+   * @return a {@link ValueStream} which emits the largest key, never null
+   */
+  static <E, K extends Comparable<? super K>> ValueStream<K> max(ValueStream<ListChange<E>> source, Function<? super E, ? extends K> keyExtractor) {
+    return ListChangeStreams.max(source, keyExtractor);
+  }
+}
@@ -0,0 +1,118 @@
+package hs.jfx.eventstream.core;
+
+import java.util.Objects;
+
+import javafx.collections.MapChangeListener;
+
+/**
+ * Represents a change of a single key of a map. A key was either added, removed
+ * or had its value replaced, in which case it was both removed and added.<p>
+ *
+ * Unlike a {@link MapChangeListener.Change}, instances of this class are immutable
+ * and remain valid after they were delivered.
+ *
+ * @param <K> type of the keys of the map
+ * @param <V> type of the values of the map
+ */
+public final class MapChange<K, V> {
+  private final K key;
+  private final V oldValue;
+  private final V newValue;
+  private final boolean added;
+  private final boolean removed;
+
+  /**
+   * Constructs a new instance from the given {@link MapChangeListener.Change}.
+   *
+   * @param <K> type of the keys of the map
+   * @param <V> type of the values of the map
+   * @param change a {@link MapChangeListener.Change}, cannot be null
+   * @return a new {@link MapChange} instance, never null
+   */
+  public static <K, V> MapChange<K, V> of(MapChangeListener.Change<? extends K, ? extends V> change) {
+    return new MapChange<>(change.getKey(), change.getValueRemoved(), change.getValueAdded(), change.wasAdded(), change.wasRemoved());
+  }
+
+  private MapChange(K key, V oldValue, V newValue, boolean added, boolean removed) {
+    this.key = key;
+    this.oldValue = oldValue;
+    this.newValue = newValue;
+    this.added = added;
+    this.removed = removed;
+  }
+
+  /**
+   * Returns the key which changed.
+   *
+   * @return the key which changed, can be null
+   */
+  public K getKey() {
+    return key;
+  }
+
+  /**
+   * Returns the value the key was associated with before the change, or
+   * <code>null</code> if the key was not removed.
+   *
+   * @return the value the key was associated with before the change, can be null
+   */
+  public V getOldValue() {
+    return oldValue;
+  }
+
+  /**
+   * Returns the value the key is associated with after the change, or
+   * <code>null</code> if the key was not added.
+   *
+   * @return the value the key is associated with after the change, can be null
+   */
+  public V getNewValue() {
+    return newValue;
+  }
+
+  /**
+   * Returns whether the key was added, or when also removed, whether its value was replaced.
+   *
+   * @return <code>true</code> if the key was added, otherwise <code>false</code>
+   */
+  public boolean wasAdded() {
+    return added;
+  }
+
+  /**
+   * Returns whether the key was removed, or when also added, whether its value was replaced.
+   *
+   * @return <code>true</code> if the key was removed, otherwise <code>false</code>
+   */
+  public boolean wasRemoved() {
+    return removed;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(key, oldValue, newValue, added, removed);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj) {
+      return true;
+    }
+    if(obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    MapChange<?, ?> other = (MapChange<?, ?>)obj;
+
+    return added == other.added
+      && removed == other.removed
+      && Objects.equals(key, other.key)
+      && Objects.equals(oldValue, other.oldValue)
+      && Objects.equals(newValue, other.newValue);
+  }
+
+  @Override
+  public String toString() {
+    return "MapChange[" + key + ": " + (removed ? oldValue : "<absent>") + " -> " + (added ? newValue : "<absent>") + "]";
+  }
+}
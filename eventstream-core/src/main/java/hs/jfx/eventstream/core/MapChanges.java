@@ -0,0 +1,46 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.impl.MapChangeStreams;
+
+import javafx.collections.ObservableMap;
+
+/**
+ * Constructs streams with changes of maps.
+ */
+public interface MapChanges {
+
+  /**
+   * Constructs an {@link EventStream}, with values of type <code>MapChange&lt;K, V&gt;</code>, from a given
+   * {@link ObservableMap}. The returned stream will emit every change of the map as a {@link MapChange}.
+   *
+   * @param <K> the type of keys in the map
+   * @param <V> the type of values in the map
+   * @param map an {@link ObservableMap} used as source for the stream, cannot be null
+   * @return a {@link EventStream} which uses the given {@link ObservableMap} as source, never null
+   */
+  static <K, V> EventStream<MapChange<K, V>> of(ObservableMap<K, V> map) {
+    return MapChangeStreams.event(map);
+  }
+
+  /**
+   * Constructs a {@link ValueStream} of the value associated with the given key in the given
+   * {@link ObservableMap}, or <code>null</code> when the key is absent. The returned stream will
+   * emit the current value immediately for every subscriber and then the value whenever the
+   * key changes.<p>
+   *
+   * All streams of keys of the same map share a single listener which only notifies the
+   * subscribers of the key which changed, so a change takes constant time regardless of the
+   * number of keys observed.
+   *
+   * @param <K> the type of keys in the map
+   * @param <V> the type of values in the map
+   * @param map an {@link ObservableMap} used as source for the stream, cannot be null
+   * @param key a key to observe, can be null
+   * @return a {@link ValueStream} with the value of the given key, never null
+   */
+  static <K, V> ValueStream<V> ofKey(ObservableMap<K, V> map, K key) {
+    return MapChangeStreams.ofKey(map, key);
+  }
+}
@@ -0,0 +1,85 @@
+package hs.jfx.eventstream.core;
+
+import java.util.Objects;
+
+import javafx.collections.SetChangeListener;
+
+/**
+ * Represents the addition or removal of a single element of a set.<p>
+ *
+ * Unlike a {@link SetChangeListener.Change}, instances of this class are immutable
+ * and remain valid after they were delivered.
+ *
+ * @param <E> type of the elements of the set
+ */
+public final class SetChange<E> {
+  private final E element;
+  private final boolean added;
+
+  /**
+   * Constructs a new instance from the given {@link SetChangeListener.Change}.
+   *
+   * @param <E> type of the elements of the set
+   * @param change a {@link SetChangeListener.Change}, cannot be null
+   * @return a new {@link SetChange} instance, never null
+   */
+  public static <E> SetChange<E> of(SetChangeListener.Change<? extends E> change) {
+    return change.wasAdded() ? new SetChange<>(change.getElementAdded(), true) : new SetChange<>(change.getElementRemoved(), false);
+  }
+
+  private SetChange(E element, boolean added) {
+    this.element = element;
+    this.added = added;
+  }
+
+  /**
+   * Returns the element which was added or removed.
+   *
+   * @return the element which was added or removed, can be null
+   */
+  public E getElement() {
+    return element;
+  }
+
+  /**
+   * Returns whether the element was added.
+   *
+   * @return <code>true</code> if the element was added, otherwise <code>false</code>
+   */
+  public boolean wasAdded() {
+    return added;
+  }
+
+  /**
+   * Returns whether the element was removed.
+   *
+   * @return <code>true</code> if the element was removed, otherwise <code>false</code>
+   */
+  public boolean wasRemoved() {
+    return !added;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(element, added);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj) {
+      return true;
+    }
+    if(obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    SetChange<?> other = (SetChange<?>)obj;
+
+    return added == other.added && Objects.equals(element, other.element);
+  }
+
+  @Override
+  public String toString() {
+    return "SetChange[" + (added ? "+" : "-") + element + "]";
+  }
+}
@@ -0,0 +1,43 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.impl.SetChangeStreams;
+
+import javafx.collections.ObservableSet;
+
+/**
+ * Constructs streams with changes of sets.
+ */
+public interface SetChanges {
+
+  /**
+   * Constructs an {@link EventStream}, with values of type <code>SetChange&lt;E&gt;</code>, from a given
+   * {@link ObservableSet}. The returned stream will emit every change of the set as a {@link SetChange}.
+   *
+   * @param <E> the type of elements in the set
+   * @param set an {@link ObservableSet} used as source for the stream, cannot be null
+   * @return a {@link EventStream} which uses the given {@link ObservableSet} as source, never null
+   */
+  static <E> EventStream<SetChange<E>> of(ObservableSet<E> set) {
+    return SetChangeStreams.event(set);
+  }
+
+  /**
+   * Constructs a {@link ValueStream} which indicates whether the given element is part of the
+   * given {@link ObservableSet}. The returned stream will emit whether the element is currently
+   * present immediately for every subscriber and then whenever the element is added or removed.<p>
+   *
+   * All such streams of the same set share a single listener which only notifies the
+   * subscribers of the element which changed, so a change takes constant time regardless of
+   * the number of elements observed.
+   *
+   * @param <E> the type of elements in the set
+   * @param set an {@link ObservableSet} used as source for the stream, cannot be null
+   * @param element an element to observe, can be null
+   * @return a {@link ValueStream} indicating whether the set contains the given element, never null
+   */
+  static <E> ValueStream<Boolean> contains(ObservableSet<E> set, E element) {
+    return SetChangeStreams.contains(set, element);
+  }
+}
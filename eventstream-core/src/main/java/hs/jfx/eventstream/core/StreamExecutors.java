@@ -0,0 +1,22 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.core.impl.ExecutorStreams;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Provides {@link Executor}s for use with operations which deliver values on
+ * a different thread, like {@link EventStream#observeOn(Executor)}.
+ */
+public interface StreamExecutors {
+
+  /**
+   * Returns an {@link Executor} which runs tasks on the JavaFX Application Thread.
+   *
+   * @return an {@link Executor} which runs tasks on the JavaFX Application Thread, never null
+   */
+  static Executor fx() {
+    return ExecutorStreams.FX;
+  }
+}
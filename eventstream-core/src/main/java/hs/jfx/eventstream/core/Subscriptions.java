@@ -0,0 +1,69 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.impl.ScopedSubscription;
+import hs.jfx.eventstream.core.impl.WeakSubscriptions;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+
+/**
+ * Provides subscriptions which end without an explicit call to {@link Subscription#unsubscribe()}.
+ */
+public interface Subscriptions {
+
+  /**
+   * Subscribes to the given stream on behalf of an owner, which is only weakly
+   * referenced. The owner is supplied to the subscriber with every value, so the
+   * subscriber does not need to reference it. Once the owner is garbage collected
+   * the subscription is removed.<p>
+   *
+   * Note that the subscriber must not reference the owner itself, otherwise the
+   * owner will never be garbage collected.
+   *
+   * @param <O> the type of the owner
+   * @param <T> the type of values emitted by the stream
+   * @param stream an {@link ObservableStream}, cannot be null
+   * @param owner an owner, cannot be null
+   * @param subscriber a {@link BiConsumer} receiving the owner and each value, cannot be null
+   * @return a {@link Subscription} to stop observing the stream earlier, never null
+   */
+  static <O, T> Subscription subscribeWeak(ObservableStream<T> stream, O owner, BiConsumer<? super O, ? super T> subscriber) {
+    return WeakSubscriptions.subscribe(stream, owner, subscriber);
+  }
+
+  /**
+   * Subscribes to the given stream only while the given condition is {@code true}.
+   * When the condition becomes {@code false} the stream is no longer observed, and
+   * when it becomes {@code true} again it is observed again.
+   *
+   * @param <T> the type of values emitted by the stream
+   * @param stream an {@link ObservableStream}, cannot be null
+   * @param condition an {@link ObservableValue} containing the condition, cannot be null
+   * @param subscriber a {@link Consumer} receiving each value, cannot be null
+   * @return a {@link Subscription} to stop observing the stream and condition, never null
+   */
+  static <T> Subscription subscribeWhile(ObservableStream<T> stream, ObservableValue<Boolean> condition, Consumer<? super T> subscriber) {
+    return new ScopedSubscription<>(stream, condition, Boolean.TRUE::equals, subscriber);
+  }
+
+  /**
+   * Subscribes to the given stream only while the given {@link Node} is part of
+   * a scene. When the node is removed from its scene the stream is no longer
+   * observed, and when it is added to a scene again it is observed again.
+   *
+   * @param <T> the type of values emitted by the stream
+   * @param stream an {@link ObservableStream}, cannot be null
+   * @param node a {@link Node}, cannot be null
+   * @param subscriber a {@link Consumer} receiving each value, cannot be null
+   * @return a {@link Subscription} to stop observing the stream and node, never null
+   */
+  static <T> Subscription subscribeWhileInScene(ObservableStream<T> stream, Node node, Consumer<? super T> subscriber) {
+    return new ScopedSubscription<>(stream, Objects.requireNonNull(node, "node cannot be null").sceneProperty(), Objects::nonNull, subscriber);
+  }
+}
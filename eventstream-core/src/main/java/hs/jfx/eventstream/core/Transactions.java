@@ -0,0 +1,84 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.core.impl.TransactionScope;
+
+/**
+ * Groups changes into transactions. Transactional streams (see for example
+ * {@link EventStream#transactional(TransactionPolicy)}) defer the values they
+ * receive while a transaction is in progress until the transaction ends, so
+ * streams depending on many values changed in a transaction emit only once.<p>
+ *
+ * Transactions are scoped to the current thread and can be nested. Only when
+ * the outermost transaction ends are the deferred values emitted, in the order
+ * the streams first received a value during the transaction.
+ */
+public interface Transactions {
+
+  /**
+   * Runs the given action in a transaction.
+   *
+   * @param action a {@link Runnable} to run in a transaction, cannot be null
+   */
+  static void run(Runnable action) {
+    if(action == null) {
+      throw new NullPointerException("action cannot be null");
+    }
+
+    Transaction transaction = begin();
+
+    try {
+      action.run();
+    }
+    finally {
+      transaction.close();
+    }
+  }
+
+  /**
+   * Begins a transaction on the current thread, which must be ended by closing
+   * the returned {@link Transaction}. This is best done with a try-with-resources
+   * statement.
+   *
+   * @return a {@link Transaction} which ends the transaction when closed, never null
+   */
+  static Transaction begin() {
+    TransactionScope scope = TransactionScope.current();
+
+    scope.begin();
+
+    return new Transaction() {
+      private boolean closed;
+
+      @Override
+      public void close() {
+        if(!closed) {
+          closed = true;
+          scope.end();
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns whether a transaction is in progress on the current thread.
+   *
+   * @return {@code true} if a transaction is in progress on the current thread, otherwise {@code false}
+   */
+  static boolean isInProgress() {
+    return TransactionScope.current().isActive();
+  }
+
+  /**
+   * A transaction in progress, which ends when closed.
+   */
+  interface Transaction extends AutoCloseable {
+
+    /**
+     * Ends this transaction. Calling this more than once has no effect.
+     */
+    @Override
+    void close();
+  }
+}
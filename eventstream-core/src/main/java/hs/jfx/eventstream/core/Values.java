@@ -1,9 +1,15 @@
 package hs.jfx.eventstream.core;
 
+import hs.jfx.eventstream.api.DoubleValueStream;
+import hs.jfx.eventstream.api.IntValueStream;
+import hs.jfx.eventstream.api.LongValueStream;
 import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.impl.DoubleStreams;
+import hs.jfx.eventstream.core.impl.IntStreams;
+import hs.jfx.eventstream.core.impl.LongStreams;
 import hs.jfx.eventstream.core.impl.RootValueStream;
+import hs.jfx.eventstream.core.impl.SharedRoots;
 
-import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableFloatValue;
 import javafx.beans.value.ObservableIntegerValue;
@@ -77,6 +83,45 @@ public interface Values {
     return withCast(observable, Double.class);
   }
 
+  /**
+   * Constructs an {@link IntValueStream} from a given {@link ObservableIntegerValue}.
+   * The returned stream will emit the current value of the observable immediately
+   * for every subscriber and then on every change, as a primitive <code>int</code>
+   * without boxing it.
+   *
+   * @param observable an {@link ObservableIntegerValue} used as source for the stream, cannot be null
+   * @return an {@link IntValueStream} which uses the given {@link ObservableIntegerValue} as source, never null
+   */
+  static IntValueStream ofInt(ObservableIntegerValue observable) {
+    return IntStreams.value(observable);
+  }
+
+  /**
+   * Constructs a {@link LongValueStream} from a given {@link ObservableLongValue}.
+   * The returned stream will emit the current value of the observable immediately
+   * for every subscriber and then on every change, as a primitive <code>long</code>
+   * without boxing it.
+   *
+   * @param observable an {@link ObservableLongValue} used as source for the stream, cannot be null
+   * @return a {@link LongValueStream} which uses the given {@link ObservableLongValue} as source, never null
+   */
+  static LongValueStream ofLong(ObservableLongValue observable) {
+    return LongStreams.value(observable);
+  }
+
+  /**
+   * Constructs a {@link DoubleValueStream} from a given {@link ObservableDoubleValue}.
+   * The returned stream will emit the current value of the observable immediately
+   * for every subscriber and then on every change, as a primitive <code>double</code>
+   * without boxing it.
+   *
+   * @param observable an {@link ObservableDoubleValue} used as source for the stream, cannot be null
+   * @return a {@link DoubleValueStream} which uses the given {@link ObservableDoubleValue} as source, never null
+   */
+  static DoubleValueStream ofDouble(ObservableDoubleValue observable) {
+    return DoubleStreams.value(observable);
+  }
+
   /**
    * Constructs a {@link ValueStream}, with values of type <code>T</code>,
    * which emits the given value exactly once upon each subscription.
@@ -91,13 +136,7 @@ public interface Values {
 
   private static <S, T> ValueStream<T> withCast(ObservableValue<S> observable, Class<T> cls) {
     return RootValueStream.of(
-      emitter -> {
-        ChangeListener<S> listener = (obs, old, current) -> emitter.emit(cls.cast(current));
-
-        observable.addListener(listener);
-
-        return () -> observable.removeListener(listener);
-      },
+      emitter -> SharedRoots.addListener(observable, (obs, old, current) -> emitter.emit(cls.cast(current))),
       () -> cls.cast(observable.getValue())
     );
   }
@@ -0,0 +1,95 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.Scheduler;
+import hs.jfx.eventstream.api.Subscription;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link Scheduler} driven by a virtual clock, which only advances when
+ * {@link #advance(Duration)} is called. This allows time based streams to
+ * be tested deterministically without waiting.<p>
+ *
+ * Actions are run on the thread calling {@link #advance(Duration)}, in the
+ * order of their scheduled time, and for equal times in the order they were
+ * scheduled.
+ */
+public class VirtualScheduler implements Scheduler {
+  private final PriorityQueue<Action> actions = new PriorityQueue<>(
+    Comparator.comparingLong((Action a) -> a.time).thenComparingLong(a -> a.sequence)
+  );
+
+  private long now;
+  private long sequence;
+
+  @Override
+  public Subscription schedule(Duration delay, Runnable runnable) {
+    if(Objects.requireNonNull(delay).isNegative()) {
+      throw new IllegalArgumentException("delay cannot be negative: " + delay);
+    }
+
+    Action action = new Action(now + delay.toNanos(), sequence++, Objects.requireNonNull(runnable));
+
+    actions.add(action);
+
+    return () -> actions.remove(action);
+  }
+
+  /**
+   * Advances the virtual clock by the given duration, running all actions
+   * scheduled up to and including the new time. Actions scheduled by these
+   * actions are run as well if they fall within the new time.
+   *
+   * @param duration a {@link Duration} to advance the clock by, cannot be null or negative
+   */
+  public void advance(Duration duration) {
+    if(Objects.requireNonNull(duration).isNegative()) {
+      throw new IllegalArgumentException("duration cannot be negative: " + duration);
+    }
+
+    long target = now + duration.toNanos();
+
+    while(!actions.isEmpty() && actions.peek().time <= target) {
+      Action action = actions.poll();
+
+      now = action.time;
+      action.runnable.run();
+    }
+
+    now = target;
+  }
+
+  /**
+   * Returns the time elapsed on the virtual clock since this scheduler was
+   * created.
+   *
+   * @return the time elapsed on the virtual clock, never null
+   */
+  public Duration getElapsedTime() {
+    return Duration.ofNanos(now);
+  }
+
+  /**
+   * Returns the number of actions which are scheduled but did not run yet.
+   *
+   * @return the number of actions which are scheduled but did not run yet
+   */
+  public int getPendingActionCount() {
+    return actions.size();
+  }
+
+  private static class Action {
+    final long time;
+    final long sequence;
+    final Runnable runnable;
+
+    Action(long time, long sequence, Runnable runnable) {
+      this.time = time;
+      this.sequence = sequence;
+      this.runnable = runnable;
+    }
+  }
+}
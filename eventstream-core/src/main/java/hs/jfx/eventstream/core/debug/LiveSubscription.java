@@ -0,0 +1,67 @@
+package hs.jfx.eventstream.core.debug;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes a subscription to a stream which is still active.
+ */
+public final class LiveSubscription {
+  private final String stream;
+  private final Duration age;
+  private final StackTraceElement[] stackTrace;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param stream a description of the stream subscribed to, cannot be null
+   * @param age the time since the subscription was made, cannot be null
+   * @param stackTrace the stack trace of where the subscription was made, or null if not sampled
+   */
+  public LiveSubscription(String stream, Duration age, StackTraceElement[] stackTrace) {
+    this.stream = Objects.requireNonNull(stream);
+    this.age = Objects.requireNonNull(age);
+    this.stackTrace = stackTrace == null ? null : stackTrace.clone();
+  }
+
+  /**
+   * Returns a description of the stream subscribed to. This includes the name given
+   * when the stream was instrumented, if any.
+   *
+   * @return a description of the stream subscribed to, never null
+   */
+  public String getStream() {
+    return stream;
+  }
+
+  /**
+   * Returns the time since the subscription was made.
+   *
+   * @return the time since the subscription was made, never null
+   */
+  public Duration getAge() {
+    return age;
+  }
+
+  /**
+   * Returns the stack trace of where the subscription was made, if it was sampled.
+   *
+   * @return the stack trace of where the subscription was made, or null if not sampled
+   */
+  public StackTraceElement[] getStackTrace() {
+    return stackTrace == null ? null : stackTrace.clone();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("Subscription to " + stream + ", age " + age);
+
+    if(stackTrace != null) {
+      for(StackTraceElement element : stackTrace) {
+        builder.append("\n\tat ").append(element);
+      }
+    }
+
+    return builder.toString();
+  }
+}
@@ -0,0 +1,72 @@
+package hs.jfx.eventstream.core.debug;
+
+import hs.jfx.eventstream.core.impl.SubscriptionTracker;
+import hs.jfx.eventstream.core.metrics.StreamMetrics;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tracks active subscriptions to help find streams which are unintentionally
+ * kept alive. Tracking is disabled by default, and only observers added while
+ * it is enabled are tracked.<p>
+ *
+ * Tracking records which streams observe each other, forming a graph from the
+ * streams observing a source (the roots) down to the subscriptions made by users.
+ * Subscriptions which remain active much longer than expected are likely leaked;
+ * to find out where they were made, a stack trace can be recorded for a sample of
+ * the subscriptions.<p>
+ *
+ * Subscriptions made by operators while emitting values, for example when a
+ * flat mapped stream switches to a different stream, are indistinguishable
+ * from subscriptions made by users. Streams are described by their type and
+ * by the name they were given with {@link StreamMetrics#instrument}, if any.
+ */
+public interface StreamDebugger {
+
+  /**
+   * Enables tracking of subscriptions.
+   *
+   * @param stackSampleInterval record a stack trace for every n-th subscription, or 0 to not record stack traces, cannot be negative
+   */
+  static void enable(int stackSampleInterval) {
+    SubscriptionTracker.enable(stackSampleInterval);
+  }
+
+  /**
+   * Disables tracking of subscriptions and discards everything tracked so far.
+   */
+  static void disable() {
+    SubscriptionTracker.disable();
+  }
+
+  /**
+   * Returns the subscriptions made by users which have been active longer than
+   * the given duration, oldest first.
+   *
+   * @param age a minimum age, cannot be null
+   * @return a list of {@link LiveSubscription}s, never null
+   */
+  static List<LiveSubscription> findSubscriptionsOlderThan(Duration age) {
+    return SubscriptionTracker.findSubscriptionsOlderThan(age);
+  }
+
+  /**
+   * Returns a textual representation of the graph of tracked streams, with each
+   * stream followed by the streams and subscriptions observing it.
+   *
+   * @return a textual representation of the graph of tracked streams, never null
+   */
+  static String dumpGraph() {
+    return SubscriptionTracker.dumpGraph(false);
+  }
+
+  /**
+   * Returns the graph of tracked streams in the DOT format of Graphviz.
+   *
+   * @return the graph of tracked streams in DOT format, never null
+   */
+  static String dumpGraphAsDot() {
+    return SubscriptionTracker.dumpGraph(true);
+  }
+}
@@ -0,0 +1,109 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.ChangeStream;
+import hs.jfx.eventstream.api.Emitter;
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Operations which map the values of a stream asynchronously.
+ */
+public abstract class AsyncStreams {
+
+  public static <S, T> EventStream<T> event(ObservableStream<S> source, Function<? super S, ? extends CompletionStage<? extends T>> mapper, Executor executor) {
+    return new BaseEventStream<>(subscriber(source, Objects.requireNonNull(mapper), executor, false));
+  }
+
+  public static <S, T> ChangeStream<T> change(ObservableStream<S> source, Function<? super S, ? extends CompletionStage<? extends T>> mapper, Executor executor) {
+    return new BaseChangeStream<>(subscriber(source, nullSafeMapper(Objects.requireNonNull(mapper)), executor, true));
+  }
+
+  private static <S, T> Function<? super S, ? extends CompletionStage<? extends T>> nullSafeMapper(Function<? super S, ? extends CompletionStage<? extends T>> mapper) {
+    return value -> value == null ? CompletableFuture.<T>completedFuture(null) : mapper.apply(value);
+  }
+
+  /*
+   * Only the result of the latest stage is emitted; an earlier stage still in progress
+   * when a new value arrives, or when unsubscribing, is cancelled and its result is
+   * discarded. Stages which fail are reported to the uncaught exception handler of the
+   * thread delivering the result.
+   */
+
+  private static <S, T> Subscriber<T> subscriber(ObservableStream<S> source, Function<? super S, ? extends CompletionStage<? extends T>> mapper, Executor executor, boolean emitNull) {
+    Objects.requireNonNull(executor);
+
+    return emitter -> new LatestSubscription<>(source, mapper, executor, emitter, emitNull);
+  }
+
+  private static class LatestSubscription<S, T> implements Subscription {
+    private final AtomicReference<CompletionStage<? extends T>> current = new AtomicReference<>();
+    private final Function<? super S, ? extends CompletionStage<? extends T>> mapper;
+    private final Executor executor;
+    private final Emitter<T> emitter;
+    private final boolean emitNull;
+    private final Subscription subscription;
+
+    LatestSubscription(ObservableStream<S> source, Function<? super S, ? extends CompletionStage<? extends T>> mapper, Executor executor, Emitter<T> emitter, boolean emitNull) {
+      this.mapper = mapper;
+      this.executor = executor;
+      this.emitter = emitter;
+      this.emitNull = emitNull;
+      this.subscription = source.subscribe(this::accept);  // must be last, value streams emit immediately
+    }
+
+    private void accept(S value) {
+      CompletionStage<? extends T> stage = Objects.requireNonNull(mapper.apply(value), "mapper returned null");
+
+      cancel(current.getAndSet(stage));
+
+      stage.whenComplete((result, throwable) -> executor.execute(() -> complete(stage, result, throwable)));
+    }
+
+    private void complete(CompletionStage<? extends T> stage, T result, Throwable throwable) {
+      if(!current.compareAndSet(stage, null)) {
+        return;  // superseded by a newer stage, or unsubscribed
+      }
+
+      Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+
+      if(cause == null) {
+        if(result != null || emitNull) {
+          emitter.emit(result);
+        }
+      }
+      else if(!(cause instanceof CancellationException)) {
+        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), cause);
+      }
+    }
+
+    @Override
+    public void unsubscribe() {
+      subscription.unsubscribe();
+      cancel(current.getAndSet(null));
+    }
+
+    private static void cancel(CompletionStage<?> stage) {
+      if(stage == null) {
+        return;
+      }
+
+      try {
+        stage.toCompletableFuture().cancel(true);
+      }
+      catch(UnsupportedOperationException e) {
+        // stage cannot be cancelled, its result will be discarded when it completes
+      }
+    }
+  }
+}
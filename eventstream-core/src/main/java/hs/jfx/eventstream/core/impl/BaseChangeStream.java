@@ -2,9 +2,15 @@ package hs.jfx.eventstream.core.impl;
 
 import hs.jfx.eventstream.api.ChangeStream;
 import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.Scheduler;
 import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.TransactionPolicy;
 import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.util.LruCache;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -29,6 +35,11 @@ public class BaseChangeStream<S, T> extends BaseObservableStream<T> implements C
     return FilterStreams.change(this, predicate);
   }
 
+  @Override
+  public ChangeStream<T> distinct(BiPredicate<? super T, ? super T> equality) {
+    return DistinctStreams.change(this, equality);
+  }
+
   @Override
   public EventStream<T> filterNull() {
     return FilterNullStreams.event(this);
@@ -44,6 +55,11 @@ public class BaseChangeStream<S, T> extends BaseObservableStream<T> implements C
     return MapStreams.change(this, mapper, () -> null);
   }
 
+  @Override
+  public <U> ChangeStream<U> mapCached(Function<? super T, ? extends U> mapper, int maxSize) {
+    return MapStreams.change(this, LruCache.memoize(mapper, maxSize), () -> null);
+  }
+
   @Override
   public <U> ChangeStream<U> flatMap(Function<? super T, ? extends ChangeStream<? extends U>> mapper) {
     return FlatMapStreams.change(this, mapper, () -> null);
@@ -64,4 +80,54 @@ public class BaseChangeStream<S, T> extends BaseObservableStream<T> implements C
     return RootValueStream.of(condition)
       .flatMapToChange(c -> c ? this : null);  // no need to deal with c being null
   }
+
+  @Override
+  public ChangeStream<T> debounce(Duration duration) {
+    return debounce(duration, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public ChangeStream<T> debounce(Duration duration, Scheduler scheduler) {
+    return new BaseChangeStream<>(ScheduledStreams.debounce(this, duration, scheduler));
+  }
+
+  @Override
+  public ChangeStream<T> throttleFirst(Duration duration) {
+    return throttleFirst(duration, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public ChangeStream<T> throttleFirst(Duration duration, Scheduler scheduler) {
+    return new BaseChangeStream<>(ScheduledStreams.throttleFirst(this, duration, scheduler));
+  }
+
+  @Override
+  public ChangeStream<T> throttleLast(Duration duration) {
+    return throttleLast(duration, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public ChangeStream<T> throttleLast(Duration duration, Scheduler scheduler) {
+    return new BaseChangeStream<>(ScheduledStreams.throttleLast(this, duration, scheduler));
+  }
+
+  @Override
+  public ChangeStream<T> sample(Duration interval) {
+    return sample(interval, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public ChangeStream<T> sample(Duration interval, Scheduler scheduler) {
+    return new BaseChangeStream<>(ScheduledStreams.sample(this, interval, scheduler));
+  }
+
+  @Override
+  public ChangeStream<T> transactional(TransactionPolicy policy) {
+    return TransactionalStreams.change(this, policy);
+  }
+
+  @Override
+  public ChangeStream<T> observeOn(Executor executor) {
+    return new BaseChangeStream<>(ExecutorStreams.observeOn(this, executor));
+  }
 }
@@ -0,0 +1,48 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.DoubleEventStream;
+import hs.jfx.eventstream.api.DoubleSubscriber;
+import hs.jfx.eventstream.api.DoubleValueStream;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+public class BaseDoubleEventStream extends BaseDoubleObservableStream implements DoubleEventStream {
+
+  public BaseDoubleEventStream(DoubleSubscriber subscriber) {
+    super(subscriber);
+  }
+
+  @Override
+  public DoubleEventStream filter(DoublePredicate predicate) {
+    return DoubleStreams.filter(this, predicate);
+  }
+
+  @Override
+  public DoubleEventStream peek(DoubleConsumer sideEffect) {
+    return DoubleStreams.peekEvent(this, sideEffect);
+  }
+
+  @Override
+  public DoubleEventStream map(DoubleUnaryOperator mapper) {
+    return DoubleStreams.mapEvent(this, mapper);
+  }
+
+  @Override
+  public <U> EventStream<U> mapToObj(DoubleFunction<? extends U> mapper) {
+    return DoubleStreams.mapToObjEvent(this, mapper);
+  }
+
+  @Override
+  public EventStream<Double> boxed() {
+    return DoubleStreams.mapToObjEvent(this, v -> v);
+  }
+
+  @Override
+  public DoubleValueStream withDefault(double value) {
+    return DoubleStreams.withDefault(this, value);
+  }
+}
@@ -0,0 +1,67 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.DoubleObservableStream;
+import hs.jfx.eventstream.api.DoubleSubscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.ListHelper;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Base class for observable streams of primitive {@code double} values.
+ *
+ * @see BaseObservableStream
+ */
+public abstract class BaseDoubleObservableStream implements DoubleObservableStream {
+  private final DoubleSubscriber subscriber;
+
+  private ListHelper<DoubleConsumer> observers;
+  private Subscription inputSubscription;
+
+  public BaseDoubleObservableStream(DoubleSubscriber subscriber) {
+    this.subscriber = Objects.requireNonNull(subscriber);
+  }
+
+  @Override
+  public final void addObserver(DoubleConsumer observer) {
+    if(observer == null) {
+      throw new NullPointerException("observer cannot be null");
+    }
+
+    if(inputSubscription == null) {
+      inputSubscription = subscriber.subscribe(this::emit);
+    }
+
+    newObserverAdded(observer);
+
+    observers = ListHelper.add(observers, observer);
+  }
+
+  /**
+   * Called when a new observer was added to this stream.
+   *
+   * @param observer a {@link DoubleConsumer} to observe this stream, cannot be null
+   */
+  protected void newObserverAdded(DoubleConsumer observer) {
+  }
+
+  @Override
+  public final void removeObserver(DoubleConsumer observer) {
+    observers = ListHelper.remove(observers, Objects.requireNonNull(observer));
+
+    if(ListHelper.isEmpty(observers) && inputSubscription != null) {  // null check required here as it is possible to unregister another observer when there none
+      inputSubscription.unsubscribe();
+      inputSubscription = null;
+    }
+  }
+
+  /**
+   * Emits the given value to subscribers of this stream without boxing it.
+   *
+   * @param value a value to emit
+   */
+  protected final void emit(double value) {
+    ListHelper.forEachDouble(observers, DoubleConsumer::accept, value);
+  }
+}
@@ -0,0 +1,58 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.DoubleEventStream;
+import hs.jfx.eventstream.api.DoubleSubscriber;
+import hs.jfx.eventstream.api.DoubleValueStream;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+
+public class BaseDoubleValueStream extends BaseDoubleObservableStream implements DoubleValueStream {
+  private final DoubleSupplier initialValueSupplier;
+
+  public BaseDoubleValueStream(DoubleSubscriber subscriber, DoubleSupplier initialValueSupplier) {
+    super(subscriber);
+
+    this.initialValueSupplier = Objects.requireNonNull(initialValueSupplier);
+  }
+
+  @Override
+  protected void newObserverAdded(DoubleConsumer observer) {
+    observer.accept(getInitialValue());
+  }
+
+  @Override
+  public double getInitialValue() {
+    return initialValueSupplier.getAsDouble();
+  }
+
+  @Override
+  public DoubleEventStream filter(DoublePredicate predicate) {
+    return DoubleStreams.filter(this, predicate);
+  }
+
+  @Override
+  public DoubleValueStream peek(DoubleConsumer sideEffect) {
+    return DoubleStreams.peekValue(this, sideEffect);
+  }
+
+  @Override
+  public DoubleValueStream map(DoubleUnaryOperator mapper) {
+    return DoubleStreams.mapValue(this, mapper);
+  }
+
+  @Override
+  public <U> ValueStream<U> mapToObj(DoubleFunction<? extends U> mapper) {
+    return DoubleStreams.mapToObjValue(this, mapper);
+  }
+
+  @Override
+  public ValueStream<Double> boxed() {
+    return DoubleStreams.mapToObjValue(this, v -> v);
+  }
+}
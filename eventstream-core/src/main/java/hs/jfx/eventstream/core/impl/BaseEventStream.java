@@ -1,9 +1,15 @@
 package hs.jfx.eventstream.core.impl;
 
 import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.Scheduler;
 import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.TransactionPolicy;
 import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.util.LruCache;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -38,11 +44,26 @@ public class BaseEventStream<S, T> extends BaseObservableStream<T> implements Ev
     return MapStreams.event(this, mapper);
   }
 
+  @Override
+  public <U> EventStream<U> mapCached(Function<? super T, ? extends U> mapper, int maxSize) {
+    return MapStreams.event(this, LruCache.memoize(mapper, maxSize));
+  }
+
   @Override
   public <U> EventStream<U> flatMap(Function<? super T, ? extends EventStream<? extends U>> mapper) {
     return FlatMapStreams.event(this, mapper);
   }
 
+  @Override
+  public <U> EventStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper) {
+    return mapAsync(mapper, ExecutorStreams.FX);
+  }
+
+  @Override
+  public <U> EventStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper, Executor executor) {
+    return AsyncStreams.event(this, mapper, executor);
+  }
+
   @Override
   public EventStream<T> peek(Consumer<? super T> sideEffect) {
     return PeekStreams.event(this, sideEffect);
@@ -53,4 +74,54 @@ public class BaseEventStream<S, T> extends BaseObservableStream<T> implements Ev
     return RootValueStream.of(condition)
       .flatMapToEvent(c -> c ? this : null);
   }
+
+  @Override
+  public EventStream<T> debounce(Duration duration) {
+    return debounce(duration, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public EventStream<T> debounce(Duration duration, Scheduler scheduler) {
+    return new BaseEventStream<>(ScheduledStreams.debounce(this, duration, scheduler));
+  }
+
+  @Override
+  public EventStream<T> throttleFirst(Duration duration) {
+    return throttleFirst(duration, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public EventStream<T> throttleFirst(Duration duration, Scheduler scheduler) {
+    return new BaseEventStream<>(ScheduledStreams.throttleFirst(this, duration, scheduler));
+  }
+
+  @Override
+  public EventStream<T> throttleLast(Duration duration) {
+    return throttleLast(duration, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public EventStream<T> throttleLast(Duration duration, Scheduler scheduler) {
+    return new BaseEventStream<>(ScheduledStreams.throttleLast(this, duration, scheduler));
+  }
+
+  @Override
+  public EventStream<T> sample(Duration interval) {
+    return sample(interval, FXScheduler.INSTANCE);
+  }
+
+  @Override
+  public EventStream<T> sample(Duration interval, Scheduler scheduler) {
+    return new BaseEventStream<>(ScheduledStreams.sample(this, interval, scheduler));
+  }
+
+  @Override
+  public EventStream<T> transactional(TransactionPolicy policy) {
+    return TransactionalStreams.event(this, policy);
+  }
+
+  @Override
+  public EventStream<T> observeOn(Executor executor) {
+    return new BaseEventStream<>(ExecutorStreams.observeOn(this, executor));
+  }
 }
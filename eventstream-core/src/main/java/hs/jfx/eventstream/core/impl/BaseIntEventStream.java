@@ -0,0 +1,48 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.IntEventStream;
+import hs.jfx.eventstream.api.IntSubscriber;
+import hs.jfx.eventstream.api.IntValueStream;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+public class BaseIntEventStream extends BaseIntObservableStream implements IntEventStream {
+
+  public BaseIntEventStream(IntSubscriber subscriber) {
+    super(subscriber);
+  }
+
+  @Override
+  public IntEventStream filter(IntPredicate predicate) {
+    return IntStreams.filter(this, predicate);
+  }
+
+  @Override
+  public IntEventStream peek(IntConsumer sideEffect) {
+    return IntStreams.peekEvent(this, sideEffect);
+  }
+
+  @Override
+  public IntEventStream map(IntUnaryOperator mapper) {
+    return IntStreams.mapEvent(this, mapper);
+  }
+
+  @Override
+  public <U> EventStream<U> mapToObj(IntFunction<? extends U> mapper) {
+    return IntStreams.mapToObjEvent(this, mapper);
+  }
+
+  @Override
+  public EventStream<Integer> boxed() {
+    return IntStreams.mapToObjEvent(this, v -> v);
+  }
+
+  @Override
+  public IntValueStream withDefault(int value) {
+    return IntStreams.withDefault(this, value);
+  }
+}
@@ -0,0 +1,67 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.IntObservableStream;
+import hs.jfx.eventstream.api.IntSubscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.ListHelper;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Base class for observable streams of primitive {@code int} values.
+ *
+ * @see BaseObservableStream
+ */
+public abstract class BaseIntObservableStream implements IntObservableStream {
+  private final IntSubscriber subscriber;
+
+  private ListHelper<IntConsumer> observers;
+  private Subscription inputSubscription;
+
+  public BaseIntObservableStream(IntSubscriber subscriber) {
+    this.subscriber = Objects.requireNonNull(subscriber);
+  }
+
+  @Override
+  public final void addObserver(IntConsumer observer) {
+    if(observer == null) {
+      throw new NullPointerException("observer cannot be null");
+    }
+
+    if(inputSubscription == null) {
+      inputSubscription = subscriber.subscribe(this::emit);
+    }
+
+    newObserverAdded(observer);
+
+    observers = ListHelper.add(observers, observer);
+  }
+
+  /**
+   * Called when a new observer was added to this stream.
+   *
+   * @param observer an {@link IntConsumer} to observe this stream, cannot be null
+   */
+  protected void newObserverAdded(IntConsumer observer) {
+  }
+
+  @Override
+  public final void removeObserver(IntConsumer observer) {
+    observers = ListHelper.remove(observers, Objects.requireNonNull(observer));
+
+    if(ListHelper.isEmpty(observers) && inputSubscription != null) {  // null check required here as it is possible to unregister another observer when there none
+      inputSubscription.unsubscribe();
+      inputSubscription = null;
+    }
+  }
+
+  /**
+   * Emits the given value to subscribers of this stream without boxing it.
+   *
+   * @param value a value to emit
+   */
+  protected final void emit(int value) {
+    ListHelper.forEachInt(observers, IntConsumer::accept, value);
+  }
+}
@@ -0,0 +1,58 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.IntEventStream;
+import hs.jfx.eventstream.api.IntSubscriber;
+import hs.jfx.eventstream.api.IntValueStream;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+public class BaseIntValueStream extends BaseIntObservableStream implements IntValueStream {
+  private final IntSupplier initialValueSupplier;
+
+  public BaseIntValueStream(IntSubscriber subscriber, IntSupplier initialValueSupplier) {
+    super(subscriber);
+
+    this.initialValueSupplier = Objects.requireNonNull(initialValueSupplier);
+  }
+
+  @Override
+  protected void newObserverAdded(IntConsumer observer) {
+    observer.accept(getInitialValue());
+  }
+
+  @Override
+  public int getInitialValue() {
+    return initialValueSupplier.getAsInt();
+  }
+
+  @Override
+  public IntEventStream filter(IntPredicate predicate) {
+    return IntStreams.filter(this, predicate);
+  }
+
+  @Override
+  public IntValueStream peek(IntConsumer sideEffect) {
+    return IntStreams.peekValue(this, sideEffect);
+  }
+
+  @Override
+  public IntValueStream map(IntUnaryOperator mapper) {
+    return IntStreams.mapValue(this, mapper);
+  }
+
+  @Override
+  public <U> ValueStream<U> mapToObj(IntFunction<? extends U> mapper) {
+    return IntStreams.mapToObjValue(this, mapper);
+  }
+
+  @Override
+  public ValueStream<Integer> boxed() {
+    return IntStreams.mapToObjValue(this, v -> v);
+  }
+}
@@ -0,0 +1,48 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.LongEventStream;
+import hs.jfx.eventstream.api.LongSubscriber;
+import hs.jfx.eventstream.api.LongValueStream;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+public class BaseLongEventStream extends BaseLongObservableStream implements LongEventStream {
+
+  public BaseLongEventStream(LongSubscriber subscriber) {
+    super(subscriber);
+  }
+
+  @Override
+  public LongEventStream filter(LongPredicate predicate) {
+    return LongStreams.filter(this, predicate);
+  }
+
+  @Override
+  public LongEventStream peek(LongConsumer sideEffect) {
+    return LongStreams.peekEvent(this, sideEffect);
+  }
+
+  @Override
+  public LongEventStream map(LongUnaryOperator mapper) {
+    return LongStreams.mapEvent(this, mapper);
+  }
+
+  @Override
+  public <U> EventStream<U> mapToObj(LongFunction<? extends U> mapper) {
+    return LongStreams.mapToObjEvent(this, mapper);
+  }
+
+  @Override
+  public EventStream<Long> boxed() {
+    return LongStreams.mapToObjEvent(this, v -> v);
+  }
+
+  @Override
+  public LongValueStream withDefault(long value) {
+    return LongStreams.withDefault(this, value);
+  }
+}
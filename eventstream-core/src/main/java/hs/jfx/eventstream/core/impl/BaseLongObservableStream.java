@@ -0,0 +1,67 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.LongObservableStream;
+import hs.jfx.eventstream.api.LongSubscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.ListHelper;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * Base class for observable streams of primitive {@code long} values.
+ *
+ * @see BaseObservableStream
+ */
+public abstract class BaseLongObservableStream implements LongObservableStream {
+  private final LongSubscriber subscriber;
+
+  private ListHelper<LongConsumer> observers;
+  private Subscription inputSubscription;
+
+  public BaseLongObservableStream(LongSubscriber subscriber) {
+    this.subscriber = Objects.requireNonNull(subscriber);
+  }
+
+  @Override
+  public final void addObserver(LongConsumer observer) {
+    if(observer == null) {
+      throw new NullPointerException("observer cannot be null");
+    }
+
+    if(inputSubscription == null) {
+      inputSubscription = subscriber.subscribe(this::emit);
+    }
+
+    newObserverAdded(observer);
+
+    observers = ListHelper.add(observers, observer);
+  }
+
+  /**
+   * Called when a new observer was added to this stream.
+   *
+   * @param observer a {@link LongConsumer} to observe this stream, cannot be null
+   */
+  protected void newObserverAdded(LongConsumer observer) {
+  }
+
+  @Override
+  public final void removeObserver(LongConsumer observer) {
+    observers = ListHelper.remove(observers, Objects.requireNonNull(observer));
+
+    if(ListHelper.isEmpty(observers) && inputSubscription != null) {  // null check required here as it is possible to unregister another observer when there none
+      inputSubscription.unsubscribe();
+      inputSubscription = null;
+    }
+  }
+
+  /**
+   * Emits the given value to subscribers of this stream without boxing it.
+   *
+   * @param value a value to emit
+   */
+  protected final void emit(long value) {
+    ListHelper.forEachLong(observers, LongConsumer::accept, value);
+  }
+}
@@ -0,0 +1,58 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.LongEventStream;
+import hs.jfx.eventstream.api.LongSubscriber;
+import hs.jfx.eventstream.api.LongValueStream;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+public class BaseLongValueStream extends BaseLongObservableStream implements LongValueStream {
+  private final LongSupplier initialValueSupplier;
+
+  public BaseLongValueStream(LongSubscriber subscriber, LongSupplier initialValueSupplier) {
+    super(subscriber);
+
+    this.initialValueSupplier = Objects.requireNonNull(initialValueSupplier);
+  }
+
+  @Override
+  protected void newObserverAdded(LongConsumer observer) {
+    observer.accept(getInitialValue());
+  }
+
+  @Override
+  public long getInitialValue() {
+    return initialValueSupplier.getAsLong();
+  }
+
+  @Override
+  public LongEventStream filter(LongPredicate predicate) {
+    return LongStreams.filter(this, predicate);
+  }
+
+  @Override
+  public LongValueStream peek(LongConsumer sideEffect) {
+    return LongStreams.peekValue(this, sideEffect);
+  }
+
+  @Override
+  public LongValueStream map(LongUnaryOperator mapper) {
+    return LongStreams.mapValue(this, mapper);
+  }
+
+  @Override
+  public <U> ValueStream<U> mapToObj(LongFunction<? extends U> mapper) {
+    return LongStreams.mapToObjValue(this, mapper);
+  }
+
+  @Override
+  public ValueStream<Long> boxed() {
+    return LongStreams.mapToObjValue(this, v -> v);
+  }
+}
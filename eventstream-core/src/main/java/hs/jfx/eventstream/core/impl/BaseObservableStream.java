@@ -3,12 +3,14 @@ package hs.jfx.eventstream.core.impl;
 import hs.jfx.eventstream.api.ObservableStream;
 import hs.jfx.eventstream.api.Subscriber;
 import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.metrics.StreamRecorder;
 import hs.jfx.eventstream.core.util.ListHelper;
 
-import java.util.Iterator;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import jdk.jfr.EventType;
+
 /**
  * Base class for observable streams.
  *
@@ -19,6 +21,8 @@ public abstract class BaseObservableStream<T> implements ObservableStream<T> {
 
   private ListHelper<Consumer<? super T>> observers;
   private Subscription inputSubscription;
+  private StreamRecorder recorder;  // only set when instrumented
+  private String name;  // only set when instrumented
 
   public BaseObservableStream(Subscriber<T> subscriber) {
     this.subscriber = subscriber;
@@ -30,6 +34,20 @@ public abstract class BaseObservableStream<T> implements ObservableStream<T> {
       throw new NullPointerException("observer cannot be null");
     }
 
+    if(recorder == null) {
+      doAddObserver(observer);
+    }
+    else {
+      addObserverInstrumented(observer);
+    }
+  }
+
+  private void doAddObserver(Consumer<? super T> observer) {
+    if(SubscriptionTracker.enabled) {
+      addObserverTracked(observer);
+      return;
+    }
+
     if(inputSubscription == null) {
       inputSubscription = subscriber.subscribe(this::emit);
     }
@@ -39,6 +57,49 @@ public abstract class BaseObservableStream<T> implements ObservableStream<T> {
     observers = ListHelper.add(observers, observer);
   }
 
+  private void addObserverTracked(Consumer<? super T> observer) {
+    if(inputSubscription == null) {
+      SubscriptionTracker.beginSubscribing(this);
+
+      try {
+        inputSubscription = subscriber.subscribe(this::emit);
+      }
+      finally {
+        SubscriptionTracker.endSubscribing();
+      }
+    }
+
+    newObserverAdded(observer);
+
+    observers = ListHelper.add(observers, observer);
+
+    SubscriptionTracker.observerAdded(this, observer);
+  }
+
+  private void addObserverInstrumented(Consumer<? super T> observer) {
+    if(!EventTypes.SUBSCRIBE.isEnabled()) {
+      doAddObserver(observer);
+      recorder.observerAdded();
+      return;
+    }
+
+    StreamSubscribeEvent event = new StreamSubscribeEvent();
+    boolean sourceSubscribed = inputSubscription == null;
+
+    event.begin();
+    doAddObserver(observer);
+    event.end();
+
+    recorder.observerAdded();
+
+    if(event.shouldCommit()) {
+      event.streamName = name;
+      event.observerCount = ListHelper.size(observers);
+      event.sourceSubscribed = sourceSubscribed;
+      event.commit();
+    }
+  }
+
   /**
    * Called when a new observer was added to this stream.
    *
@@ -49,8 +110,20 @@ public abstract class BaseObservableStream<T> implements ObservableStream<T> {
 
   @Override
   public final void removeObserver(Consumer<? super T> observer) {
+    int size = ListHelper.size(observers);
+
     observers = ListHelper.remove(observers, Objects.requireNonNull(observer));
 
+    if(ListHelper.size(observers) < size) {
+      if(recorder != null) {
+        recorder.observerRemoved();
+      }
+
+      if(SubscriptionTracker.enabled) {
+        SubscriptionTracker.observerRemoved(this, observer);
+      }
+    }
+
     if(ListHelper.isEmpty(observers) && inputSubscription != null) {  // null check required here as it is possible to unregister another observer when there none
       inputSubscription.unsubscribe();
       inputSubscription = null;
@@ -58,17 +131,114 @@ public abstract class BaseObservableStream<T> implements ObservableStream<T> {
   }
 
   /**
-   * Emits the given value to subscribers of this stream.
+   * Returns the {@link FusableSubscriber} of this stream if it can be skipped
+   * by a stage following it. This is only the case when the subscriber is
+   * bypassable and this stream is not currently observing its source.
+   *
+   * @return the {@link FusableSubscriber} of this stream if it can be skipped, otherwise null
+   */
+  FusableSubscriber<?, T> getSkippableSubscriber() {
+    if(inputSubscription == null && subscriber instanceof FusableSubscriber) {
+      FusableSubscriber<?, T> fusableSubscriber = (FusableSubscriber<?, T>)subscriber;
+
+      if(fusableSubscriber.isBypassable()) {
+        return fusableSubscriber;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Emits the given value to subscribers of this stream.<p>
+   *
+   * Emission does not allocate; observers added or removed while a value
+   * is being emitted do not affect the observers the value is emitted to.
    *
    * @param value a value to emit
    */
   protected final void emit(T value) {
-    Iterator<Consumer<? super T>> iterator = ListHelper.iterator(observers);
+    if(recorder == null) {
+      ListHelper.forEach(observers, Consumer::accept, value);
+    }
+    else {
+      emitInstrumented(value);
+    }
+  }
+
+  private void emitInstrumented(T value) {
+    StreamEmitEvent event = EventTypes.EMIT.isEnabled() ? new StreamEmitEvent() : null;
+    long start = System.nanoTime();
+
+    if(event != null) {
+      event.begin();
+    }
+
+    try {
+      ListHelper.forEach(observers, Consumer::accept, value);
+    }
+    finally {
+      recorder.emitted(System.nanoTime() - start);
+
+      if(event != null) {
+        event.end();
+
+        if(event.shouldCommit()) {
+          event.streamName = name;
+          event.observerCount = ListHelper.size(observers);
+          event.commit();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the name given to this stream when it was instrumented.
+   *
+   * @return the name given to this stream when it was instrumented, or null if not instrumented
+   */
+  String getInstrumentedName() {
+    return name;
+  }
 
-    while(iterator.hasNext()) {
-      Consumer<? super T> observer = iterator.next();
+  /**
+   * Returns the number of observers of this stream.
+   *
+   * @return the number of observers of this stream
+   */
+  int getObserverCount() {
+    return ListHelper.size(observers);
+  }
 
-      observer.accept(value);
+  /**
+   * Instruments this stream, recording its activity with the given {@link StreamRecorder}
+   * and as Java Flight Recorder events. Observers already present are recorded as added.
+   *
+   * @param name a name for this stream, cannot be null
+   * @param recorder a {@link StreamRecorder}, cannot be null
+   */
+  public final void instrument(String name, StreamRecorder recorder) {
+    if(this.recorder != null) {
+      for(int i = ListHelper.size(observers); i > 0; i--) {
+        this.recorder.observerRemoved();
+      }
+    }
+
+    this.recorder = Objects.requireNonNull(recorder);
+    this.name = Objects.requireNonNull(name);
+
+    for(int i = ListHelper.size(observers); i > 0; i--) {
+      recorder.observerAdded();
     }
   }
+
+  /**
+   * Flight recorder event types, checked before creating events so instrumented
+   * streams do not allocate them when no recording has them enabled. Only loaded
+   * once a stream is instrumented.
+   */
+  private static class EventTypes {
+    static final EventType EMIT = EventType.getEventType(StreamEmitEvent.class);
+    static final EventType SUBSCRIBE = EventType.getEventType(StreamSubscribeEvent.class);
+  }
 }
@@ -4,9 +4,14 @@ import hs.jfx.eventstream.api.ChangeStream;
 import hs.jfx.eventstream.api.EventStream;
 import hs.jfx.eventstream.api.ObservableStream;
 import hs.jfx.eventstream.api.OptionalValue;
+import hs.jfx.eventstream.api.Scheduler;
 import hs.jfx.eventstream.api.Subscriber;
 import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.util.LruCache;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -37,6 +42,11 @@ public class BaseValueStream<S, T> extends BaseObservableStream<T> implements Va
     return FilterStreams.change(this, predicate);
   }
 
+  @Override
+  public ValueStream<T> distinct(BiPredicate<? super T, ? super T> equality) {
+    return DistinctStreams.value(this, equality);
+  }
+
   @Override
   public EventStream<T> filterNull() {
     return FilterNullStreams.event(this);
@@ -47,16 +57,56 @@ public class BaseValueStream<S, T> extends BaseObservableStream<T> implements Va
     return MapStreams.value(this, mapper, () -> null);
   }
 
+  @Override
+  public <U> ValueStream<U> mapCached(Function<? super T, ? extends U> mapper, int maxSize) {
+    return MapStreams.value(this, LruCache.memoize(mapper, maxSize), () -> null);
+  }
+
+  @Override
+  public ValueStream<T> cache() {
+    return CacheStreams.value(this);
+  }
+
+  @Override
+  public ValueStream<T> coalescePerPulse() {
+    return coalesce(PulseScheduler.INSTANCE);
+  }
+
+  @Override
+  public ValueStream<T> coalesce(Scheduler scheduler) {
+    return new BaseValueStream<>(ScheduledStreams.coalesce(this, scheduler), this, Operator.identity());
+  }
+
+  @Override
+  public ValueStream<T> transactional() {
+    return TransactionalStreams.value(this);
+  }
+
   @Override
   public Binding<T> toBinding() {
     return new ValueStreamBinding<>(this);
   }
 
+  @Override
+  public Binding<T> toLazyBinding() {
+    return new LazyValueStreamBinding<>(this);
+  }
+
   @Override
   public <U> ValueStream<U> flatMap(Function<? super T, ? extends ValueStream<? extends U>> mapper) {
     return FlatMapStreams.value(this, mapper, () -> RootValueStream.constant(null));
   }
 
+  @Override
+  public <U> ChangeStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper) {
+    return mapAsync(mapper, ExecutorStreams.FX);
+  }
+
+  @Override
+  public <U> ChangeStream<U> mapAsync(Function<? super T, ? extends CompletionStage<? extends U>> mapper, Executor executor) {
+    return AsyncStreams.change(this, mapper, executor);
+  }
+
   @Override
   public <U> ChangeStream<U> flatMapToChange(Function<? super T, ? extends ChangeStream<? extends U>> mapper) {
     return FlatMapStreams.change(this, mapper, () -> null);
@@ -102,7 +152,7 @@ public class BaseValueStream<S, T> extends BaseObservableStream<T> implements Va
         }
       }),
       this,
-      OptionalValue::of
+      Operator.identity()
     );
   }
 
@@ -129,7 +179,13 @@ public class BaseValueStream<S, T> extends BaseObservableStream<T> implements Va
 
   @Override
   public OptionalValue<T> getInitialValue() {
-    return source == null ? operator.operate(null) : ((ValueStream<S>)source).getInitialValue().flatMap(operator::operate);
+    if(source == null) {
+      return operator.apply(null);
+    }
+
+    OptionalValue<S> sourceValue = ((ValueStream<S>)source).getInitialValue();
+
+    return sourceValue.isPresent() ? operator.apply(sourceValue.get()) : OptionalValue.empty();
   }
 
   @Override
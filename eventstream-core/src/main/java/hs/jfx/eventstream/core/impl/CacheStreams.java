@@ -0,0 +1,62 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.OptionalValue;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.function.Consumer;
+
+public abstract class CacheStreams {
+
+  public static <T> ValueStream<T> value(ValueStream<T> source) {
+    return new CachingValueStream<>(source, new Cache<>());
+  }
+
+  private static class CachingValueStream<T> extends BaseValueStream<T, T> {
+    private final Cache<T> cache;
+
+    CachingValueStream(ValueStream<T> source, Cache<T> cache) {
+      super(cache.subscriber(source), source, Operator.identity());
+
+      this.cache = cache;
+    }
+
+    @Override
+    public OptionalValue<T> getInitialValue() {
+      return cache.present ? OptionalValue.of(cache.value) : super.getInitialValue();
+    }
+
+    @Override
+    protected void newObserverAdded(Consumer<? super T> observer) {
+      if(cache.present) {
+        observer.accept(cache.value);
+      }
+      else {
+        super.newObserverAdded(observer);
+      }
+    }
+  }
+
+  private static class Cache<T> {
+    T value;
+    boolean present;
+
+    Subscriber<T> subscriber(ObservableStream<T> source) {
+      return emitter -> {
+        Subscription subscription = source.subscribe(v -> {
+          value = v;
+          present = true;
+          emitter.emit(v);
+        });
+
+        return () -> {
+          subscription.unsubscribe();
+          value = null;
+          present = false;
+        };
+      };
+    }
+  }
+}
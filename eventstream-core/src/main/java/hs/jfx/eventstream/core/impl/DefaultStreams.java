@@ -1,7 +1,6 @@
 package hs.jfx.eventstream.core.impl;
 
 import hs.jfx.eventstream.api.ObservableStream;
-import hs.jfx.eventstream.api.OptionalValue;
 import hs.jfx.eventstream.api.ValueStream;
 
 import java.util.Objects;
@@ -12,6 +11,6 @@ public abstract class DefaultStreams {
   public static <T> ValueStream<T> value(ObservableStream<T> source, Supplier<? extends T> defaultValueSupplier) {
     Objects.requireNonNull(defaultValueSupplier);
 
-    return new BaseValueStream<>(e -> source.subscribe(e::emit), null, v -> OptionalValue.of(defaultValueSupplier.get()));
+    return new BaseValueStream<>(e -> source.subscribe(e::emit), null, (v, emitter) -> emitter.emit(defaultValueSupplier.get()));
   }
 }
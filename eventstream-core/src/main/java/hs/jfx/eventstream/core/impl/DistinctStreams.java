@@ -0,0 +1,85 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.ChangeStream;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.OptionalValue;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+public abstract class DistinctStreams {
+
+  public static <T> ValueStream<T> value(ValueStream<T> source, BiPredicate<? super T, ? super T> equality) {
+    return new DistinctValueStream<>(source, new Last<>(Objects.requireNonNull(equality)));
+  }
+
+  public static <T> ChangeStream<T> change(ObservableStream<T> source, BiPredicate<? super T, ? super T> equality) {
+    return new BaseChangeStream<>(new Last<>(Objects.requireNonNull(equality)).subscriber(source));
+  }
+
+  private static class DistinctValueStream<T> extends BaseValueStream<T, T> {
+    private final Last<T> last;
+
+    DistinctValueStream(ValueStream<T> source, Last<T> last) {
+      super(last.subscriber(source), source, Operator.identity());
+
+      this.last = last;
+    }
+
+    @Override
+    public OptionalValue<T> getInitialValue() {
+      return last.present ? OptionalValue.of(last.value) : super.getInitialValue();
+    }
+
+    @Override
+    protected void newObserverAdded(Consumer<? super T> observer) {
+      if(last.present) {
+        observer.accept(last.value);
+      }
+      else {
+        super.newObserverAdded(observer);
+      }
+    }
+  }
+
+  private static class Last<T> {
+    final BiPredicate<? super T, ? super T> equality;
+
+    T value;
+    boolean present;
+
+    Last(BiPredicate<? super T, ? super T> equality) {
+      this.equality = equality;
+    }
+
+    Subscriber<T> subscriber(ObservableStream<T> source) {
+      return emitter -> {
+        Subscription subscription = source.subscribe(v -> {
+          if(!present || !isEqual(value, v)) {
+            value = v;
+            present = true;
+            emitter.emit(v);
+          }
+        });
+
+        return () -> {
+          subscription.unsubscribe();
+          value = null;
+          present = false;
+        };
+      };
+    }
+
+    private boolean isEqual(T a, T b) {
+      if(a == null || b == null) {
+        return a == b;
+      }
+
+      return equality.test(a, b);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.DoubleEventStream;
+import hs.jfx.eventstream.api.DoubleObservableStream;
+import hs.jfx.eventstream.api.DoubleSubscriber;
+import hs.jfx.eventstream.api.DoubleValueStream;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableDoubleValue;
+
+/**
+ * Operations on streams of primitive {@code double} values. None of the stages
+ * created here box the values passing through them, with the exception of
+ * the bridges to regular streams.
+ */
+public abstract class DoubleStreams {
+
+  public static DoubleEventStream event(ObservableDoubleValue observable) {
+    return new BaseDoubleEventStream(subscriber(observable));
+  }
+
+  public static DoubleValueStream value(ObservableDoubleValue observable) {
+    return new BaseDoubleValueStream(subscriber(observable), observable::get);
+  }
+
+  public static DoubleEventStream filter(DoubleObservableStream source, DoublePredicate predicate) {
+    Objects.requireNonNull(predicate);
+
+    return new BaseDoubleEventStream(emitter -> source.subscribe(v -> {
+      if(predicate.test(v)) {
+        emitter.emit(v);
+      }
+    }));
+  }
+
+  public static DoubleEventStream mapEvent(DoubleObservableStream source, DoubleUnaryOperator mapper) {
+    Objects.requireNonNull(mapper);
+
+    return new BaseDoubleEventStream(emitter -> source.subscribe(v -> emitter.emit(mapper.applyAsDouble(v))));
+  }
+
+  public static DoubleValueStream mapValue(DoubleValueStream source, DoubleUnaryOperator mapper) {
+    Objects.requireNonNull(mapper);
+
+    return new BaseDoubleValueStream(emitter -> source.subscribe(v -> emitter.emit(mapper.applyAsDouble(v))), () -> mapper.applyAsDouble(source.getInitialValue()));
+  }
+
+  public static DoubleEventStream peekEvent(DoubleObservableStream source, DoubleConsumer sideEffect) {
+    return new BaseDoubleEventStream(peekSubscriber(source, Objects.requireNonNull(sideEffect)));
+  }
+
+  public static DoubleValueStream peekValue(DoubleValueStream source, DoubleConsumer sideEffect) {
+    return new BaseDoubleValueStream(peekSubscriber(source, Objects.requireNonNull(sideEffect)), source::getInitialValue);
+  }
+
+  public static <U> EventStream<U> mapToObjEvent(DoubleObservableStream source, DoubleFunction<? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+
+    return RootEventStream.of(emitter -> source.subscribe(v -> emitter.emit(mapper.apply(v))));
+  }
+
+  public static <U> ValueStream<U> mapToObjValue(DoubleValueStream source, DoubleFunction<? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+
+    return RootValueStream.of(emitter -> source.subscribe(v -> emitter.emit(mapper.apply(v))), () -> mapper.apply(source.getInitialValue()));
+  }
+
+  public static DoubleValueStream withDefault(DoubleObservableStream source, double value) {
+    return new BaseDoubleValueStream(emitter -> source.subscribe(emitter::emit), () -> value);
+  }
+
+  private static DoubleSubscriber subscriber(ObservableDoubleValue observable) {
+    Objects.requireNonNull(observable);
+
+    /*
+     * A ChangeListener would box every value, so an InvalidationListener is used
+     * instead which reads the primitive value directly. As an invalidation does
+     * not imply a change, the last value is tracked to only emit actual changes.
+     */
+
+    return emitter -> {
+      InvalidationListener listener = new InvalidationListener() {
+        private double lastValue = observable.get();
+
+        @Override
+        public void invalidated(Observable obs) {
+          double value = observable.get();
+
+          if(Double.doubleToLongBits(value) != Double.doubleToLongBits(lastValue)) {
+            lastValue = value;
+            emitter.emit(value);
+          }
+        }
+      };
+
+      observable.addListener(listener);
+
+      return () -> observable.removeListener(listener);
+    };
+  }
+
+  private static DoubleSubscriber peekSubscriber(DoubleObservableStream source, DoubleConsumer sideEffect) {
+    return emitter -> source.subscribe(new DoubleConsumer() {
+      private boolean sideEffectInProgress = false;
+
+      @Override
+      public void accept(double value) {
+        if(sideEffectInProgress) {
+          throw new IllegalStateException("Side effect is not allowed to cause recursive event emission");
+        }
+
+        sideEffectInProgress = true;
+
+        try {
+          sideEffect.accept(value);
+        }
+        finally {
+          sideEffectInProgress = false;
+        }
+
+        emitter.emit(value);
+      }
+    });
+  }
+}
@@ -0,0 +1,137 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.core.Transactions;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Collects values offered from any thread without locking, and passes them in
+ * batches to a consumer using an {@link Executor}. Only one task is submitted
+ * to the executor for all values offered before the batch is drained, and batches
+ * are never drained concurrently, even when the executor uses multiple threads.<p>
+ *
+ * Each batch is passed to the consumer in a transaction (see {@link Transactions}).
+ * Depending on the {@link TransactionPolicy}, either all values of a batch are
+ * passed in the order they were offered, or only the last value.
+ *
+ * @param <T> the type of values
+ */
+public class DrainingQueue<T> {
+  private static final Object NULL = new Object();
+
+  private final Executor executor;
+  private final Consumer<? super T> consumer;
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+  private final Queue<Object> values;
+  private final AtomicReference<Object> latestValue;
+
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param executor an {@link Executor} used to drain the queue, cannot be null
+   * @param policy a {@link TransactionPolicy} which determines which values of a batch are passed on, cannot be null
+   * @param consumer a {@link Consumer} for the values, cannot be null
+   */
+  public DrainingQueue(Executor executor, TransactionPolicy policy, Consumer<? super T> consumer) {
+    this.executor = Objects.requireNonNull(executor);
+    this.consumer = Objects.requireNonNull(consumer);
+    this.values = Objects.requireNonNull(policy) == TransactionPolicy.COLLECT_ALL ? new ConcurrentLinkedQueue<>() : null;
+    this.latestValue = values == null ? new AtomicReference<>() : null;
+  }
+
+  /**
+   * Queues the given value. Can be called from any thread.
+   *
+   * @param value a value, can be null
+   */
+  public void offer(T value) {
+    if(closed) {
+      return;
+    }
+
+    Object v = value == null ? NULL : value;
+
+    if(values == null) {
+      latestValue.set(v);
+    }
+    else {
+      values.offer(v);
+    }
+
+    if(drainScheduled.compareAndSet(false, true)) {
+      executor.execute(this::drain);
+    }
+  }
+
+  /**
+   * Discards all queued values and ignores any values offered afterwards.
+   */
+  public void close() {
+    closed = true;
+
+    if(values == null) {
+      latestValue.set(null);
+    }
+    else {
+      values.clear();
+    }
+  }
+
+  private boolean hasPendingValues() {
+    return values == null ? latestValue.get() != null : !values.isEmpty();
+  }
+
+  private void drain() {
+
+    /*
+     * Only the values present when the drain starts are passed on, so a drain
+     * ends even while values keep being offered. Values offered meanwhile are
+     * drained by a newly submitted task, which lets the executor run other tasks
+     * and the transaction of this batch complete first.
+     */
+
+    try {
+      Transactions.run(this::drainValues);
+    }
+    finally {
+      drainScheduled.set(false);
+
+      if(hasPendingValues() && drainScheduled.compareAndSet(false, true)) {
+        executor.execute(this::drain);
+      }
+    }
+  }
+
+  private void drainValues() {
+    if(values == null) {
+      Object value = latestValue.getAndSet(null);
+
+      if(value != null && !closed) {
+        accept(value);
+      }
+    }
+    else {
+      Object value;
+
+      for(int count = values.size(); count > 0 && (value = values.poll()) != null && !closed; count--) {  // null when cleared by close
+        accept(value);
+      }
+    }
+  }
+
+  private void accept(Object value) {
+    @SuppressWarnings("unchecked")
+    T v = value == NULL ? null : (T)value;  // safe, only values of type T are queued
+
+    consumer.accept(v);
+  }
+}
@@ -0,0 +1,34 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.TransactionPolicy;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Operations which deliver the values of a stream on a different thread.
+ */
+public abstract class ExecutorStreams {
+
+  /**
+   * An {@link Executor} which runs tasks on the JavaFX Application Thread.
+   */
+  public static final Executor FX = FXExecutor.INSTANCE;
+
+  public static <T> Subscriber<T> observeOn(ObservableStream<T> source, Executor executor) {
+    Objects.requireNonNull(executor);
+
+    return emitter -> {
+      DrainingQueue<T> queue = new DrainingQueue<>(executor, TransactionPolicy.COLLECT_ALL, emitter::emit);
+      Subscription subscription = source.subscribe(queue::offer);
+
+      return () -> {
+        subscription.unsubscribe();
+        queue.close();
+      };
+    };
+  }
+}
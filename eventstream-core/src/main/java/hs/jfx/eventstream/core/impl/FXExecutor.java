@@ -0,0 +1,24 @@
+package hs.jfx.eventstream.core.impl;
+
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+
+/**
+ * An {@link Executor} which runs tasks on the JavaFX Application Thread.<p>
+ *
+ * This is a separate class, instead of a method reference to {@link Platform#runLater(Runnable)},
+ * so {@link Platform} is only loaded when a task is executed; javafx-graphics is an optional
+ * dependency.
+ */
+public class FXExecutor implements Executor {
+  public static final Executor INSTANCE = new FXExecutor();
+
+  private FXExecutor() {
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Platform.runLater(command);
+  }
+}
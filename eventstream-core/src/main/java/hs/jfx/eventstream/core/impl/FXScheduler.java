@@ -0,0 +1,32 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Scheduler;
+import hs.jfx.eventstream.api.Subscription;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+
+/**
+ * A {@link Scheduler} which uses a {@link Timeline} to run actions on the
+ * JavaFX Application Thread.
+ */
+public class FXScheduler implements Scheduler {
+  public static final Scheduler INSTANCE = new FXScheduler();
+
+  private FXScheduler() {
+  }
+
+  @Override
+  public Subscription schedule(Duration delay, Runnable action) {
+    Objects.requireNonNull(action);
+
+    Timeline timeline = new Timeline(new KeyFrame(javafx.util.Duration.millis(delay.toNanos() / 1_000_000.0), e -> action.run()));
+
+    timeline.play();
+
+    return timeline::stop;
+  }
+}
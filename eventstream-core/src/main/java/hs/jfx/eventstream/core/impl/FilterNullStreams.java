@@ -11,7 +11,7 @@ public abstract class FilterNullStreams {
   }
 
   private static <T> Subscriber<T> subscriber(ObservableStream<T> source) {
-    return emitter -> source.subscribe(v -> {
+    return FusableSubscriber.of(source, emitter -> v -> {
       if(v != null) {
         emitter.emit(v);
       }
@@ -19,7 +19,7 @@ public abstract class FilterStreams {
   }
 
   private static <T> Subscriber<T> nullSafeSubscriber(ObservableStream<T> source, Predicate<? super T> predicate) {
-    return emitter -> source.subscribe(v -> {
+    return FusableSubscriber.of(source, emitter -> v -> {
       if(v == null || predicate.test(v)) {
         emitter.emit(v);
       }
@@ -27,7 +27,7 @@ public abstract class FilterStreams {
   }
 
   private static <T> Subscriber<T> subscriber(ObservableStream<T> source, Predicate<? super T> predicate) {
-    return emitter -> source.subscribe(v -> {
+    return FusableSubscriber.of(source, emitter -> v -> {
       if(predicate.test(v)) {
         emitter.emit(v);
       }
@@ -4,7 +4,6 @@ import hs.jfx.eventstream.api.ChangeStream;
 import hs.jfx.eventstream.api.Emitter;
 import hs.jfx.eventstream.api.EventStream;
 import hs.jfx.eventstream.api.ObservableStream;
-import hs.jfx.eventstream.api.OptionalValue;
 import hs.jfx.eventstream.api.Subscriber;
 import hs.jfx.eventstream.api.Subscription;
 import hs.jfx.eventstream.api.ValueStream;
@@ -42,11 +41,13 @@ public abstract class FlatMapStreams {
   }
 
   private static <S, T> Operator<S, T> operator(Function<? super S, ObservableStream<? extends T>> flatMapper) {
-    return value -> {
+    return (value, emitter) -> {
       @SuppressWarnings("unchecked") // cast is safe as operate is only called for ValueStreams
       BaseValueStream<S, T> mappedStream = (BaseValueStream<S, T>)flatMapper.apply(value);
 
-      return mappedStream == null ? OptionalValue.empty() : mappedStream.getInitialValue();
+      if(mappedStream != null) {
+        mappedStream.getInitialValue().ifPresent(emitter::emit);
+      }
     };
   }
 
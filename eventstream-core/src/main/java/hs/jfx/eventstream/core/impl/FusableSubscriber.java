@@ -0,0 +1,120 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Emitter;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+
+/**
+ * A {@link Subscriber} for stateless stages, like map and filter, which can be
+ * fused with the stages preceding it.<p>
+ *
+ * When subscribing, consecutive upstream stages which are bypassable and which
+ * are not currently observing their own source are skipped: their operations are
+ * chained directly onto the operation of the subscribing stage and only the first
+ * stage which cannot be skipped is subscribed to. A chain of such stages therefore
+ * costs a single subscription, and values travel through it without being
+ * dispatched to intermediate streams.<p>
+ *
+ * Skipped stages remain fully functional. If such a stage is later observed directly
+ * it subscribes to its own source, and its operation is then evaluated separately for
+ * each path, as if two identical chains had been constructed. Stages with side effects
+ * should therefore not be bypassable; they can still fuse with the stages preceding
+ * them.
+ *
+ * @param <S> type of values emitted by the source stream
+ * @param <T> type of values emitted by the stage
+ */
+class FusableSubscriber<S, T> implements Subscriber<T> {
+
+  /**
+   * The operation performed by a stage.
+   *
+   * @param <S> type of values emitted by the source stream
+   * @param <T> type of values emitted by the stage
+   */
+  interface Stage<S, T> {
+
+    /**
+     * Returns an {@link Emitter} which accepts source values, performs the operation
+     * of this stage and emits the results, if any, to the given {@link Emitter}.
+     *
+     * @param emitter an {@link Emitter} to emit results to, cannot be null
+     * @return an {@link Emitter} which accepts source values, never null
+     */
+    Emitter<S> link(Emitter<T> emitter);
+  }
+
+  private final ObservableStream<S> source;
+  private final Stage<S, T> stage;
+  private final boolean bypassable;
+
+  /**
+   * Creates a subscriber for a stage which can be fused with the stages preceding
+   * it, and which can be skipped by stages following it.
+   *
+   * @param <S> type of values emitted by the source stream
+   * @param <T> type of values emitted by the stage
+   * @param source an {@link ObservableStream} to use as source, cannot be null
+   * @param stage a {@link Stage}, cannot be null
+   * @return a new {@link FusableSubscriber}, never null
+   */
+  static <S, T> FusableSubscriber<S, T> of(ObservableStream<S> source, Stage<S, T> stage) {
+    return new FusableSubscriber<>(source, stage, true);
+  }
+
+  /**
+   * Creates a subscriber for a stage which can be fused with the stages preceding
+   * it, but which is never skipped by stages following it.
+   *
+   * @param <S> type of values emitted by the source stream
+   * @param <T> type of values emitted by the stage
+   * @param source an {@link ObservableStream} to use as source, cannot be null
+   * @param stage a {@link Stage}, cannot be null
+   * @return a new {@link FusableSubscriber}, never null
+   */
+  static <S, T> FusableSubscriber<S, T> nonBypassable(ObservableStream<S> source, Stage<S, T> stage) {
+    return new FusableSubscriber<>(source, stage, false);
+  }
+
+  private FusableSubscriber(ObservableStream<S> source, Stage<S, T> stage, boolean bypassable) {
+    this.source = source;
+    this.stage = stage;
+    this.bypassable = bypassable;
+  }
+
+  boolean isBypassable() {
+    return bypassable;
+  }
+
+  @Override
+  public Subscription subscribe(Emitter<T> emitter) {
+    Emitter<?> chain = stage.link(emitter);
+    ObservableStream<?> upstream = source;
+
+    while(upstream instanceof BaseObservableStream) {
+      FusableSubscriber<?, ?> skippable = ((BaseObservableStream<?>)upstream).getSkippableSubscriber();
+
+      if(skippable == null) {
+        break;
+      }
+
+      chain = skippable.link(chain);
+      upstream = skippable.source;
+    }
+
+    return subscribe(upstream, chain);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Emitter<S> link(Emitter<?> emitter) {
+    return stage.link((Emitter<T>)emitter);  // safe, the emitter was created by the stage following this one
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <U> Subscription subscribe(ObservableStream<U> source, Emitter<?> emitter) {
+    Emitter<U> sourceEmitter = (Emitter<U>)emitter;  // safe, the emitter accepts the values of the stage it was linked to
+
+    return source.subscribe(sourceEmitter::emit);
+  }
+}
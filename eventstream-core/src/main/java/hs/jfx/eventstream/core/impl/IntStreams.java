@@ -0,0 +1,134 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.IntEventStream;
+import hs.jfx.eventstream.api.IntObservableStream;
+import hs.jfx.eventstream.api.IntSubscriber;
+import hs.jfx.eventstream.api.IntValueStream;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableIntegerValue;
+
+/**
+ * Operations on streams of primitive {@code int} values. None of the stages
+ * created here box the values passing through them, with the exception of
+ * the bridges to regular streams.
+ */
+public abstract class IntStreams {
+
+  public static IntEventStream event(ObservableIntegerValue observable) {
+    return new BaseIntEventStream(subscriber(observable));
+  }
+
+  public static IntValueStream value(ObservableIntegerValue observable) {
+    return new BaseIntValueStream(subscriber(observable), observable::get);
+  }
+
+  public static IntEventStream filter(IntObservableStream source, IntPredicate predicate) {
+    Objects.requireNonNull(predicate);
+
+    return new BaseIntEventStream(emitter -> source.subscribe(v -> {
+      if(predicate.test(v)) {
+        emitter.emit(v);
+      }
+    }));
+  }
+
+  public static IntEventStream mapEvent(IntObservableStream source, IntUnaryOperator mapper) {
+    Objects.requireNonNull(mapper);
+
+    return new BaseIntEventStream(emitter -> source.subscribe(v -> emitter.emit(mapper.applyAsInt(v))));
+  }
+
+  public static IntValueStream mapValue(IntValueStream source, IntUnaryOperator mapper) {
+    Objects.requireNonNull(mapper);
+
+    return new BaseIntValueStream(emitter -> source.subscribe(v -> emitter.emit(mapper.applyAsInt(v))), () -> mapper.applyAsInt(source.getInitialValue()));
+  }
+
+  public static IntEventStream peekEvent(IntObservableStream source, IntConsumer sideEffect) {
+    return new BaseIntEventStream(peekSubscriber(source, Objects.requireNonNull(sideEffect)));
+  }
+
+  public static IntValueStream peekValue(IntValueStream source, IntConsumer sideEffect) {
+    return new BaseIntValueStream(peekSubscriber(source, Objects.requireNonNull(sideEffect)), source::getInitialValue);
+  }
+
+  public static <U> EventStream<U> mapToObjEvent(IntObservableStream source, IntFunction<? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+
+    return RootEventStream.of(emitter -> source.subscribe(v -> emitter.emit(mapper.apply(v))));
+  }
+
+  public static <U> ValueStream<U> mapToObjValue(IntValueStream source, IntFunction<? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+
+    return RootValueStream.of(emitter -> source.subscribe(v -> emitter.emit(mapper.apply(v))), () -> mapper.apply(source.getInitialValue()));
+  }
+
+  public static IntValueStream withDefault(IntObservableStream source, int value) {
+    return new BaseIntValueStream(emitter -> source.subscribe(emitter::emit), () -> value);
+  }
+
+  private static IntSubscriber subscriber(ObservableIntegerValue observable) {
+    Objects.requireNonNull(observable);
+
+    /*
+     * A ChangeListener would box every value, so an InvalidationListener is used
+     * instead which reads the primitive value directly. As an invalidation does
+     * not imply a change, the last value is tracked to only emit actual changes.
+     */
+
+    return emitter -> {
+      InvalidationListener listener = new InvalidationListener() {
+        private int lastValue = observable.get();
+
+        @Override
+        public void invalidated(Observable obs) {
+          int value = observable.get();
+
+          if(value != lastValue) {
+            lastValue = value;
+            emitter.emit(value);
+          }
+        }
+      };
+
+      observable.addListener(listener);
+
+      return () -> observable.removeListener(listener);
+    };
+  }
+
+  private static IntSubscriber peekSubscriber(IntObservableStream source, IntConsumer sideEffect) {
+    return emitter -> source.subscribe(new IntConsumer() {
+      private boolean sideEffectInProgress = false;
+
+      @Override
+      public void accept(int value) {
+        if(sideEffectInProgress) {
+          throw new IllegalStateException("Side effect is not allowed to cause recursive event emission");
+        }
+
+        sideEffectInProgress = true;
+
+        try {
+          sideEffect.accept(value);
+        }
+        finally {
+          sideEffectInProgress = false;
+        }
+
+        emitter.emit(value);
+      }
+    });
+  }
+}
@@ -0,0 +1,147 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.ListHelper;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Dispatches the changes of an observable collection only to the subscribers of
+ * the key involved, making the cost of a change independent of the number of keys
+ * being observed.<p>
+ *
+ * As with {@link SharedRoots}, an index is shared by all streams observing the same
+ * collection, is only registered with the collection while it has subscribers and
+ * is cached weakly. The cache compares collections by identity, as their equality
+ * depends on their contents.
+ *
+ * @param <K> the type of the keys
+ */
+abstract class KeyIndex<K> {
+  private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+  private static final Map<IdentityKey, WeakReference<KeyIndex<?>>> INDICES = new HashMap<>();
+
+  private final Map<K, ListHelper<Runnable>> subscribers = new HashMap<>();
+
+  /**
+   * Returns the shared index of the given collection, creating it with the given
+   * factory when there is none. All indices of a collection must be created with
+   * the same type of factory.
+   *
+   * @param <I> the type of the index
+   * @param collection a collection, cannot be null
+   * @param factory a {@link Supplier} of a new index, cannot be null
+   * @return the index of the given collection, never null
+   */
+  static <I extends KeyIndex<?>> I of(Object collection, Supplier<I> factory) {
+    synchronized(INDICES) {
+      expungeStaleIndices();
+
+      IdentityKey key = new IdentityKey(collection, QUEUE);
+      WeakReference<KeyIndex<?>> ref = INDICES.get(key);
+      KeyIndex<?> index = ref == null ? null : ref.get();
+
+      if(index != null) {
+        @SuppressWarnings("unchecked")
+        I castIndex = (I)index;  // safe, indices of a collection are all created by the same type of factory
+
+        return castIndex;
+      }
+
+      I newIndex = factory.get();
+
+      INDICES.put(key, new WeakReference<>(newIndex));
+
+      return newIndex;
+    }
+  }
+
+  private static void expungeStaleIndices() {
+    Reference<?> ref;
+
+    while((ref = QUEUE.poll()) != null) {
+      INDICES.remove(ref);
+    }
+  }
+
+  /**
+   * Registers this index with its collection.
+   */
+  abstract void register();
+
+  /**
+   * Unregisters this index from its collection.
+   */
+  abstract void unregister();
+
+  /**
+   * Adds an action to call whenever the given key changes.
+   *
+   * @param key a key, can be null
+   * @param action a {@link Runnable} to call, cannot be null
+   * @return a {@link Subscription} which removes the action again, never null
+   */
+  final Subscription subscribe(K key, Runnable action) {
+    if(subscribers.isEmpty()) {
+      register();
+    }
+
+    subscribers.put(key, ListHelper.add(subscribers.get(key), action));
+
+    return () -> unsubscribe(key, action);
+  }
+
+  private void unsubscribe(K key, Runnable action) {
+    ListHelper<Runnable> actions = ListHelper.remove(subscribers.get(key), action);
+
+    if(!ListHelper.isEmpty(actions)) {
+      subscribers.put(key, actions);
+    }
+    else if(subscribers.remove(key) != null && subscribers.isEmpty()) {
+      unregister();
+    }
+  }
+
+  /**
+   * Calls the actions of the subscribers of the given key.
+   *
+   * @param key a key, can be null
+   */
+  final void dispatch(K key) {
+    ListHelper.forEach(subscribers.get(key), Runnable::run);
+  }
+
+  private static class IdentityKey extends WeakReference<Object> {
+    private final int hashCode;
+
+    IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+      super(referent, queue);
+
+      this.hashCode = System.identityHashCode(referent);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
+      }
+      if(!(obj instanceof IdentityKey)) {
+        return false;
+      }
+
+      Object referent = get();
+
+      return referent != null && referent == ((IdentityKey)obj).get();
+    }
+  }
+}
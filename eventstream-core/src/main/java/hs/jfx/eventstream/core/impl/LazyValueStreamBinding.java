@@ -0,0 +1,131 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.util.ListHelper;
+
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Binding;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValueBase;
+import javafx.collections.ObservableList;
+
+/**
+ * A {@link Binding} which only subscribes to its source stream while it has
+ * listeners. Without listeners, the value is computed from the source each time
+ * it is requested, as changes cannot be detected.
+ *
+ * @param <T> the type of the value
+ */
+public class LazyValueStreamBinding<T> extends ObservableValueBase<T> implements Binding<T> {
+  private final ValueStream<T> source;
+
+  private ListHelper<Object> listeners;
+  private Subscription subscription;
+  private boolean disposed;
+  private boolean valid;
+  private T value;
+
+  public LazyValueStreamBinding(ValueStream<T> source) {
+    this.source = Objects.requireNonNull(source);
+  }
+
+  @Override
+  public T getValue() {
+    if(subscription == null && !disposed) {
+      return source.getInitialValue().orElse(null);
+    }
+
+    valid = true;
+
+    return value;
+  }
+
+  @Override
+  public void addListener(InvalidationListener listener) {
+    listenerAdded(listener);
+    super.addListener(listener);
+  }
+
+  @Override
+  public void addListener(ChangeListener<? super T> listener) {
+    listenerAdded(listener);
+    super.addListener(listener);
+  }
+
+  @Override
+  public void removeListener(InvalidationListener listener) {
+    super.removeListener(listener);
+    listenerRemoved(listener);
+  }
+
+  @Override
+  public void removeListener(ChangeListener<? super T> listener) {
+    super.removeListener(listener);
+    listenerRemoved(listener);
+  }
+
+  private void listenerAdded(Object listener) {
+    Objects.requireNonNull(listener);
+
+    listeners = ListHelper.add(listeners, listener);
+
+    if(subscription == null && !disposed) {
+      subscription = source.subscribe(v -> {
+        value = v;
+
+        if(valid) {
+          valid = false;
+          fireValueChangedEvent();
+        }
+      });
+
+      valid = true;  // the current value was received while subscribing
+    }
+  }
+
+  private void listenerRemoved(Object listener) {
+    listeners = ListHelper.remove(listeners, Objects.requireNonNull(listener));
+
+    if(ListHelper.isEmpty(listeners) && subscription != null) {
+      subscription.unsubscribe();
+      subscription = null;
+      value = null;  // don't keep a reference to a value which is no longer tracked
+      valid = false;
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if(!disposed) {
+      value = getValue();  // keep the last value as it can no longer be computed after disposal
+      valid = true;
+      disposed = true;
+
+      if(subscription != null) {
+        subscription.unsubscribe();
+        subscription = null;
+      }
+    }
+  }
+
+  @Override
+  public ObservableList<?> getDependencies() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void invalidate() {
+    if(valid && subscription != null) {
+      valid = false;
+      fireValueChangedEvent();
+    }
+  }
+
+  @Override
+  public boolean isValid() {
+    return valid;
+  }
+}
@@ -0,0 +1,559 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.OptionalValue;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.ListChange;
+import hs.jfx.eventstream.core.ListChange.Step;
+import hs.jfx.eventstream.core.util.RankedBooleanList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Streams of {@link ListChange}s and operations on them which only process
+ * the elements involved in a change.
+ */
+public abstract class ListChangeStreams {
+
+  public static <E> EventStream<ListChange<E>> event(ObservableList<E> list) {
+    return RootEventStream.of(subscriber(list));
+  }
+
+  public static <E> ValueStream<ListChange<E>> value(ObservableList<E> list) {
+    return RootValueStream.of(subscriber(list), () -> ListChange.ofAdded(list));
+  }
+
+  public static <E, R> ValueStream<ListChange<R>> mapList(ValueStream<ListChange<E>> source, Function<? super E, ? extends R> mapper) {
+    Objects.requireNonNull(mapper);
+
+    return new MappedListStream<>(source, new Mapping<>(mapper), () -> new Mapping<>(mapper));
+  }
+
+  public static <E> ValueStream<ListChange<E>> filterList(ValueStream<ListChange<E>> source, Predicate<? super E> predicate) {
+    Objects.requireNonNull(predicate);
+
+    return new BaseValueStream<>(
+      stateful(source, new Filtering<E>(predicate)),
+      source,
+      (change, emitter) -> emitter.emit(new Filtering<E>(predicate).apply(change))
+    );
+  }
+
+  public static <E> ValueStream<Integer> count(ValueStream<ListChange<E>> source) {
+    return new AggregateStream<>(source, Count::new);
+  }
+
+  public static <E> ValueStream<Long> sumLong(ValueStream<ListChange<E>> source, ToLongFunction<? super E> valueExtractor) {
+    Objects.requireNonNull(valueExtractor);
+
+    return new AggregateStream<>(mapList(source, valueExtractor::applyAsLong), LongSum::new);
+  }
+
+  public static <E> ValueStream<Double> sumDouble(ValueStream<ListChange<E>> source, ToDoubleFunction<? super E> valueExtractor) {
+    Objects.requireNonNull(valueExtractor);
+
+    return new AggregateStream<>(mapList(source, valueExtractor::applyAsDouble), DoubleSum::new);
+  }
+
+  public static <E, K extends Comparable<? super K>> ValueStream<K> min(ValueStream<ListChange<E>> source, Function<? super E, ? extends K> keyExtractor) {
+    return new AggregateStream<>(mapList(source, keyExtractor), () -> new Extreme<K>(true));
+  }
+
+  public static <E, K extends Comparable<? super K>> ValueStream<K> max(ValueStream<ListChange<E>> source, Function<? super E, ? extends K> keyExtractor) {
+    return new AggregateStream<>(mapList(source, keyExtractor), () -> new Extreme<K>(false));
+  }
+
+  private static <E> Subscriber<ListChange<E>> subscriber(ObservableList<E> list) {
+    Objects.requireNonNull(list);
+
+    return emitter -> {
+      ListChangeListener<E> listener = c -> emitter.emit(ListChange.of(c));
+
+      list.addListener(listener);
+
+      return () -> list.removeListener(listener);
+    };
+  }
+
+  /*
+   * The state is only valid while subscribed, as it must track the list the source
+   * describes. Value stream sources supply the current list as their first change
+   * when subscribed to, which is applied to the (empty) state as any other change.
+   * Changes which do not affect the resulting list are not emitted.
+   */
+
+  private static <E, R> Subscriber<ListChange<R>> stateful(ValueStream<ListChange<E>> source, State<E, R> state) {
+    return emitter -> {
+      Subscription subscription = source.subscribe(change -> {
+        ListChange<R> result = state.apply(change);
+
+        if(!result.getSteps().isEmpty()) {
+          emitter.emit(result);
+        }
+      });
+
+      return () -> {
+        subscription.unsubscribe();
+        state.clear();
+      };
+    };
+  }
+
+  private interface State<E, R> {
+    ListChange<R> apply(ListChange<E> change);
+    void clear();
+  }
+
+  private static class MappedListStream<E, R> extends BaseValueStream<ListChange<E>, ListChange<R>> {
+    private final Mapping<E, R> mapping;
+
+    MappedListStream(ValueStream<ListChange<E>> source, Mapping<E, R> mapping, Supplier<Mapping<E, R>> mappingFactory) {
+      super(stateful(source, mapping), source, (change, emitter) -> emitter.emit(mappingFactory.get().apply(change)));
+
+      this.mapping = mapping;
+    }
+
+    @Override
+    public OptionalValue<ListChange<R>> getInitialValue() {
+      return mapping.active ? OptionalValue.of(ListChange.ofAdded(mapping.mappedElements)) : super.getInitialValue();
+    }
+  }
+
+  /**
+   * Keeps the mapped elements, so the mapper is only called for added or
+   * updated elements and removed elements are the same as previously emitted.
+   */
+  private static class Mapping<E, R> implements State<E, R> {
+    final Function<? super E, ? extends R> mapper;
+    final List<R> mappedElements = new ArrayList<>();
+
+    boolean active;
+
+    Mapping(Function<? super E, ? extends R> mapper) {
+      this.mapper = mapper;
+    }
+
+    @Override
+    public ListChange<R> apply(ListChange<E> change) {
+      List<Step<R>> steps = new ArrayList<>();
+
+      active = true;
+
+      for(Step<E> step : change.getSteps()) {
+        int from = step.getFrom();
+
+        switch(step.getType()) {
+        case PERMUTATION:
+          List<R> original = new ArrayList<>(mappedElements.subList(from, step.getTo()));
+
+          for(int i = from; i < step.getTo(); i++) {
+            mappedElements.set(step.getPermutation(i), original.get(i - from));
+          }
+
+          int[] permutation = new int[original.size()];
+
+          for(int i = 0; i < permutation.length; i++) {
+            permutation[i] = step.getPermutation(from + i);
+          }
+
+          steps.add(Step.permutation(from, permutation));
+          break;
+        case UPDATE:  // an updated element can map to a different element, so this becomes a replacement
+        case REPLACEMENT:
+          int removedCount = step.getType() == ListChange.Type.UPDATE ? step.getAdded().size() : step.getRemoved().size();
+          List<R> removedRange = mappedElements.subList(from, from + removedCount);
+          List<R> removed = new ArrayList<>(removedRange);
+          List<R> added = new ArrayList<>(step.getAdded().size());
+
+          removedRange.clear();
+
+          for(E element : step.getAdded()) {
+            added.add(mapper.apply(element));
+          }
+
+          mappedElements.addAll(from, added);
+          steps.add(Step.replacement(from, removed, added));
+          break;
+        }
+      }
+
+      return ListChange.of(steps);
+    }
+
+    @Override
+    public void clear() {
+      mappedElements.clear();
+      active = false;
+    }
+  }
+
+  /**
+   * Keeps track of which elements of the source list are included, which allows
+   * translating source indices to filtered indices in O(log n).
+   */
+  private static class Filtering<E> implements State<E, E> {
+    final Predicate<? super E> predicate;
+    final RankedBooleanList included = new RankedBooleanList();
+
+    Filtering(Predicate<? super E> predicate) {
+      this.predicate = predicate;
+    }
+
+    @Override
+    public ListChange<E> apply(ListChange<E> change) {
+      List<Step<E>> steps = new ArrayList<>();
+
+      for(Step<E> step : change.getSteps()) {
+        switch(step.getType()) {
+        case PERMUTATION:
+          applyPermutation(step, steps);
+          break;
+        case UPDATE:
+          applyUpdate(step, steps);
+          break;
+        case REPLACEMENT:
+          applyReplacement(step, steps);
+          break;
+        }
+      }
+
+      return ListChange.of(steps);
+    }
+
+    private void applyReplacement(Step<E> step, List<Step<E>> steps) {
+      int from = step.getFrom();
+      int filteredFrom = included.countTrue(from);
+      List<E> removed = new ArrayList<>();
+      List<E> added = new ArrayList<>();
+
+      for(E element : step.getRemoved()) {
+        if(included.remove(from)) {
+          removed.add(element);
+        }
+      }
+
+      int index = from;
+
+      for(E element : step.getAdded()) {
+        boolean matches = predicate.test(element);
+
+        included.add(index++, matches);
+
+        if(matches) {
+          added.add(element);
+        }
+      }
+
+      if(!removed.isEmpty() || !added.isEmpty()) {
+        steps.add(Step.replacement(filteredFrom, removed, added));
+      }
+    }
+
+    private void applyPermutation(Step<E> step, List<Step<E>> steps) {
+      int from = step.getFrom();
+      int size = step.getTo() - from;
+      boolean[] oldIncluded = new boolean[size];
+      boolean[] newIncluded = new boolean[size];
+
+      for(int i = 0; i < size; i++) {
+        oldIncluded[i] = included.get(from + i);
+        newIncluded[step.getPermutation(from + i) - from] = oldIncluded[i];
+      }
+
+      int[] newRanks = new int[size];
+      int count = 0;
+
+      for(int i = 0; i < size; i++) {
+        included.set(from + i, newIncluded[i]);
+        newRanks[i] = count;
+        count += newIncluded[i] ? 1 : 0;
+      }
+
+      if(count == 0) {
+        return;
+      }
+
+      int filteredFrom = included.countTrue(from);
+      int[] permutation = new int[count];
+      int rank = 0;
+
+      for(int i = 0; i < size; i++) {
+        if(oldIncluded[i]) {
+          permutation[rank++] = filteredFrom + newRanks[step.getPermutation(from + i) - from];
+        }
+      }
+
+      steps.add(Step.permutation(filteredFrom, permutation));
+    }
+
+    private void applyUpdate(Step<E> step, List<Step<E>> steps) {
+      int index = step.getFrom();
+
+      for(E element : step.getAdded()) {
+        boolean wasIncluded = included.get(index);
+        boolean matches = predicate.test(element);
+        int filteredIndex = included.countTrue(index);
+
+        if(wasIncluded && matches) {
+          steps.add(Step.update(filteredIndex, Collections.singletonList(element)));
+        }
+        else if(wasIncluded) {
+          steps.add(Step.replacement(filteredIndex, Collections.singletonList(element), List.of()));
+        }
+        else if(matches) {
+          steps.add(Step.replacement(filteredIndex, List.of(), Collections.singletonList(element)));
+        }
+
+        included.set(index++, matches);
+      }
+    }
+
+    @Override
+    public void clear() {
+      included.clear();
+    }
+  }
+
+  /**
+   * A value stream of an aggregate of the elements of a list. While subscribed, the
+   * aggregate is updated with each change and only emitted when it changed. When not
+   * subscribed, the aggregate is computed from the current contents of the list.
+   */
+  private static class AggregateStream<E, A> extends BaseValueStream<ListChange<E>, A> {
+    private final Aggregator<E, A> aggregator;
+
+    AggregateStream(ValueStream<ListChange<E>> source, Supplier<Aggregator<E, A>> aggregatorFactory) {
+      this(source, aggregatorFactory, aggregatorFactory.get());
+    }
+
+    private AggregateStream(ValueStream<ListChange<E>> source, Supplier<Aggregator<E, A>> aggregatorFactory, Aggregator<E, A> aggregator) {
+      super(
+        emitter -> {
+          aggregator.active = true;
+
+          Subscription subscription = source.subscribe(change -> {
+            A oldValue = aggregator.get();
+
+            aggregator.apply(change);
+
+            A newValue = aggregator.get();
+
+            if(!Objects.equals(oldValue, newValue)) {
+              emitter.emit(newValue);
+            }
+          });
+
+          return () -> {
+            subscription.unsubscribe();
+            aggregator.active = false;
+            aggregator.clear();
+          };
+        },
+        source,
+        (change, emitter) -> {
+          Aggregator<E, A> fresh = aggregatorFactory.get();
+
+          fresh.apply(change);
+          emitter.emit(fresh.get());
+        }
+      );
+
+      this.aggregator = aggregator;
+    }
+
+    @Override
+    public OptionalValue<A> getInitialValue() {
+      return aggregator.active ? OptionalValue.of(aggregator.get()) : super.getInitialValue();
+    }
+  }
+
+  private static abstract class Aggregator<E, A> {
+    boolean active;
+
+    abstract void apply(ListChange<E> change);
+    abstract A get();
+    abstract void clear();
+  }
+
+  private static class Count<E> extends Aggregator<E, Integer> {
+    private int count;
+
+    @Override
+    void apply(ListChange<E> change) {
+      for(Step<E> step : change.getSteps()) {
+        if(step.getType() == ListChange.Type.REPLACEMENT) {
+          count += step.getAdded().size() - step.getRemoved().size();
+        }
+      }
+    }
+
+    @Override
+    Integer get() {
+      return count;
+    }
+
+    @Override
+    void clear() {
+      count = 0;
+    }
+  }
+
+  /*
+   * The aggregators below receive the changes of a mapped list, in which updates
+   * are replacements containing the previously mapped value, so only replacement
+   * steps need to be handled.
+   */
+
+  private static class LongSum extends Aggregator<Long, Long> {
+    private long sum;
+
+    @Override
+    void apply(ListChange<Long> change) {
+      for(Step<Long> step : change.getSteps()) {
+        for(long value : step.getRemoved()) {
+          sum -= value;
+        }
+
+        for(long value : step.getAdded()) {
+          sum += value;
+        }
+      }
+    }
+
+    @Override
+    Long get() {
+      return sum;
+    }
+
+    @Override
+    void clear() {
+      sum = 0;
+    }
+  }
+
+  /**
+   * Sums doubles using Neumaier's compensated summation, to avoid accumulating
+   * rounding errors when values are repeatedly added and subtracted.<p>
+   *
+   * Non-finite values are counted separately instead of being summed, as
+   * once summed their effect could not be undone when they are removed.
+   */
+  private static class DoubleSum extends Aggregator<Double, Double> {
+    private double sum;
+    private double compensation;
+    private int nanCount;
+    private int positiveInfinityCount;
+    private int negativeInfinityCount;
+
+    @Override
+    void apply(ListChange<Double> change) {
+      for(Step<Double> step : change.getSteps()) {
+        for(double value : step.getRemoved()) {
+          add(value, -1);
+        }
+
+        for(double value : step.getAdded()) {
+          add(value, 1);
+        }
+      }
+    }
+
+    private void add(double value, int sign) {
+      if(Double.isNaN(value)) {
+        nanCount += sign;
+      }
+      else if(value == Double.POSITIVE_INFINITY) {
+        positiveInfinityCount += sign;
+      }
+      else if(value == Double.NEGATIVE_INFINITY) {
+        negativeInfinityCount += sign;
+      }
+      else {
+        double v = sign * value;
+        double t = sum + v;
+
+        compensation += Math.abs(sum) >= Math.abs(v) ? (sum - t) + v : (v - t) + sum;
+        sum = t;
+      }
+    }
+
+    @Override
+    Double get() {
+      if(nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+        return Double.NaN;
+      }
+
+      if(positiveInfinityCount > 0) {
+        return Double.POSITIVE_INFINITY;
+      }
+
+      if(negativeInfinityCount > 0) {
+        return Double.NEGATIVE_INFINITY;
+      }
+
+      return sum + compensation;
+    }
+
+    @Override
+    void clear() {
+      sum = 0;
+      compensation = 0;
+      nanCount = 0;
+      positiveInfinityCount = 0;
+      negativeInfinityCount = 0;
+    }
+  }
+
+  /**
+   * Tracks the smallest or largest key using a sorted multiset. Null keys are ignored.
+   */
+  private static class Extreme<K extends Comparable<? super K>> extends Aggregator<K, K> {
+    private final TreeMap<K, Integer> counts = new TreeMap<>();
+    private final boolean smallest;
+
+    Extreme(boolean smallest) {
+      this.smallest = smallest;
+    }
+
+    @Override
+    void apply(ListChange<K> change) {
+      for(Step<K> step : change.getSteps()) {
+        for(K key : step.getRemoved()) {
+          if(key != null) {
+            counts.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+          }
+        }
+
+        for(K key : step.getAdded()) {
+          if(key != null) {
+            counts.merge(key, 1, Integer::sum);
+          }
+        }
+      }
+    }
+
+    @Override
+    K get() {
+      return counts.isEmpty() ? null : smallest ? counts.firstKey() : counts.lastKey();
+    }
+
+    @Override
+    void clear() {
+      counts.clear();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.LongEventStream;
+import hs.jfx.eventstream.api.LongObservableStream;
+import hs.jfx.eventstream.api.LongSubscriber;
+import hs.jfx.eventstream.api.LongValueStream;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableLongValue;
+
+/**
+ * Operations on streams of primitive {@code long} values. None of the stages
+ * created here box the values passing through them, with the exception of
+ * the bridges to regular streams.
+ */
+public abstract class LongStreams {
+
+  public static LongEventStream event(ObservableLongValue observable) {
+    return new BaseLongEventStream(subscriber(observable));
+  }
+
+  public static LongValueStream value(ObservableLongValue observable) {
+    return new BaseLongValueStream(subscriber(observable), observable::get);
+  }
+
+  public static LongEventStream filter(LongObservableStream source, LongPredicate predicate) {
+    Objects.requireNonNull(predicate);
+
+    return new BaseLongEventStream(emitter -> source.subscribe(v -> {
+      if(predicate.test(v)) {
+        emitter.emit(v);
+      }
+    }));
+  }
+
+  public static LongEventStream mapEvent(LongObservableStream source, LongUnaryOperator mapper) {
+    Objects.requireNonNull(mapper);
+
+    return new BaseLongEventStream(emitter -> source.subscribe(v -> emitter.emit(mapper.applyAsLong(v))));
+  }
+
+  public static LongValueStream mapValue(LongValueStream source, LongUnaryOperator mapper) {
+    Objects.requireNonNull(mapper);
+
+    return new BaseLongValueStream(emitter -> source.subscribe(v -> emitter.emit(mapper.applyAsLong(v))), () -> mapper.applyAsLong(source.getInitialValue()));
+  }
+
+  public static LongEventStream peekEvent(LongObservableStream source, LongConsumer sideEffect) {
+    return new BaseLongEventStream(peekSubscriber(source, Objects.requireNonNull(sideEffect)));
+  }
+
+  public static LongValueStream peekValue(LongValueStream source, LongConsumer sideEffect) {
+    return new BaseLongValueStream(peekSubscriber(source, Objects.requireNonNull(sideEffect)), source::getInitialValue);
+  }
+
+  public static <U> EventStream<U> mapToObjEvent(LongObservableStream source, LongFunction<? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+
+    return RootEventStream.of(emitter -> source.subscribe(v -> emitter.emit(mapper.apply(v))));
+  }
+
+  public static <U> ValueStream<U> mapToObjValue(LongValueStream source, LongFunction<? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+
+    return RootValueStream.of(emitter -> source.subscribe(v -> emitter.emit(mapper.apply(v))), () -> mapper.apply(source.getInitialValue()));
+  }
+
+  public static LongValueStream withDefault(LongObservableStream source, long value) {
+    return new BaseLongValueStream(emitter -> source.subscribe(emitter::emit), () -> value);
+  }
+
+  private static LongSubscriber subscriber(ObservableLongValue observable) {
+    Objects.requireNonNull(observable);
+
+    /*
+     * A ChangeListener would box every value, so an InvalidationListener is used
+     * instead which reads the primitive value directly. As an invalidation does
+     * not imply a change, the last value is tracked to only emit actual changes.
+     */
+
+    return emitter -> {
+      InvalidationListener listener = new InvalidationListener() {
+        private long lastValue = observable.get();
+
+        @Override
+        public void invalidated(Observable obs) {
+          long value = observable.get();
+
+          if(value != lastValue) {
+            lastValue = value;
+            emitter.emit(value);
+          }
+        }
+      };
+
+      observable.addListener(listener);
+
+      return () -> observable.removeListener(listener);
+    };
+  }
+
+  private static LongSubscriber peekSubscriber(LongObservableStream source, LongConsumer sideEffect) {
+    return emitter -> source.subscribe(new LongConsumer() {
+      private boolean sideEffectInProgress = false;
+
+      @Override
+      public void accept(long value) {
+        if(sideEffectInProgress) {
+          throw new IllegalStateException("Side effect is not allowed to cause recursive event emission");
+        }
+
+        sideEffectInProgress = true;
+
+        try {
+          sideEffect.accept(value);
+        }
+        finally {
+          sideEffectInProgress = false;
+        }
+
+        emitter.emit(value);
+      }
+    });
+  }
+}
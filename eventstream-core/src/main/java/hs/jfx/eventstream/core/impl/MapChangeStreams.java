@@ -0,0 +1,60 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.MapChange;
+
+import java.util.Objects;
+
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+
+/**
+ * Streams of the changes of an {@link ObservableMap}.
+ */
+public abstract class MapChangeStreams {
+
+  public static <K, V> EventStream<MapChange<K, V>> event(ObservableMap<K, V> map) {
+    Objects.requireNonNull(map);
+
+    return RootEventStream.of(emitter -> {
+      MapChangeListener<K, V> listener = c -> emitter.emit(MapChange.of(c));
+
+      map.addListener(listener);
+
+      return () -> map.removeListener(listener);
+    });
+  }
+
+  public static <K, V> ValueStream<V> ofKey(ObservableMap<K, V> map, K key) {
+    Objects.requireNonNull(map);
+
+    return RootValueStream.of(
+      emitter -> KeyIndex.of(map, () -> new MapKeyIndex<>(map)).subscribe(key, () -> emitter.emit(map.get(key))),
+      () -> map.get(key)
+    );
+  }
+
+  private static class MapKeyIndex<K, V> extends KeyIndex<K> implements MapChangeListener<K, V> {
+    private final ObservableMap<K, V> map;
+
+    MapKeyIndex(ObservableMap<K, V> map) {
+      this.map = map;
+    }
+
+    @Override
+    void register() {
+      map.addListener(this);
+    }
+
+    @Override
+    void unregister() {
+      map.removeListener(this);
+    }
+
+    @Override
+    public void onChanged(Change<? extends K, ? extends V> change) {
+      dispatch(change.getKey());
+    }
+  }
+}
@@ -3,7 +3,6 @@ package hs.jfx.eventstream.core.impl;
 import hs.jfx.eventstream.api.ChangeStream;
 import hs.jfx.eventstream.api.EventStream;
 import hs.jfx.eventstream.api.ObservableStream;
-import hs.jfx.eventstream.api.OptionalValue;
 import hs.jfx.eventstream.api.Subscriber;
 import hs.jfx.eventstream.api.ValueStream;
 
@@ -35,14 +34,20 @@ public abstract class MapStreams {
   }
 
   private static <S, T> Operator<S, T> nullSafeOperator(Function<? super S, ? extends T> mapper, Supplier<? extends T> nullReplacement) {
-    return value -> OptionalValue.of(value == null ? nullReplacement.get() : mapper.apply(value));
+    return (value, emitter) -> emitter.emit(value == null ? nullReplacement.get() : mapper.apply(value));
   }
 
   private static <S, T> Operator<S, T> nullRejectingOperator(Function<? super S, ? extends T> mapper) {
-    return value -> OptionalValue.ofNullable(mapper.apply(value));
+    return (value, emitter) -> {
+      T result = mapper.apply(value);
+
+      if(result != null) {
+        emitter.emit(result);
+      }
+    };
   }
 
   private static <S, T> Subscriber<T> subscriber(ObservableStream<S> source, Operator<S, T> operator) {
-    return emitter -> source.subscribe(value -> operator.operate(value).ifPresent(emitter::emit));
+    return FusableSubscriber.of(source, emitter -> value -> operator.operate(value, emitter));
   }
 }
\ No newline at end of file
@@ -1,17 +1,58 @@
 package hs.jfx.eventstream.core.impl;
 
+import hs.jfx.eventstream.api.Emitter;
 import hs.jfx.eventstream.api.OptionalValue;
 
 public interface Operator<S, T> {
 
+  /**
+   * Returns an {@link Operator} which emits its input unchanged.
+   *
+   * @param <T> the type of values
+   * @return an {@link Operator} which emits its input unchanged, never null
+   */
+  static <T> Operator<T, T> identity() {
+    return (value, emitter) -> emitter.emit(value);
+  }
+
+  /**
+   * Performs a single operation on the given value and emits the result
+   * to the given {@link Emitter}.<p>
+   *
+   * It's possible that there is no result, in which case nothing is emitted.
+   * Note that {@code null} is a valid result. At most one result is emitted.
+   *
+   * @param value a source value
+   * @param emitter an {@link Emitter} which receives the result, if any, cannot be null
+   */
+  void operate(S value, Emitter<T> emitter);
+
   /**
    * Performs a single operation on the given value and returns the result.<p>
    *
    * It's possible that there is no result, in which case the returned {@link OptionalValue}
-   * will be empty. Note that {@code null} is a valid non-empty result.
+   * will be empty. Note that {@code null} is a valid non-empty result.<p>
+   *
+   * Unlike {@link #operate(Object, Emitter)} this allocates, and so should not be used
+   * for emitting values.
    *
    * @param value a source value
    * @return an {@link OptionalValue}, never null
    */
-  OptionalValue<T> operate(S value);
+  default OptionalValue<T> apply(S value) {
+    class Result implements Emitter<T> {
+      OptionalValue<T> value = OptionalValue.empty();
+
+      @Override
+      public void emit(T value) {
+        this.value = OptionalValue.of(value);
+      }
+    }
+
+    Result result = new Result();
+
+    operate(value, result);
+
+    return result.value;
+  }
 }
@@ -4,9 +4,7 @@ import hs.jfx.eventstream.api.ChangeStream;
 import hs.jfx.eventstream.api.Emitter;
 import hs.jfx.eventstream.api.EventStream;
 import hs.jfx.eventstream.api.ObservableStream;
-import hs.jfx.eventstream.api.OptionalValue;
 import hs.jfx.eventstream.api.Subscriber;
-import hs.jfx.eventstream.api.Subscription;
 import hs.jfx.eventstream.api.ValueStream;
 
 import java.util.Objects;
@@ -23,16 +21,23 @@ public abstract class PeekStreams {
   }
 
   public static <T> ValueStream<T> value(ObservableStream<T> source, Consumer<? super T> sideEffect) {
-    return new BaseValueStream<>(subscriber(source, Objects.requireNonNull(sideEffect)), source, OptionalValue::of);
+    return new BaseValueStream<>(subscriber(source, Objects.requireNonNull(sideEffect)), source, Operator.identity());
   }
 
   private static <T> Subscriber<T> subscriber(ObservableStream<T> source, Consumer<? super T> sideEffect) {
-    return new Subscriber<>() {
+
+    /*
+     * The side effect must be called exactly once for each value this stream emits.
+     * This stage can therefore not be bypassed by a stage following it, as the side
+     * effect would be called twice if this stream also had observers of its own.
+     */
+
+    return FusableSubscriber.nonBypassable(source, new FusableSubscriber.Stage<T, T>() {
       private boolean sideEffectInProgress = false;
 
       @Override
-      public Subscription subscribe(Emitter<T> emitter) {
-        return source.subscribe(t -> {
+      public Emitter<T> link(Emitter<T> emitter) {
+        return t -> {
           if(sideEffectInProgress) {
             throw new IllegalStateException("Side effect is not allowed to cause recursive event emission");
           }
@@ -47,8 +52,8 @@ public abstract class PeekStreams {
           }
 
           emitter.emit(t);
-        });
+        };
       }
-    };
+    });
   }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Scheduler;
+import hs.jfx.eventstream.api.Subscription;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * A {@link Scheduler} which runs actions on the first JavaFX pulse after their
+ * delay has elapsed. Actions are run during the animation phase of the pulse,
+ * before CSS and layout are processed, so any changes they make are visible in
+ * the same frame.<p>
+ *
+ * A single {@link AnimationTimer} is shared by all actions, which is only
+ * running while actions are pending.
+ */
+public class PulseScheduler implements Scheduler {
+  public static final Scheduler INSTANCE = new PulseScheduler();
+
+  private final AnimationTimer timer = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      runDueActions();
+    }
+  };
+
+  private List<Action> actions = new ArrayList<>();
+
+  private PulseScheduler() {
+  }
+
+  @Override
+  public Subscription schedule(Duration delay, Runnable runnable) {
+    Action action = new Action(System.nanoTime() + delay.toNanos(), Objects.requireNonNull(runnable));
+
+    if(actions.isEmpty()) {
+      timer.start();
+    }
+
+    actions.add(action);
+
+    return () -> action.cancelled = true;
+  }
+
+  private void runDueActions() {
+    List<Action> currentActions = actions;
+    long now = System.nanoTime();
+
+    actions = new ArrayList<>();  // actions scheduled by running actions are run on a later pulse
+
+    for(Action action : currentActions) {
+      if(!action.cancelled) {
+        if(action.time <= now) {
+          try {
+            action.runnable.run();
+          }
+          catch(Exception e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+          }
+        }
+        else {
+          actions.add(action);
+        }
+      }
+    }
+
+    if(actions.isEmpty()) {
+      timer.stop();
+    }
+  }
+
+  private static class Action {
+    final long time;
+    final Runnable runnable;
+
+    boolean cancelled;
+
+    Action(long time, Runnable runnable) {
+      this.time = time;
+      this.runnable = runnable;
+    }
+  }
+}
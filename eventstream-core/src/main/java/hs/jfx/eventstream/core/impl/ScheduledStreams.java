@@ -0,0 +1,251 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Emitter;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Scheduler;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Provides subscribers for stages which emit values at times determined by a
+ * {@link Scheduler}. At most one action is scheduled per subscription at any
+ * time, and it is cancelled when the subscription is cancelled.
+ */
+public abstract class ScheduledStreams {
+
+  public static <T> Subscriber<T> debounce(ObservableStream<T> source, Duration duration, Scheduler scheduler) {
+    requireNotNegative(duration);
+    Objects.requireNonNull(scheduler);
+
+    return emitter -> new ScheduledSubscription<>(source, scheduler, emitter) {
+      @Override
+      void accept(T value) {
+        storeLatestValue(value);
+        cancelTimer();
+        startTimer(duration);
+      }
+
+      @Override
+      void timerExpired() {
+        emitLatestValue();
+      }
+    }.start();
+  }
+
+  public static <T> Subscriber<T> throttleFirst(ObservableStream<T> source, Duration duration, Scheduler scheduler) {
+    requireNotNegative(duration);
+    Objects.requireNonNull(scheduler);
+
+    return emitter -> new ScheduledSubscription<>(source, scheduler, emitter) {
+      @Override
+      void accept(T value) {
+        if(!isTimerStarted()) {
+          startTimer(duration);
+          emitter.emit(value);
+        }
+      }
+
+      @Override
+      void timerExpired() {
+      }
+    }.start();
+  }
+
+  public static <T> Subscriber<T> throttleLast(ObservableStream<T> source, Duration duration, Scheduler scheduler) {
+    requireNotNegative(duration);
+    Objects.requireNonNull(scheduler);
+
+    return emitter -> new ScheduledSubscription<>(source, scheduler, emitter) {
+      @Override
+      void accept(T value) {
+        storeLatestValue(value);
+
+        if(!isTimerStarted()) {
+          startTimer(duration);
+        }
+      }
+
+      @Override
+      void timerExpired() {
+        emitLatestValue();
+      }
+    }.start();
+  }
+
+  public static <T> Subscriber<T> sample(ObservableStream<T> source, Duration interval, Scheduler scheduler) {
+    if(requireNotNegative(interval).isZero()) {
+      throw new IllegalArgumentException("interval must be positive: " + interval);
+    }
+
+    Objects.requireNonNull(scheduler);
+
+    return emitter -> new ScheduledSubscription<>(source, scheduler, emitter) {
+      @Override
+      void started() {
+        startTimer(interval);
+      }
+
+      @Override
+      void accept(T value) {
+        storeLatestValue(value);
+      }
+
+      @Override
+      void timerExpired() {
+        startTimer(interval);
+        emitLatestValue();
+      }
+    }.start();
+  }
+
+  public static <T> Subscriber<T> coalesce(ObservableStream<T> source, Scheduler scheduler) {
+    Objects.requireNonNull(scheduler);
+
+    return emitter -> new ScheduledSubscription<>(source, scheduler, emitter) {
+      private boolean subscribed;
+      private T lastEmittedValue;
+
+      @Override
+      void started() {
+        subscribed = true;
+      }
+
+      @Override
+      void accept(T value) {
+
+        /*
+         * The value received while subscribing to a value stream is the value new
+         * observers receive directly, and so only needs to be remembered.
+         */
+
+        if(!subscribed) {
+          lastEmittedValue = value;
+          return;
+        }
+
+        storeLatestValue(value);
+
+        if(!isTimerStarted()) {
+          startTimer(Duration.ZERO);
+        }
+      }
+
+      @Override
+      void timerExpired() {
+        T value = takeLatestValue();
+
+        if(!Objects.equals(value, lastEmittedValue)) {
+          lastEmittedValue = value;
+          emitter.emit(value);
+        }
+      }
+    }.start();
+  }
+
+  private static Duration requireNotNegative(Duration duration) {
+    if(Objects.requireNonNull(duration).isNegative()) {
+      throw new IllegalArgumentException("duration cannot be negative: " + duration);
+    }
+
+    return duration;
+  }
+
+  /**
+   * Base class for subscriptions which schedule actions. The source is only subscribed
+   * when {@link #start()} is called, after construction has completed, as subclasses may
+   * receive values while subscribing.
+   *
+   * @param <T> the type of values
+   */
+  private static abstract class ScheduledSubscription<T> implements Subscription {
+    private final ObservableStream<T> source;
+    private final Scheduler scheduler;
+    private final Emitter<T> emitter;
+
+    private Subscription sourceSubscription = Subscription.EMPTY;
+
+    private Subscription timer;
+    private T latestValue;
+    private boolean hasLatestValue;
+
+    ScheduledSubscription(ObservableStream<T> source, Scheduler scheduler, Emitter<T> emitter) {
+      this.source = source;
+      this.scheduler = scheduler;
+      this.emitter = emitter;
+    }
+
+    /**
+     * Subscribes to the source and then calls {@link #started()}.
+     *
+     * @return this subscription, never null
+     */
+    final Subscription start() {
+      sourceSubscription = source.subscribe(this::accept);
+
+      started();
+
+      return this;
+    }
+
+    /**
+     * Called after subscribing to the source. Values the source supplies while
+     * subscribing, like the current value of a value stream, are received before
+     * this is called.
+     */
+    void started() {
+    }
+
+    abstract void accept(T value);
+
+    abstract void timerExpired();
+
+    final boolean isTimerStarted() {
+      return timer != null;
+    }
+
+    final void startTimer(Duration delay) {
+      timer = scheduler.schedule(delay, () -> {
+        timer = null;
+        timerExpired();
+      });
+    }
+
+    final void cancelTimer() {
+      if(timer != null) {
+        timer.unsubscribe();
+        timer = null;
+      }
+    }
+
+    final void storeLatestValue(T value) {
+      latestValue = value;
+      hasLatestValue = true;
+    }
+
+    final void emitLatestValue() {
+      if(hasLatestValue) {
+        emitter.emit(takeLatestValue());
+      }
+    }
+
+    final T takeLatestValue() {
+      T value = latestValue;
+
+      latestValue = null;  // don't keep a reference to the value
+      hasLatestValue = false;
+
+      return value;
+    }
+
+    @Override
+    public void unsubscribe() {
+      cancelTimer();
+      sourceSubscription.unsubscribe();
+      latestValue = null;
+      hasLatestValue = false;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscription;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * A {@link Subscription} which only observes a stream while the value of a scope
+ * matches a condition. Unsubscribing stops observing both the stream and the scope.
+ *
+ * @param <S> the type of the scope's value
+ * @param <T> the type of values emitted by the stream
+ */
+public class ScopedSubscription<S, T> implements Subscription {
+  private final ObservableStream<T> stream;
+  private final ObservableValue<S> scope;
+  private final Predicate<? super S> condition;
+  private final Consumer<? super T> subscriber;
+  private final ChangeListener<S> listener = (obs, old, current) -> update(current);
+
+  private boolean observing;
+
+  public ScopedSubscription(ObservableStream<T> stream, ObservableValue<S> scope, Predicate<? super S> condition, Consumer<? super T> subscriber) {
+    this.stream = Objects.requireNonNull(stream, "stream cannot be null");
+    this.scope = Objects.requireNonNull(scope, "scope cannot be null");
+    this.condition = Objects.requireNonNull(condition, "condition cannot be null");
+    this.subscriber = Objects.requireNonNull(subscriber, "subscriber cannot be null");
+
+    scope.addListener(listener);
+
+    update(scope.getValue());
+  }
+
+  private void update(S value) {
+    boolean active = condition.test(value);
+
+    if(active && !observing) {
+      observing = true;
+      stream.addObserver(subscriber);
+    }
+    else if(!active && observing) {
+      observing = false;
+      stream.removeObserver(subscriber);
+    }
+  }
+
+  @Override
+  public void unsubscribe() {
+    scope.removeListener(listener);
+
+    if(observing) {
+      observing = false;
+      stream.removeObserver(subscriber);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.SetChange;
+
+import java.util.Objects;
+
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * Streams of the changes of an {@link ObservableSet}.
+ */
+public abstract class SetChangeStreams {
+
+  public static <E> EventStream<SetChange<E>> event(ObservableSet<E> set) {
+    Objects.requireNonNull(set);
+
+    return RootEventStream.of(emitter -> {
+      SetChangeListener<E> listener = c -> emitter.emit(SetChange.of(c));
+
+      set.addListener(listener);
+
+      return () -> set.removeListener(listener);
+    });
+  }
+
+  public static <E> ValueStream<Boolean> contains(ObservableSet<E> set, E element) {
+    Objects.requireNonNull(set);
+
+    return RootValueStream.of(
+      emitter -> KeyIndex.of(set, () -> new SetKeyIndex<>(set)).subscribe(element, () -> emitter.emit(set.contains(element))),
+      () -> set.contains(element)
+    );
+  }
+
+  private static class SetKeyIndex<E> extends KeyIndex<E> implements SetChangeListener<E> {
+    private final ObservableSet<E> set;
+
+    SetKeyIndex(ObservableSet<E> set) {
+      this.set = set;
+    }
+
+    @Override
+    void register() {
+      set.addListener(this);
+    }
+
+    @Override
+    void unregister() {
+      set.removeListener(this);
+    }
+
+    @Override
+    public void onChanged(Change<? extends E> change) {
+      dispatch(change.wasAdded() ? change.getElementAdded() : change.getElementRemoved());
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.ListHelper;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Manages a single shared {@link ChangeListener} per {@link ObservableValue} for
+ * all streams observing it.<p>
+ *
+ * Instead of each stream registering its own listener, listeners are added to
+ * a shared root which is registered with the observable only while it has
+ * listeners itself. Changes are then dispatched to the listeners of the root
+ * without going through the observable's own listener management.<p>
+ *
+ * Roots are kept in a weakly keyed cache which also only weakly refers to the roots
+ * themselves; a root in use is kept alive by the observable it is registered with,
+ * and so does not prevent the observable, or the streams observing it, from being
+ * garbage collected.
+ */
+public abstract class SharedRoots {
+  private static final Map<ObservableValue<?>, WeakReference<Root<?>>> ROOTS = new WeakHashMap<>();
+
+  /**
+   * Adds a {@link ChangeListener} to the shared root of the given {@link ObservableValue}.
+   *
+   * @param <T> the type of values of the observable
+   * @param observable an {@link ObservableValue}, cannot be null
+   * @param listener a {@link ChangeListener}, cannot be null
+   * @return a {@link Subscription} which removes the listener again, never null
+   */
+  public static <T> Subscription addListener(ObservableValue<T> observable, ChangeListener<? super T> listener) {
+    Root<T> root = rootOf(observable);
+
+    root.add(listener);
+
+    return () -> root.remove(listener);
+  }
+
+  private static <T> Root<T> rootOf(ObservableValue<T> observable) {
+    synchronized(ROOTS) {
+      WeakReference<Root<?>> ref = ROOTS.get(observable);
+      Root<?> root = ref == null ? null : ref.get();
+
+      if(root != null && root.observable == observable) {
+        @SuppressWarnings("unchecked")
+        Root<T> castRoot = (Root<T>)root;  // safe, root was created for this observable
+
+        return castRoot;
+      }
+
+      Root<T> newRoot = new Root<>(observable);
+
+      if(root == null) {  // when not null, an equal but different observable is cached already; don't share in that case
+        ROOTS.put(observable, new WeakReference<>(newRoot));
+      }
+
+      return newRoot;
+    }
+  }
+
+  private static class Root<T> implements ChangeListener<T> {
+    private final ObservableValue<T> observable;
+
+    private ListHelper<ChangeListener<? super T>> listeners;
+
+    // values of the change currently being dispatched:
+    private T oldValue;
+    private T currentValue;
+
+    Root(ObservableValue<T> observable) {
+      this.observable = observable;
+    }
+
+    void add(ChangeListener<? super T> listener) {
+      if(ListHelper.isEmpty(listeners)) {
+        observable.addListener(this);
+      }
+
+      listeners = ListHelper.add(listeners, listener);
+    }
+
+    void remove(ChangeListener<? super T> listener) {
+      if(ListHelper.isEmpty(listeners)) {
+        return;
+      }
+
+      listeners = ListHelper.remove(listeners, listener);
+
+      if(ListHelper.isEmpty(listeners)) {
+        observable.removeListener(this);
+      }
+    }
+
+    @Override
+    public void changed(ObservableValue<? extends T> obs, T old, T current) {
+
+      /*
+       * The values are stored in fields so they can be passed to a non-capturing
+       * dispatch function. A listener may change the observable again, causing a
+       * nested dispatch; the previous values are restored afterwards so remaining
+       * listeners of the outer dispatch still receive the change they expect.
+       */
+
+      T previousOldValue = oldValue;
+      T previousCurrentValue = currentValue;
+
+      oldValue = old;
+      currentValue = current;
+
+      try {
+        ListHelper.forEach(listeners, Root::dispatch, this);
+      }
+      finally {
+        oldValue = previousOldValue;
+        currentValue = previousCurrentValue;
+      }
+    }
+
+    private static <T> void dispatch(ChangeListener<? super T> listener, Root<T> root) {
+
+      /*
+       * Exceptions are reported per listener, like JavaFX does for its own listeners,
+       * so a failing stream does not prevent other streams sharing this root from
+       * receiving the change.
+       */
+
+      try {
+        listener.changed(root.observable, root.oldValue, root.currentValue);
+      }
+      catch(Exception e) {
+        Thread currentThread = Thread.currentThread();
+
+        currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package hs.jfx.eventstream.core.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event for an instrumented stream delivering a value to
+ * its observers, including the time spent in streams further down.
+ */
+@Name("hs.jfx.eventstream.StreamEmit")
+@Label("Stream Emit")
+@Category({"JavaFX", "Event Streams"})
+@Description("An instrumented stream delivered a value to its observers")
+@Threshold("100 us")
+@StackTrace(false)
+class StreamEmitEvent extends jdk.jfr.Event {
+
+  @Label("Stream Name")
+  String streamName;
+
+  @Label("Observer Count")
+  int observerCount;
+}
@@ -0,0 +1,29 @@
+package hs.jfx.eventstream.core.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event for an observer being added to an instrumented
+ * stream, including the time spent subscribing to its source if needed.
+ */
+@Name("hs.jfx.eventstream.StreamSubscribe")
+@Label("Stream Subscribe")
+@Category({"JavaFX", "Event Streams"})
+@Description("An observer was added to an instrumented stream")
+@Threshold("100 us")
+class StreamSubscribeEvent extends jdk.jfr.Event {
+
+  @Label("Stream Name")
+  String streamName;
+
+  @Label("Observer Count")
+  int observerCount;
+
+  @Label("Source Subscribed")
+  @Description("Whether the stream subscribed to its source for this observer")
+  boolean sourceSubscribed;
+}
@@ -0,0 +1,273 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.core.debug.LiveSubscription;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks the observers of streams while enabled. Streams and observers are only
+ * referenced weakly, so tracking does not keep anything alive.<p>
+ *
+ * An observer added while another stream is subscribing to its source is assumed
+ * to belong to that stream, which allows reconstructing which streams observe
+ * each other. Other observers are considered subscriptions made by users.
+ */
+public abstract class SubscriptionTracker {
+  private static final Map<BaseObservableStream<?>, List<Record>> RECORDS = new WeakHashMap<>();  // streams do not override equals
+  private static final ThreadLocal<Deque<BaseObservableStream<?>>> SUBSCRIBING = ThreadLocal.withInitial(ArrayDeque::new);
+
+  static volatile boolean enabled;
+
+  private static int stackSampleInterval;
+  private static long subscriptionCount;
+
+  public static void enable(int stackSampleInterval) {
+    if(stackSampleInterval < 0) {
+      throw new IllegalArgumentException("stackSampleInterval cannot be negative: " + stackSampleInterval);
+    }
+
+    synchronized(RECORDS) {
+      SubscriptionTracker.stackSampleInterval = stackSampleInterval;
+      SubscriptionTracker.subscriptionCount = 0;
+      enabled = true;
+    }
+  }
+
+  public static void disable() {
+    synchronized(RECORDS) {
+      enabled = false;
+      RECORDS.clear();
+    }
+  }
+
+  static void beginSubscribing(BaseObservableStream<?> stream) {
+    SUBSCRIBING.get().push(stream);
+  }
+
+  static void endSubscribing() {
+    SUBSCRIBING.get().pop();
+  }
+
+  static void observerAdded(BaseObservableStream<?> stream, Object observer) {
+    BaseObservableStream<?> downstream = SUBSCRIBING.get().peek();
+
+    synchronized(RECORDS) {
+      if(!enabled) {
+        return;
+      }
+
+      boolean sample = stackSampleInterval > 0 && subscriptionCount++ % stackSampleInterval == 0;
+      StackTraceElement[] stackTrace = sample ? new Throwable().getStackTrace() : null;
+
+      RECORDS.computeIfAbsent(stream, k -> new ArrayList<>()).add(new Record(observer, downstream, stackTrace));
+    }
+  }
+
+  static void observerRemoved(BaseObservableStream<?> stream, Object observer) {
+    synchronized(RECORDS) {
+      List<Record> records = RECORDS.get(stream);
+
+      if(records == null) {
+        return;
+      }
+
+      for(Iterator<Record> iterator = records.iterator(); iterator.hasNext();) {
+        if(iterator.next().observer.get() == observer) {
+          iterator.remove();
+          break;
+        }
+      }
+
+      if(records.isEmpty()) {
+        RECORDS.remove(stream);
+      }
+    }
+  }
+
+  public static List<LiveSubscription> findSubscriptionsOlderThan(Duration age) {
+    long maxCreationTime = System.nanoTime() - age.toNanos();
+    List<Record> oldRecords = new ArrayList<>();
+    Map<Record, String> descriptions = new IdentityHashMap<>();
+
+    synchronized(RECORDS) {
+      RECORDS.forEach((stream, records) -> {
+        for(Record record : records) {
+          if(record.downstream == null && record.creationTime <= maxCreationTime) {
+            oldRecords.add(record);
+            descriptions.put(record, describe(stream));
+          }
+        }
+      });
+    }
+
+    long now = System.nanoTime();
+    List<LiveSubscription> subscriptions = new ArrayList<>();
+
+    oldRecords.sort(Comparator.comparingLong(r -> r.creationTime));
+
+    for(Record record : oldRecords) {
+      subscriptions.add(new LiveSubscription(descriptions.get(record), Duration.ofNanos(now - record.creationTime), record.stackTrace));
+    }
+
+    return subscriptions;
+  }
+
+  public static String dumpGraph(boolean dot) {
+    synchronized(RECORDS) {
+      Set<BaseObservableStream<?>> downstreams = Collections.newSetFromMap(new IdentityHashMap<>());
+
+      for(List<Record> records : RECORDS.values()) {
+        for(Record record : records) {
+          BaseObservableStream<?> downstream = record.getDownstream();
+
+          if(downstream != null) {
+            downstreams.add(downstream);
+          }
+        }
+      }
+
+      List<BaseObservableStream<?>> roots = new ArrayList<>();
+
+      for(BaseObservableStream<?> stream : RECORDS.keySet()) {
+        if(!downstreams.contains(stream)) {
+          roots.add(stream);
+        }
+      }
+
+      roots.sort(Comparator.comparing(SubscriptionTracker::describe));
+
+      GraphWriter writer = dot ? new DotWriter() : new TextWriter();
+      Set<BaseObservableStream<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+      for(BaseObservableStream<?> root : roots) {
+        write(writer, root, null, 0, visited);
+      }
+
+      return writer.toString();
+    }
+  }
+
+  private static void write(GraphWriter writer, BaseObservableStream<?> stream, BaseObservableStream<?> parent, int depth, Set<BaseObservableStream<?>> visited) {
+    writer.stream(stream, parent, depth);
+
+    if(!visited.add(stream)) {
+      return;
+    }
+
+    long now = System.nanoTime();
+
+    for(Record record : RECORDS.getOrDefault(stream, List.of())) {
+      BaseObservableStream<?> downstream = record.getDownstream();
+
+      if(downstream != null) {
+        write(writer, downstream, stream, depth + 1, visited);
+      }
+      else if(record.downstream == null) {
+        writer.subscription(stream, Duration.ofNanos(now - record.creationTime), depth + 1);
+      }
+    }
+  }
+
+  static String describe(BaseObservableStream<?> stream) {
+    String className = stream.getClass().getName();
+    String description = className.substring(className.lastIndexOf('.') + 1) + "@" + Integer.toHexString(System.identityHashCode(stream));
+    String name = stream.getInstrumentedName();
+
+    return name == null ? description : name + " (" + description + ")";
+  }
+
+  private static class Record {
+    final WeakReference<Object> observer;
+    final WeakReference<BaseObservableStream<?>> downstream;  // null if subscribed by a user
+    final long creationTime = System.nanoTime();
+    final StackTraceElement[] stackTrace;
+
+    Record(Object observer, BaseObservableStream<?> downstream, StackTraceElement[] stackTrace) {
+      this.observer = new WeakReference<>(observer);
+      this.downstream = downstream == null ? null : new WeakReference<>(downstream);
+      this.stackTrace = stackTrace;
+    }
+
+    BaseObservableStream<?> getDownstream() {
+      return downstream == null ? null : downstream.get();
+    }
+  }
+
+  private interface GraphWriter {
+    void stream(BaseObservableStream<?> stream, BaseObservableStream<?> parent, int depth);
+    void subscription(BaseObservableStream<?> stream, Duration age, int depth);
+  }
+
+  private static class TextWriter implements GraphWriter {
+    private final StringBuilder builder = new StringBuilder();
+
+    @Override
+    public void stream(BaseObservableStream<?> stream, BaseObservableStream<?> parent, int depth) {
+      int count = stream.getObserverCount();
+
+      builder.append("  ".repeat(depth)).append(describe(stream)).append(" [").append(count).append(count == 1 ? " observer]\n" : " observers]\n");
+    }
+
+    @Override
+    public void subscription(BaseObservableStream<?> stream, Duration age, int depth) {
+      builder.append("  ".repeat(depth)).append("subscription, age ").append(age).append("\n");
+    }
+
+    @Override
+    public String toString() {
+      return builder.toString();
+    }
+  }
+
+  private static class DotWriter implements GraphWriter {
+    private final StringBuilder builder = new StringBuilder("digraph streams {\n");
+    private final Map<BaseObservableStream<?>, String> ids = new IdentityHashMap<>();
+
+    private int subscriptionCount;
+
+    @Override
+    public void stream(BaseObservableStream<?> stream, BaseObservableStream<?> parent, int depth) {
+      String id = ids.get(stream);
+
+      if(id == null) {
+        id = "n" + ids.size();
+        ids.put(stream, id);
+
+        builder.append("  ").append(id).append(" [label=\"").append(escape(describe(stream))).append("\\n").append(stream.getObserverCount()).append(" observers\"];\n");
+      }
+
+      if(parent != null) {
+        builder.append("  ").append(ids.get(parent)).append(" -> ").append(id).append(";\n");
+      }
+    }
+
+    @Override
+    public void subscription(BaseObservableStream<?> stream, Duration age, int depth) {
+      String id = "s" + subscriptionCount++;
+
+      builder.append("  ").append(id).append(" [shape=box, label=\"subscription\\nage ").append(age).append("\"];\n");
+      builder.append("  ").append(ids.get(stream)).append(" -> ").append(id).append(";\n");
+    }
+
+    private static String escape(String text) {
+      return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @Override
+    public String toString() {
+      return builder + "}\n";
+    }
+  }
+}
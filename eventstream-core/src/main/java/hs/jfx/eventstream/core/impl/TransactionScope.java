@@ -0,0 +1,132 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Subscription;
+
+/**
+ * Tracks the transactions in progress on a thread and the callbacks to run when
+ * the outermost transaction ends. Transactions can be nested; only ending the
+ * outermost transaction runs the callbacks.<p>
+ *
+ * Callbacks are kept in a doubly linked list, making registering and unregistering
+ * a callback constant time operations, and are run in the order they were registered.
+ */
+public final class TransactionScope {
+  private static final ThreadLocal<TransactionScope> CURRENT = ThreadLocal.withInitial(TransactionScope::new);
+
+  private final Node head = new Node(null);  // sentinel of a circular list
+
+  private int depth;
+
+  /**
+   * Returns the {@link TransactionScope} of the current thread.
+   *
+   * @return the {@link TransactionScope} of the current thread, never null
+   */
+  public static TransactionScope current() {
+    return CURRENT.get();
+  }
+
+  private TransactionScope() {
+    head.next = head;
+    head.previous = head;
+  }
+
+  /**
+   * Returns whether a transaction is in progress in this scope.
+   *
+   * @return {@code true} if a transaction is in progress, otherwise {@code false}
+   */
+  public boolean isActive() {
+    return depth > 0;
+  }
+
+  /**
+   * Begins a (nested) transaction.
+   */
+  public void begin() {
+    depth++;
+  }
+
+  /**
+   * Ends the innermost transaction. When this ends the outermost transaction,
+   * all registered callbacks are run.
+   *
+   * @throws IllegalStateException when no transaction is in progress
+   */
+  public void end() {
+    if(depth == 0) {
+      throw new IllegalStateException("No transaction in progress");
+    }
+
+    if(--depth == 0) {
+      flush();
+    }
+  }
+
+  /**
+   * Registers a callback to run once when the outermost transaction ends.
+   *
+   * @param callback a {@link Runnable} to run when the outermost transaction ends, cannot be null
+   * @return a {@link Subscription} which unregisters the callback, never null
+   * @throws IllegalStateException when no transaction is in progress
+   */
+  public Subscription register(Runnable callback) {
+    if(callback == null) {
+      throw new NullPointerException("callback cannot be null");
+    }
+    if(depth == 0) {
+      throw new IllegalStateException("No transaction in progress");
+    }
+
+    Node node = new Node(callback);
+
+    node.previous = head.previous;
+    node.next = head;
+    head.previous.next = node;
+    head.previous = node;
+
+    return node::unlink;
+  }
+
+  private void flush() {
+
+    /*
+     * Callbacks are unlinked before they are run, so a callback can safely
+     * unregister other callbacks. A callback starting and ending a new
+     * transaction flushes the remaining callbacks in the same order.
+     */
+
+    while(head.next != head) {
+      Node node = head.next;
+
+      node.unlink();
+
+      try {
+        node.callback.run();
+      }
+      catch(Exception e) {
+        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+      }
+    }
+  }
+
+  private static class Node {
+    final Runnable callback;
+
+    Node previous;
+    Node next;
+
+    Node(Runnable callback) {
+      this.callback = callback;
+    }
+
+    void unlink() {
+      if(next != null) {
+        previous.next = next;
+        next.previous = previous;
+        previous = null;
+        next = null;
+      }
+    }
+  }
+}
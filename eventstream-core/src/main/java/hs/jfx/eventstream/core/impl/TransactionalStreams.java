@@ -0,0 +1,143 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.ChangeStream;
+import hs.jfx.eventstream.api.Emitter;
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscriber;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.api.ValueStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public abstract class TransactionalStreams {
+
+  public static <T> EventStream<T> event(ObservableStream<T> source, TransactionPolicy policy) {
+    return new BaseEventStream<>(subscriber(source, policy));
+  }
+
+  public static <T> ChangeStream<T> change(ObservableStream<T> source, TransactionPolicy policy) {
+    return new BaseChangeStream<>(subscriber(source, policy));
+  }
+
+  public static <T> ValueStream<T> value(ValueStream<T> source) {
+    return new BaseValueStream<>(subscriber(source, TransactionPolicy.LAST_VALUE_WINS), source, Operator.identity());
+  }
+
+  /**
+   * Creates a {@link Subscriber} which defers values received while a transaction
+   * is in progress on the current thread until the outermost transaction ends.
+   *
+   * @param <T> the type of values
+   * @param source an {@link ObservableStream} to subscribe to, cannot be null
+   * @param policy a {@link TransactionPolicy} which determines which of the deferred values are emitted, cannot be null
+   * @return a {@link Subscriber}, never null
+   */
+  public static <T> Subscriber<T> subscriber(ObservableStream<T> source, TransactionPolicy policy) {
+    Objects.requireNonNull(source);
+    Objects.requireNonNull(policy);
+
+    return emitter -> new TransactionalSubscription<>(source, policy, emitter).start();
+  }
+
+  private static class TransactionalSubscription<T> implements Subscription {
+    private final ObservableStream<T> source;
+    private final TransactionPolicy policy;
+    private final Emitter<T> emitter;
+
+    private Subscription sourceSubscription = Subscription.EMPTY;
+    private boolean subscribed;
+    private Subscription flushSubscription;
+    private List<T> values;  // only used for COLLECT_ALL
+    private T latestValue;
+
+    TransactionalSubscription(ObservableStream<T> source, TransactionPolicy policy, Emitter<T> emitter) {
+      this.source = source;
+      this.policy = policy;
+      this.emitter = emitter;
+    }
+
+    /**
+     * Subscribes to the source, after which values received during a transaction
+     * are deferred.
+     *
+     * @return this subscription, never null
+     */
+    Subscription start() {
+      sourceSubscription = source.subscribe(this::accept);
+      subscribed = true;
+
+      return this;
+    }
+
+    private void accept(T value) {
+
+      /*
+       * Values received while subscribing are passed on immediately, as a value stream
+       * source supplies its current value then, which new observers receive directly.
+       */
+
+      if(!subscribed) {
+        emitter.emit(value);
+        return;
+      }
+
+      TransactionScope scope = TransactionScope.current();
+
+      if(!scope.isActive()) {
+        emitter.emit(value);
+        return;
+      }
+
+      if(flushSubscription == null) {
+        flushSubscription = scope.register(this::flush);
+      }
+
+      if(policy == TransactionPolicy.COLLECT_ALL) {
+        if(values == null) {
+          values = new ArrayList<>();
+        }
+
+        values.add(value);
+      }
+      else {
+        latestValue = value;
+      }
+    }
+
+    private void flush() {
+      List<T> collectedValues = values;
+      T value = latestValue;
+
+      clear();
+
+      if(collectedValues != null) {
+        for(T v : collectedValues) {
+          emitter.emit(v);
+        }
+      }
+      else {
+        emitter.emit(value);
+      }
+    }
+
+    private void clear() {
+      flushSubscription = null;
+      values = null;
+      latestValue = null;
+    }
+
+    @Override
+    public void unsubscribe() {
+      sourceSubscription.unsubscribe();
+
+      if(flushSubscription != null) {
+        flushSubscription.unsubscribe();
+        clear();
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscription;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Provides subscriptions which only weakly reference an owner.<p>
+ *
+ * Subscriptions of owners which were garbage collected are removed in batches,
+ * whenever a new weak subscription is made or a value is emitted to one of them.
+ * As streams are not thread safe, each thread keeps track of the subscriptions
+ * it made separately.
+ */
+public abstract class WeakSubscriptions {
+  private static final ThreadLocal<ReferenceQueue<Object>> QUEUE = ThreadLocal.withInitial(ReferenceQueue::new);
+
+  public static <O, T> Subscription subscribe(ObservableStream<T> stream, O owner, BiConsumer<? super O, ? super T> subscriber) {
+    Objects.requireNonNull(stream, "stream cannot be null");
+    Objects.requireNonNull(owner, "owner cannot be null");
+    Objects.requireNonNull(subscriber, "subscriber cannot be null");
+
+    expungeCollectedOwners();
+
+    WeakObserver<O, T> observer = new WeakObserver<>(stream, owner, subscriber, QUEUE.get());
+
+    stream.addObserver(observer);
+
+    return observer;
+  }
+
+  private static void expungeCollectedOwners() {
+    ReferenceQueue<Object> queue = QUEUE.get();
+    Reference<?> reference;
+
+    while((reference = queue.poll()) != null) {
+      ((WeakObserver<?, ?>)reference).unsubscribe();
+    }
+  }
+
+  private static class WeakObserver<O, T> extends WeakReference<Object> implements Consumer<T>, Subscription {
+    private final ObservableStream<T> stream;
+    private final BiConsumer<? super O, ? super T> subscriber;
+
+    WeakObserver(ObservableStream<T> stream, O owner, BiConsumer<? super O, ? super T> subscriber, ReferenceQueue<Object> queue) {
+      super(owner, queue);
+
+      this.stream = stream;
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void accept(T value) {
+      @SuppressWarnings("unchecked")
+      O owner = (O)get();
+
+      if(owner == null) {
+        expungeCollectedOwners();  // owner may not have been enqueued yet, so unsubscribe as well
+        unsubscribe();
+      }
+      else {
+        subscriber.accept(owner, value);
+      }
+    }
+
+    @Override
+    public void unsubscribe() {
+      clear();  // prevents enqueueing, so it is not unsubscribed again once the owner is collected
+      stream.removeObserver(this);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package hs.jfx.eventstream.core.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsRegistry} which keeps counters in memory, which can be read
+ * as {@link StreamStatistics}.
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+  private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+  @Override
+  public StreamRecorder recorderFor(String name) {
+    return counters.computeIfAbsent(name, Counters::new);
+  }
+
+  /**
+   * Returns the statistics of streams with the given name.
+   *
+   * @param name a stream name, cannot be null
+   * @return the {@link StreamStatistics} of streams with the given name, never null
+   */
+  public StreamStatistics getStatistics(String name) {
+    Counters c = counters.get(name);
+
+    return c == null ? new StreamStatistics(name, 0, 0, 0, 0) : c.toStatistics();
+  }
+
+  /**
+   * Returns the statistics of all instrumented streams by name.
+   *
+   * @return a map of stream name to {@link StreamStatistics}, sorted by name, never null
+   */
+  public Map<String, StreamStatistics> getStatistics() {
+    Map<String, StreamStatistics> statistics = new TreeMap<>();
+
+    counters.forEach((name, c) -> statistics.put(name, c.toStatistics()));
+
+    return statistics;
+  }
+
+  /**
+   * Resets all counters, except those tracking the current number of observers.
+   */
+  public void reset() {
+    counters.values().forEach(Counters::reset);
+  }
+
+  private static class Counters implements StreamRecorder {
+    private final String name;
+    private final LongAdder emissions = new LongAdder();
+    private final LongAdder observersAdded = new LongAdder();
+    private final LongAdder observersRemoved = new LongAdder();
+    private final LongAdder dispatchNanos = new LongAdder();
+
+    Counters(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void observerAdded() {
+      observersAdded.increment();
+    }
+
+    @Override
+    public void observerRemoved() {
+      observersRemoved.increment();
+    }
+
+    @Override
+    public void emitted(long nanos) {
+      emissions.increment();
+      dispatchNanos.add(nanos);
+    }
+
+    void reset() {
+      emissions.reset();
+      dispatchNanos.reset();
+    }
+
+    StreamStatistics toStatistics() {
+      return new StreamStatistics(name, emissions.sum(), observersAdded.sum(), observersRemoved.sum(), dispatchNanos.sum());
+    }
+  }
+}
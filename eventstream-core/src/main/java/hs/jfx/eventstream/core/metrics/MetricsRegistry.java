@@ -0,0 +1,17 @@
+package hs.jfx.eventstream.core.metrics;
+
+/**
+ * Supplies {@link StreamRecorder}s for instrumented streams. Implementations can
+ * export the recorded events to a monitoring system.
+ */
+public interface MetricsRegistry {
+
+  /**
+   * Returns the {@link StreamRecorder} for streams with the given name. Must
+   * return the same recorder, or one with the same effect, for the same name.
+   *
+   * @param name a stream name, never null
+   * @return a {@link StreamRecorder}, never null
+   */
+  StreamRecorder recorderFor(String name);
+}
@@ -0,0 +1,80 @@
+package hs.jfx.eventstream.core.metrics;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.core.impl.BaseObservableStream;
+
+import java.util.Objects;
+
+/**
+ * Instruments streams to record their activity with a {@link MetricsRegistry}.
+ * Instrumentation is opt-in; streams which are not instrumented do not record
+ * anything, including Java Flight Recorder events. By default, an {@link InMemoryMetricsRegistry} is used.
+ */
+public abstract class StreamMetrics {
+  private static final InMemoryMetricsRegistry DEFAULT_REGISTRY = new InMemoryMetricsRegistry();
+
+  private static volatile MetricsRegistry registry = DEFAULT_REGISTRY;
+
+  private StreamMetrics() {
+  }
+
+  /**
+   * Instruments the given stream, recording its activity under the given name
+   * with the current registry. Multiple streams can share a name, in which case
+   * their activity is combined. The registry is looked up only once, when
+   * instrumenting the stream.<p>
+   *
+   * This only records the activity of the given stream itself, not of the streams
+   * it is derived from.<p>
+   *
+   * Instrumented streams also record <code>hs.jfx.eventstream.StreamEmit</code> and
+   * <code>hs.jfx.eventstream.StreamSubscribe</code> Java Flight Recorder events, when
+   * enabled in the recording. Only events lasting longer than the configured threshold
+   * are recorded. Streams which are not instrumented never record these events, so
+   * to attribute a stall to a stream with a recording, the stream must be instrumented.
+   *
+   * @param <S> the type of the stream
+   * @param stream a stream created by this library, cannot be null
+   * @param name a name, cannot be null
+   * @return the given stream, never null
+   * @throws IllegalArgumentException when the stream does not support instrumentation
+   */
+  public static <S extends ObservableStream<?>> S instrument(S stream, String name) {
+    Objects.requireNonNull(name);
+
+    if(!(Objects.requireNonNull(stream) instanceof BaseObservableStream)) {
+      throw new IllegalArgumentException("stream does not support instrumentation: " + stream);
+    }
+
+    ((BaseObservableStream<?>)stream).instrument(name, registry.recorderFor(name));
+
+    return stream;
+  }
+
+  /**
+   * Sets the registry used for streams instrumented after this call.
+   *
+   * @param registry a {@link MetricsRegistry}, cannot be null
+   */
+  public static void setRegistry(MetricsRegistry registry) {
+    StreamMetrics.registry = Objects.requireNonNull(registry);
+  }
+
+  /**
+   * Returns the registry used for newly instrumented streams.
+   *
+   * @return the current {@link MetricsRegistry}, never null
+   */
+  public static MetricsRegistry getRegistry() {
+    return registry;
+  }
+
+  /**
+   * Returns the default registry, which keeps statistics in memory.
+   *
+   * @return the default {@link InMemoryMetricsRegistry}, never null
+   */
+  public static InMemoryMetricsRegistry getDefaultRegistry() {
+    return DEFAULT_REGISTRY;
+  }
+}
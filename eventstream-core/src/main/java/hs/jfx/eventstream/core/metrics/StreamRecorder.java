@@ -0,0 +1,26 @@
+package hs.jfx.eventstream.core.metrics;
+
+/**
+ * Receives the events of instrumented streams. All streams instrumented with
+ * the same name share a recorder, which must therefore aggregate the events of
+ * all of them. Recorders may be called from multiple threads.
+ */
+public interface StreamRecorder {
+
+  /**
+   * Called when an observer was added to a stream.
+   */
+  void observerAdded();
+
+  /**
+   * Called when an observer was removed from a stream.
+   */
+  void observerRemoved();
+
+  /**
+   * Called when a stream emitted a value.
+   *
+   * @param dispatchNanos the time in nanoseconds it took to deliver the value to all observers, including any time spent in streams further down
+   */
+  void emitted(long dispatchNanos);
+}
@@ -0,0 +1,81 @@
+package hs.jfx.eventstream.core.metrics;
+
+/**
+ * A snapshot of the statistics of all streams instrumented with a given name.
+ */
+public final class StreamStatistics {
+  private final String name;
+  private final long emissions;
+  private final long observersAdded;
+  private final long observersRemoved;
+  private final long dispatchNanos;
+
+  StreamStatistics(String name, long emissions, long observersAdded, long observersRemoved, long dispatchNanos) {
+    this.name = name;
+    this.emissions = emissions;
+    this.observersAdded = observersAdded;
+    this.observersRemoved = observersRemoved;
+    this.dispatchNanos = dispatchNanos;
+  }
+
+  /**
+   * Returns the name of the streams.
+   *
+   * @return the name of the streams, never null
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the number of values emitted.
+   *
+   * @return the number of values emitted
+   */
+  public long getEmissions() {
+    return emissions;
+  }
+
+  /**
+   * Returns the number of times an observer was added.
+   *
+   * @return the number of times an observer was added
+   */
+  public long getObserversAdded() {
+    return observersAdded;
+  }
+
+  /**
+   * Returns the number of times an observer was removed.
+   *
+   * @return the number of times an observer was removed
+   */
+  public long getObserversRemoved() {
+    return observersRemoved;
+  }
+
+  /**
+   * Returns the number of observers currently observing the streams.
+   *
+   * @return the number of observers currently observing the streams
+   */
+  public long getObserverCount() {
+    return observersAdded - observersRemoved;
+  }
+
+  /**
+   * Returns the total time in nanoseconds spent delivering values to observers,
+   * including time spent in streams further down.
+   *
+   * @return the total time in nanoseconds spent delivering values
+   */
+  public long getDispatchNanos() {
+    return dispatchNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "StreamStatistics[" + name + ": emissions=" + emissions + ", observers=" + getObserverCount()
+      + ", added=" + observersAdded + ", removed=" + observersRemoved + ", dispatchNanos=" + dispatchNanos + "]";
+  }
+}
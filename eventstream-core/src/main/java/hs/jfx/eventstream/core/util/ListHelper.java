@@ -7,8 +7,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 
 public abstract class ListHelper<T> {
 
@@ -34,6 +38,76 @@ public abstract class ListHelper<T> {
         }
     }
 
+    /**
+     * Calls the given {@link BiConsumer} for each element with the element and the
+     * given argument. Passing the argument separately allows callers to use a
+     * non-capturing function, making this an allocation free way of iterating
+     * over the elements.<p>
+     *
+     * Elements can be added or removed by the function while iterating (the
+     * returned {@link ListHelper} must be used in that case). Such modifications
+     * do not affect the ongoing iteration.
+     *
+     * @param <T> the type of the elements
+     * @param <A> the type of the argument
+     * @param listHelper a {@link ListHelper}, can be null
+     * @param f a {@link BiConsumer} to call for each element, cannot be null
+     * @param argument an argument to supply to the function, can be null
+     */
+    public static <T, A> void forEach(ListHelper<T> listHelper, BiConsumer<? super T, ? super A> f, A argument) {
+        if(listHelper != null) {
+            listHelper.forEach(f, argument);
+        }
+    }
+
+    /**
+     * Calls the given {@link ObjIntConsumer} for each element with the element and the
+     * given primitive argument, without boxing it.
+     *
+     * @param <T> the type of the elements
+     * @param listHelper a {@link ListHelper}, can be null
+     * @param f a {@link ObjIntConsumer} to call for each element, cannot be null
+     * @param argument an argument to supply to the function
+     * @see #forEach(ListHelper, BiConsumer, Object)
+     */
+    public static <T> void forEachInt(ListHelper<T> listHelper, ObjIntConsumer<? super T> f, int argument) {
+        if(listHelper != null) {
+            listHelper.forEachInt(f, argument);
+        }
+    }
+
+    /**
+     * Calls the given {@link ObjLongConsumer} for each element with the element and the
+     * given primitive argument, without boxing it.
+     *
+     * @param <T> the type of the elements
+     * @param listHelper a {@link ListHelper}, can be null
+     * @param f a {@link ObjLongConsumer} to call for each element, cannot be null
+     * @param argument an argument to supply to the function
+     * @see #forEach(ListHelper, BiConsumer, Object)
+     */
+    public static <T> void forEachLong(ListHelper<T> listHelper, ObjLongConsumer<? super T> f, long argument) {
+        if(listHelper != null) {
+            listHelper.forEachLong(f, argument);
+        }
+    }
+
+    /**
+     * Calls the given {@link ObjDoubleConsumer} for each element with the element and the
+     * given primitive argument, without boxing it.
+     *
+     * @param <T> the type of the elements
+     * @param listHelper a {@link ListHelper}, can be null
+     * @param f a {@link ObjDoubleConsumer} to call for each element, cannot be null
+     * @param argument an argument to supply to the function
+     * @see #forEach(ListHelper, BiConsumer, Object)
+     */
+    public static <T> void forEachDouble(ListHelper<T> listHelper, ObjDoubleConsumer<? super T> f, double argument) {
+        if(listHelper != null) {
+            listHelper.forEachDouble(f, argument);
+        }
+    }
+
     public static <T> Iterator<T> iterator(ListHelper<T> listHelper) {
         if(listHelper != null) {
             return listHelper.iterator();
@@ -69,6 +143,10 @@ public abstract class ListHelper<T> {
     abstract ListHelper<T> add(T elem);
     abstract ListHelper<T> remove(T elem);
     abstract void forEach(Consumer<? super T> f);
+    abstract <A> void forEach(BiConsumer<? super T, ? super A> f, A argument);
+    abstract void forEachInt(ObjIntConsumer<? super T> f, int argument);
+    abstract void forEachLong(ObjLongConsumer<? super T> f, long argument);
+    abstract void forEachDouble(ObjDoubleConsumer<? super T> f, double argument);
     abstract Iterator<T> iterator();
     abstract Iterator<T> iterator(int from, int to);
     abstract T[] toArray(IntFunction<T[]> allocator);
@@ -100,6 +178,26 @@ public abstract class ListHelper<T> {
             f.accept(elem);
         }
 
+        @Override
+        <A> void forEach(BiConsumer<? super T, ? super A> f, A argument) {
+            f.accept(elem, argument);
+        }
+
+        @Override
+        void forEachInt(ObjIntConsumer<? super T> f, int argument) {
+            f.accept(elem, argument);
+        }
+
+        @Override
+        void forEachLong(ObjLongConsumer<? super T> f, long argument) {
+            f.accept(elem, argument);
+        }
+
+        @Override
+        void forEachDouble(ObjDoubleConsumer<? super T> f, double argument) {
+            f.accept(elem, argument);
+        }
+
         @Override
         Iterator<T> iterator() {
             return new Iterator<>() {
@@ -205,6 +303,70 @@ public abstract class ListHelper<T> {
             }
         }
 
+        @Override
+        <A> void forEach(BiConsumer<? super T, ? super A> f, A argument) {
+            ++iterating;
+
+            try {
+                int size = elems.size();  // elems is not modified while iterating
+
+                for(int i = 0; i < size; i++) {
+                    f.accept(elems.get(i), argument);
+                }
+            }
+            finally {
+                --iterating;
+            }
+        }
+
+        @Override
+        void forEachInt(ObjIntConsumer<? super T> f, int argument) {
+            ++iterating;
+
+            try {
+                int size = elems.size();  // elems is not modified while iterating
+
+                for(int i = 0; i < size; i++) {
+                    f.accept(elems.get(i), argument);
+                }
+            }
+            finally {
+                --iterating;
+            }
+        }
+
+        @Override
+        void forEachLong(ObjLongConsumer<? super T> f, long argument) {
+            ++iterating;
+
+            try {
+                int size = elems.size();  // elems is not modified while iterating
+
+                for(int i = 0; i < size; i++) {
+                    f.accept(elems.get(i), argument);
+                }
+            }
+            finally {
+                --iterating;
+            }
+        }
+
+        @Override
+        void forEachDouble(ObjDoubleConsumer<? super T> f, double argument) {
+            ++iterating;
+
+            try {
+                int size = elems.size();  // elems is not modified while iterating
+
+                for(int i = 0; i < size; i++) {
+                    f.accept(elems.get(i), argument);
+                }
+            }
+            finally {
+                --iterating;
+            }
+        }
+
         @Override
         Iterator<T> iterator() {
             return iterator(0, elems.size());
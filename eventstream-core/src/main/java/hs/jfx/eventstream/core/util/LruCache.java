@@ -0,0 +1,93 @@
+package hs.jfx.eventstream.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A cache of a bounded size which discards the least recently used entry when
+ * full. Keys are compared by equality. Looking up a cached value does not
+ * allocate.<p>
+ *
+ * This is not thread safe, like the streams using it.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class LruCache<K, V> {
+  private final Map<K, V> map;
+  private final Function<? super K, ? extends V> valueFunction;
+
+  /**
+   * Returns a {@link Function} which remembers the results of the given function
+   * for the most recently used inputs. This can be used with operations like
+   * {@code flatMap} to avoid recreating a stream for an input seen recently.
+   *
+   * @param <K> the type of the inputs
+   * @param <V> the type of the results
+   * @param function a {@link Function} to remember the results of, cannot be null
+   * @param maxSize the maximum number of results to remember, must be positive
+   * @return a {@link Function} which remembers the results of the given function, never null
+   * @throws IllegalArgumentException when {@code maxSize} is not positive
+   */
+  public static <K, V> Function<K, V> memoize(Function<? super K, ? extends V> function, int maxSize) {
+    return new LruCache<K, V>(function, maxSize)::get;
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param valueFunction a {@link Function} which supplies the value for a key which is not cached, cannot be null
+   * @param maxSize the maximum number of entries, must be positive
+   * @throws IllegalArgumentException when {@code maxSize} is not positive
+   */
+  public LruCache(Function<? super K, ? extends V> valueFunction, int maxSize) {
+    if(maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+
+    this.valueFunction = Objects.requireNonNull(valueFunction, "valueFunction cannot be null");
+    this.map = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the value for the given key, calling the value function when it
+   * is not cached. Values returned by the value function are cached, including
+   * {@code null}s.
+   *
+   * @param key a key, can be null
+   * @return the value for the given key, can be null
+   */
+  public V get(K key) {
+    V value = map.get(key);
+
+    if(value == null && !map.containsKey(key)) {
+      value = valueFunction.apply(key);
+      map.put(key, value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the number of cached entries.
+   *
+   * @return the number of cached entries
+   */
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * Removes all cached entries.
+   */
+  public void clear() {
+    map.clear();
+  }
+}
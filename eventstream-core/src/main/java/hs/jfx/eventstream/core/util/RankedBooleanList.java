@@ -0,0 +1,239 @@
+package hs.jfx.eventstream.core.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A list of booleans which, besides inserting and removing values at any index,
+ * can count the number of {@code true} values before an index. All operations
+ * take O(log n) expected time.<p>
+ *
+ * This is used to translate indices between a list and a filtered view of that
+ * list, where each value indicates whether the element at the same index is
+ * included in the view.
+ */
+public class RankedBooleanList {
+  private Node root;
+
+  /**
+   * Returns the number of values in this list.
+   *
+   * @return the number of values in this list
+   */
+  public int size() {
+    return size(root);
+  }
+
+  /**
+   * Returns the value at the given index.
+   *
+   * @param index an index
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException when the index is out of bounds
+   */
+  public boolean get(int index) {
+    return find(index).value;
+  }
+
+  /**
+   * Replaces the value at the given index.
+   *
+   * @param index an index
+   * @param value a new value
+   * @throws IndexOutOfBoundsException when the index is out of bounds
+   */
+  public void set(int index, boolean value) {
+    checkIndex(index, size());
+    set(root, index, value);
+  }
+
+  /**
+   * Inserts a value at the given index.
+   *
+   * @param index an index, can be equal to the size of this list
+   * @param value a value to insert
+   * @throws IndexOutOfBoundsException when the index is out of bounds
+   */
+  public void add(int index, boolean value) {
+    checkIndex(index, size() + 1);
+
+    Node[] parts = split(root, index);
+
+    root = merge(merge(parts[0], new Node(value)), parts[1]);
+  }
+
+  /**
+   * Removes the value at the given index.
+   *
+   * @param index an index
+   * @return the value which was removed
+   * @throws IndexOutOfBoundsException when the index is out of bounds
+   */
+  public boolean remove(int index) {
+    checkIndex(index, size());
+
+    Node[] parts = split(root, index);
+    Node[] rest = split(parts[1], 1);
+
+    root = merge(parts[0], rest[1]);
+
+    return rest[0].value;
+  }
+
+  /**
+   * Returns the number of {@code true} values before the given index.
+   *
+   * @param index an index, can be equal to the size of this list
+   * @return the number of {@code true} values before the given index
+   * @throws IndexOutOfBoundsException when the index is out of bounds
+   */
+  public int countTrue(int index) {
+    checkIndex(index, size() + 1);
+
+    int count = 0;
+    Node node = root;
+
+    while(node != null) {
+      int leftSize = size(node.left);
+
+      if(index <= leftSize) {
+        node = node.left;
+      }
+      else {
+        count += trueCount(node.left) + (node.value ? 1 : 0);
+        index -= leftSize + 1;
+        node = node.right;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Removes all values from this list.
+   */
+  public void clear() {
+    root = null;
+  }
+
+  private Node find(int index) {
+    checkIndex(index, size());
+
+    Node node = root;
+
+    for(;;) {
+      int leftSize = size(node.left);
+
+      if(index < leftSize) {
+        node = node.left;
+      }
+      else if(index == leftSize) {
+        return node;
+      }
+      else {
+        index -= leftSize + 1;
+        node = node.right;
+      }
+    }
+  }
+
+  private static void set(Node node, int index, boolean value) {
+    int leftSize = size(node.left);
+
+    if(index < leftSize) {
+      set(node.left, index, value);
+    }
+    else if(index == leftSize) {
+      node.value = value;
+    }
+    else {
+      set(node.right, index - leftSize - 1, value);
+    }
+
+    node.update();
+  }
+
+  /*
+   * Splits the given tree into a tree with the first n values and a tree with the remaining values.
+   */
+
+  private static Node[] split(Node node, int n) {
+    if(node == null) {
+      return new Node[2];
+    }
+
+    int leftSize = size(node.left);
+
+    if(n <= leftSize) {
+      Node[] parts = split(node.left, n);
+
+      node.left = parts[1];
+      node.update();
+      parts[1] = node;
+
+      return parts;
+    }
+
+    Node[] parts = split(node.right, n - leftSize - 1);
+
+    node.right = parts[0];
+    node.update();
+    parts[0] = node;
+
+    return parts;
+  }
+
+  private static Node merge(Node left, Node right) {
+    if(left == null) {
+      return right;
+    }
+    if(right == null) {
+      return left;
+    }
+
+    if(left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      left.update();
+
+      return left;
+    }
+
+    right.left = merge(left, right.left);
+    right.update();
+
+    return right;
+  }
+
+  private static void checkIndex(int index, int limit) {
+    if(index < 0 || index >= limit) {
+      throw new IndexOutOfBoundsException("index: " + index + ", limit: " + limit);
+    }
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static int trueCount(Node node) {
+    return node == null ? 0 : node.trueCount;
+  }
+
+  private static class Node {
+    final int priority = ThreadLocalRandom.current().nextInt();
+
+    boolean value;
+    int size = 1;
+    int trueCount;
+    Node left;
+    Node right;
+
+    Node(boolean value) {
+      this.value = value;
+      this.trueCount = value ? 1 : 0;
+    }
+
+    void update() {
+      size = 1 + RankedBooleanList.size(left) + RankedBooleanList.size(right);
+      trueCount = (value ? 1 : 0) + RankedBooleanList.trueCount(left) + RankedBooleanList.trueCount(right);
+    }
+  }
+}
@@ -8,6 +8,8 @@ import hs.jfx.eventstream.core.util.References;
 import hs.jfx.eventstream.core.util.Sink;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
@@ -152,6 +154,121 @@ public class ChangeStreamTest {
       }
     }
 
+    @Nested
+    class Debounce {
+      private final VirtualScheduler scheduler = new VirtualScheduler();
+
+      @Test
+      void shouldEmitNullWhenItIsLastValueOfBurst() {
+        property.set("A");
+
+        RootChangeStream.of(property)
+          .debounce(Duration.ofMillis(100), scheduler)
+          .subscribe(strings::add);
+
+        property.set("B");
+        property.set(null);
+        scheduler.advance(Duration.ofMillis(100));
+
+        assertEquals(Arrays.asList((String)null), strings.drain());
+      }
+    }
+
+    @Nested
+    class ObserveOn {
+      private final List<Runnable> tasks = new ArrayList<>();
+
+      @Test
+      void shouldEmitNullValuesUsingExecutor() {
+        property.set("A");
+
+        RootChangeStream.of(property)
+          .observeOn(tasks::add)
+          .subscribe(strings::add);
+
+        property.set(null);
+        property.set("B");
+        tasks.remove(0).run();
+
+        assertEquals(Arrays.asList(null, "B"), strings.drain());
+      }
+    }
+
+    @Nested
+    class Distinct {
+
+      @Test
+      void shouldSkipValuesEqualToLastEmittedValue() {
+        RootChangeStream.of(property)
+          .map(String::length)
+          .distinct()
+          .map(Object::toString)
+          .subscribe(strings::add);
+
+        property.set("A");
+        property.set("B");
+        property.set("CC");
+        property.set(null);
+        property.set("DD");
+        property.set("E");
+
+        assertEquals(Arrays.asList("1", "2", null, "2", "1"), strings.drain());
+      }
+
+      @Test
+      void shouldUseGivenEquality() {
+        RootChangeStream.of(property)
+          .distinct(String::equalsIgnoreCase)
+          .subscribe(strings::add);
+
+        property.set("a");
+        property.set("A");
+        property.set("b");
+        property.set(null);
+        property.set("B");
+
+        assertEquals(Arrays.asList("a", "b", null, "B"), strings.drain());
+      }
+
+      @Test
+      void shouldForgetLastEmittedValueWhenUnsubscribed() {
+        ChangeStream<String> stream = RootChangeStream.of(property).distinct(String::equalsIgnoreCase);
+        Subscription subscription = stream.subscribe(strings::add);
+
+        property.set("a");
+        subscription.unsubscribe();
+        stream.subscribe(strings::add);
+        property.set("A");
+
+        assertEquals(List.of("a", "A"), strings.drain());
+      }
+
+      @Test
+      void shouldShareLastEmittedValueBetweenOverlappingSubscribers() {
+        ChangeStream<Integer> stream = RootChangeStream.of(property).map(String::length).distinct();
+        Sink<Integer> first = new Sink<>();
+        Sink<Integer> second = new Sink<>();
+
+        stream.subscribe(first::add);
+        property.set("a");
+        stream.subscribe(second::add);
+        property.set("b");  // equal to the value last emitted to the first subscriber
+
+        assertEquals(List.of(1), first.drain());
+        assertTrue(second.isEmpty());
+
+        property.set("cc");
+
+        assertEquals(List.of(2), first.drain());
+        assertEquals(List.of(2), second.drain());
+      }
+
+      @Test
+      void shouldRejectNullEquality() {
+        assertThrows(NullPointerException.class, () -> RootChangeStream.of(property).distinct(null));
+      }
+    }
+
     @Nested
     class Filter {
 
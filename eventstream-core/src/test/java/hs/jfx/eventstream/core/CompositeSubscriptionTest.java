@@ -0,0 +1,146 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.CompositeSubscription;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.List;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompositeSubscriptionTest {
+  private final Sink<String> sink = new Sink<>();
+  private final CompositeSubscription composite = new CompositeSubscription();
+
+  private Subscription named(String name) {
+    return () -> sink.add(name);
+  }
+
+  @Test
+  void shouldUnsubscribeAllInOrderAdded() {
+    composite.add(named("a"));
+    composite.add(named("b"));
+    composite.add(named("c"));
+
+    assertEquals(3, composite.size());
+
+    composite.unsubscribe();
+
+    assertEquals(List.of("a", "b", "c"), sink.drain());
+    assertTrue(composite.isEmpty());
+
+    composite.unsubscribe();
+
+    assertTrue(sink.isEmpty());
+  }
+
+  @Test
+  void shouldRemoveIndividualSubscriptions() {
+    composite.add(named("a"));
+
+    Subscription b = composite.add(named("b"));
+
+    composite.add(named("c"));
+
+    b.unsubscribe();
+    b.unsubscribe();
+
+    assertEquals(List.of("b"), sink.drain());
+    assertEquals(2, composite.size());
+
+    composite.unsubscribe();
+
+    assertEquals(List.of("a", "c"), sink.drain());
+
+    b.unsubscribe();
+
+    assertTrue(sink.isEmpty());
+  }
+
+  @Test
+  void shouldBeReusableAfterUnsubscribing() {
+    Subscription a = composite.add(named("a"));
+
+    composite.unsubscribe();
+    composite.add(named("b"));
+    a.unsubscribe();
+
+    assertEquals(List.of("a"), sink.drain());
+    assertEquals(1, composite.size());
+  }
+
+  @Test
+  void shouldUnsubscribeRemainingSubscriptionsWhenOneThrows() {
+    IllegalStateException first = new IllegalStateException();
+    IllegalStateException second = new IllegalStateException();
+
+    composite.add(() -> { throw first; });
+    composite.add(named("a"));
+    composite.add(() -> { throw second; });
+    composite.add(named("b"));
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, composite::unsubscribe);
+
+    assertSame(first, exception);
+    assertSame(second, exception.getSuppressed()[0]);
+    assertEquals(List.of("a", "b"), sink.drain());
+    assertTrue(composite.isEmpty());
+  }
+
+  @Test
+  void shouldNotModifyCompositeWhenCombiningWithAnd() {
+    CompositeSubscription other = new CompositeSubscription(named("b"));
+
+    composite.add(named("a"));
+
+    CompositeSubscription combined = composite.and(other);
+
+    assertNotSame(composite, combined);
+    assertEquals(1, composite.size());
+
+    composite.unsubscribe();
+
+    assertEquals(List.of("a"), sink.drain());
+
+    combined.unsubscribe();
+
+    assertEquals(List.of("b"), sink.drain());
+  }
+
+  @Test
+  void shouldRejectNullSubscriptions() {
+    assertThrows(NullPointerException.class, () -> composite.add(null));
+    assertThrows(NullPointerException.class, () -> named("a").and(null));
+  }
+
+  @Nested
+  class WhenCombiningStreamSubscriptions {
+    private final StringProperty property = new SimpleStringProperty("A");
+
+    @Test
+    void shouldStopObservingAllStreams() {
+      Subscription subscription = Values.of(property).subscribe(sink::add)
+        .and(Values.of(property).map(String::toLowerCase).subscribe(sink::add))
+        .and(Events.of(property).subscribe(sink::add));
+
+      property.set("B");
+
+      assertEquals(List.of("A", "a", "B", "b", "B"), sink.drain());
+
+      subscription.unsubscribe();
+      property.set("C");
+
+      assertTrue(sink.isEmpty());
+    }
+  }
+}
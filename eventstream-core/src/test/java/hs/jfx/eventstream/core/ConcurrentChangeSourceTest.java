@@ -0,0 +1,51 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentChangeSourceTest {
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final Executor executor = tasks::add;
+  private final Sink<String> sink = new Sink<>();
+
+  @Test
+  void shouldEmitAllValuesIncludingNullsInOneTask() {
+    ConcurrentChangeSource<String> source = new ConcurrentChangeSource<>(executor, TransactionPolicy.COLLECT_ALL);
+
+    source.subscribe(sink::add);
+    source.push("A");
+    source.push(null);
+    source.push("B");
+
+    assertTrue(sink.isEmpty());
+    assertEquals(1, tasks.size());
+
+    tasks.poll().run();
+
+    assertEquals(Arrays.asList("A", null, "B"), sink.drain());
+  }
+
+  @Test
+  void shouldOnlyEmitLatestValueWhenConflating() {
+    ConcurrentChangeSource<String> source = new ConcurrentChangeSource<>(executor, TransactionPolicy.LAST_VALUE_WINS);
+
+    source.subscribe(sink::add);
+    source.push("A");
+    source.push(null);
+
+    tasks.poll().run();
+
+    assertEquals(Arrays.asList((String)null), sink.drain());
+    assertTrue(tasks.isEmpty());
+  }
+}
@@ -0,0 +1,202 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentEventSourceTest {
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final Executor executor = r -> {
+    synchronized(tasks) {
+      tasks.add(r);
+    }
+  };
+  private final Sink<Integer> sink = new Sink<>();
+
+  @Test
+  void shouldEmitAllValuesPushedBeforeDrainInOneTask() {
+    ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(executor, TransactionPolicy.COLLECT_ALL);
+
+    source.subscribe(sink::add);
+    source.push(1);
+    source.push(2);
+    source.push(3);
+
+    assertTrue(sink.isEmpty());
+    assertEquals(1, tasks.size());
+
+    runTasks();
+
+    assertEquals(List.of(1, 2, 3), sink.drain());
+
+    source.push(4);
+    runTasks();
+
+    assertEquals(List.of(4), sink.drain());
+  }
+
+  @Test
+  void shouldEmitValuesPushedDuringDrainInNextTask() {
+    ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(executor, TransactionPolicy.COLLECT_ALL);
+
+    source.subscribe(v -> {
+      sink.add(v);
+
+      if(v < 3) {
+        source.push(v + 10);
+      }
+    });
+    source.push(1);
+    source.push(2);
+
+    poll().run();
+
+    assertEquals(List.of(1, 2), sink.drain());
+    assertEquals(1, tasks.size());
+
+    poll().run();
+
+    assertEquals(List.of(11, 12), sink.drain());
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void shouldOnlyEmitLatestValueWhenConflating() {
+    ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(executor, TransactionPolicy.LAST_VALUE_WINS);
+
+    source.subscribe(sink::add);
+    source.push(1);
+    source.push(2);
+
+    runTasks();
+
+    assertEquals(List.of(2), sink.drain());
+  }
+
+  @Test
+  void shouldEmitBatchAsTransaction() {
+    ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(executor, TransactionPolicy.COLLECT_ALL);
+
+    source.transactional().subscribe(sink::add);
+    source.push(1);
+    source.push(2);
+
+    runTasks();
+
+    assertEquals(List.of(2), sink.drain());
+  }
+
+  @Test
+  void shouldAcceptValuesFromManyThreads() throws InterruptedException {
+    ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(executor, TransactionPolicy.COLLECT_ALL);
+    List<Thread> threads = new ArrayList<>();
+    CountDownLatch start = new CountDownLatch(1);
+
+    source.subscribe(sink::add);
+
+    for(int t = 0; t < 4; t++) {
+      int offset = t * 1000;
+
+      threads.add(new Thread(() -> {
+        try {
+          start.await();
+        }
+        catch(InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+
+        for(int i = 0; i < 1000; i++) {
+          source.push(offset + i);
+        }
+      }));
+    }
+
+    threads.forEach(Thread::start);
+    start.countDown();
+
+    for(Thread thread : threads) {
+      thread.join();
+    }
+
+    runTasks();
+
+    List<Integer> values = sink.drain();
+
+    assertEquals(4000, values.size());
+    assertEquals(4000, values.stream().distinct().count());
+  }
+
+  @Test
+  void shouldNeverEmitConcurrentlyWithMultiThreadedExecutor() throws InterruptedException {
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(pool, TransactionPolicy.COLLECT_ALL);
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+    List<Integer> values = new ArrayList<>();
+    CountDownLatch latch = new CountDownLatch(10000);
+
+    source.subscribe(v -> {
+      if(active.incrementAndGet() > 1) {
+        overlaps.incrementAndGet();
+      }
+
+      values.add(v);
+      active.decrementAndGet();
+      latch.countDown();
+    });
+
+    try {
+      for(int i = 0; i < 10000; i++) {
+        source.push(i);
+      }
+
+      assertTrue(latch.await(10, TimeUnit.SECONDS));  // drains resubmit themselves, so wait before shutting down
+    }
+    finally {
+      pool.shutdown();
+      pool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    assertEquals(0, overlaps.get());
+    assertEquals(IntStream.range(0, 10000).boxed().collect(Collectors.toList()), values);
+  }
+
+  @Test
+  void shouldRejectNullValues() {
+    ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(executor, TransactionPolicy.COLLECT_ALL);
+
+    assertThrows(NullPointerException.class, () -> source.push(null));
+  }
+
+  private void runTasks() {
+    Runnable task;
+
+    while((task = poll()) != null) {
+      task.run();
+    }
+  }
+
+  private Runnable poll() {
+    synchronized(tasks) {
+      return tasks.poll();
+    }
+  }
+}
@@ -2,14 +2,25 @@ package hs.jfx.eventstream.core;
 
 import hs.jfx.eventstream.api.EventStream;
 import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.TransactionPolicy;
 import hs.jfx.eventstream.api.ValueStream;
 import hs.jfx.eventstream.core.util.References;
 import hs.jfx.eventstream.core.util.Sink;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -159,6 +170,58 @@ public class EventStreamTest {
       }
     }
 
+    @Nested
+    class Debounce {
+      private final VirtualScheduler scheduler = new VirtualScheduler();
+
+      @Test
+      void shouldOnlyEmitLastValueOfBurst() {
+        Events.of(property)
+          .debounce(Duration.ofMillis(100), scheduler)
+          .subscribe(strings::add);
+
+        property.set("A");
+        scheduler.advance(Duration.ofMillis(50));
+        property.set("B");
+        scheduler.advance(Duration.ofMillis(50));
+        property.set("C");
+        scheduler.advance(Duration.ofMillis(99));
+
+        assertTrue(strings.isEmpty());
+
+        scheduler.advance(Duration.ofMillis(1));
+
+        assertEquals(List.of("C"), strings.drain());
+
+        scheduler.advance(Duration.ofMillis(500));
+
+        assertTrue(strings.isEmpty());
+      }
+
+      @Test
+      void shouldCancelPendingEmissionWhenUnsubscribed() {
+        Subscription subscription = Events.of(property)
+          .debounce(Duration.ofMillis(100), scheduler)
+          .subscribe(strings::add);
+
+        property.set("A");
+        subscription.unsubscribe();
+
+        assertEquals(0, scheduler.getPendingActionCount());
+
+        scheduler.advance(Duration.ofMillis(100));
+
+        assertTrue(strings.isEmpty());
+      }
+
+      @Test
+      void shouldRejectInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> Events.of(property).debounce(null, scheduler));
+        assertThrows(NullPointerException.class, () -> Events.of(property).debounce(Duration.ZERO, null));
+        assertThrows(IllegalArgumentException.class, () -> Events.of(property).debounce(Duration.ofMillis(-1), scheduler));
+      }
+    }
+
     @Nested
     class Filter {
 
@@ -374,6 +437,177 @@ public class EventStreamTest {
       }
     }
 
+    @Nested
+    class MapCached {
+      private final java.util.Map<String, Integer> calls = new HashMap<>();
+      private final EventStream<String> stream = Events.of(property)
+        .mapCached(s -> {
+          calls.merge(s, 1, Integer::sum);
+
+          return s.equals("X") ? null : s.toLowerCase();
+        }, 2);
+
+      @Test
+      void shouldOnlyCallMapperForInputsNotRecentlyUsed() {
+        stream.subscribe(strings::add);
+
+        property.set("A");
+        property.set("B");
+        property.set("A");
+        property.set("C");  // evicts B
+        property.set("A");
+        property.set("B");
+
+        assertEquals(List.of("a", "b", "a", "c", "a", "b"), strings.drain());
+        assertEquals(java.util.Map.of("A", 1, "B", 2, "C", 1), calls);
+      }
+
+      @Test
+      void shouldRememberDiscardedEvents() {
+        stream.subscribe(strings::add);
+
+        property.set("X");
+        property.set("A");
+        property.set("X");
+
+        assertEquals(List.of("a"), strings.drain());
+        assertEquals(1, calls.get("X"));
+      }
+
+      @Test
+      void shouldRejectInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> Events.of(property).mapCached(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> Events.of(property).mapCached(s -> s, 0));
+      }
+    }
+
+    @Nested
+    class MapAsync {
+      private final List<Runnable> tasks = new ArrayList<>();
+
+      @Test
+      void shouldEmitResultsOfLatestValueUsingExecutor() {
+        java.util.Map<String, CompletableFuture<String>> futures = new HashMap<>();
+
+        Events.of(property)
+          .mapAsync(v -> futures.computeIfAbsent(v, k -> new CompletableFuture<>()), tasks::add)
+          .subscribe(strings::add);
+
+        property.set("A");
+        futures.get("A").complete("1");
+        property.set("B");
+
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();  // result of A arrives after B was received
+
+        assertTrue(strings.isEmpty());
+
+        futures.get("B").complete("2");
+        tasks.remove(0).run();
+
+        assertEquals(List.of("2"), strings.drain());
+      }
+
+      @Test
+      void shouldNotEmitNullResults() {
+        Events.of(property)
+          .mapAsync(v -> CompletableFuture.completedFuture(v.equals("A") ? null : v), Runnable::run)
+          .subscribe(strings::add);
+
+        property.set("A");
+        property.set("B");
+
+        assertEquals(List.of("B"), strings.drain());
+      }
+    }
+
+    @Nested
+    class ObserveOn {
+      private final List<Runnable> tasks = new ArrayList<>();
+
+      @Test
+      void shouldEmitValuesInBatchesUsingExecutor() {
+        Events.of(property)
+          .observeOn(tasks::add)
+          .subscribe(strings::add);
+
+        property.set("A");
+        property.set("B");
+
+        assertTrue(strings.isEmpty());
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+
+        assertEquals(List.of("A", "B"), strings.drain());
+      }
+
+      @Test
+      void shouldDiscardQueuedValuesWhenUnsubscribed() {
+        Subscription subscription = Events.of(property)
+          .observeOn(tasks::add)
+          .subscribe(strings::add);
+
+        property.set("A");
+        subscription.unsubscribe();
+        tasks.remove(0).run();
+
+        assertTrue(strings.isEmpty());
+      }
+
+      @Test
+      void shouldAllowSubscribingAndUnsubscribingOnExecutorThreadDuringEmission() throws Exception {
+        ExecutorService subscribingThread = Executors.newSingleThreadExecutor();
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+
+        try {
+          ConcurrentEventSource<Integer> source = new ConcurrentEventSource<>(subscribingThread, TransactionPolicy.COLLECT_ALL);
+          EventStream<Integer> stream = source.map(v -> v * 2).observeOn(subscribingThread);
+          AtomicInteger received = new AtomicInteger();
+          AtomicInteger misdelivered = new AtomicInteger();
+
+          subscribingThread.submit(() -> stream.subscribe(v -> received.incrementAndGet())).get();
+
+          CompletableFuture<?>[] futures = IntStream.range(0, 4)
+            .mapToObj(p -> CompletableFuture.runAsync(() -> IntStream.range(0, 10000).forEach(source::push), producers))
+            .toArray(CompletableFuture[]::new);
+
+          for(int i = 0; i < 1000; i++) {
+            AtomicBoolean subscribed = new AtomicBoolean(true);
+            Subscription subscription = subscribingThread.submit(() -> stream.subscribe(v -> {
+              if(!subscribed.get()) {
+                misdelivered.incrementAndGet();
+              }
+            })).get();
+
+            subscribingThread.submit(() -> {
+              subscribed.set(false);
+              subscription.unsubscribe();
+            }).get();
+          }
+
+          CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+
+          for(int i = 0; i < 1000 && received.get() < 40000; i++) {
+            subscribingThread.submit(() -> {}).get();  // let queued batches drain
+          }
+
+          assertEquals(40000, received.get());
+          assertEquals(0, misdelivered.get());
+        }
+        finally {
+          producers.shutdownNow();
+          subscribingThread.shutdownNow();
+        }
+      }
+
+      @Test
+      void shouldRejectNullExecutor() {
+        assertThrows(NullPointerException.class, () -> Events.of(property).observeOn(null));
+      }
+    }
+
     @Nested
     class Peek {
 
@@ -465,6 +699,107 @@ public class EventStreamTest {
       }
     }
 
+    @Nested
+    class Sample {
+      private final VirtualScheduler scheduler = new VirtualScheduler();
+
+      @Test
+      void shouldEmitLatestValueAtFixedIntervalOnlyWhenChanged() {
+        Events.of(property)
+          .sample(Duration.ofMillis(100), scheduler)
+          .subscribe(strings::add);
+
+        property.set("A");
+        property.set("B");
+        scheduler.advance(Duration.ofMillis(100));
+
+        assertEquals(List.of("B"), strings.drain());
+
+        scheduler.advance(Duration.ofMillis(100));
+
+        assertTrue(strings.isEmpty());
+
+        scheduler.advance(Duration.ofMillis(50));
+        property.set("C");
+        scheduler.advance(Duration.ofMillis(50));
+
+        assertEquals(List.of("C"), strings.drain());
+      }
+
+      @Test
+      void shouldStopSamplingWhenUnsubscribed() {
+        Events.of(property)
+          .sample(Duration.ofMillis(100), scheduler)
+          .subscribe(strings::add)
+          .unsubscribe();
+
+        assertEquals(0, scheduler.getPendingActionCount());
+      }
+
+      @Test
+      void shouldRejectZeroInterval() {
+        assertThrows(IllegalArgumentException.class, () -> Events.of(property).sample(Duration.ZERO, scheduler));
+      }
+    }
+
+    @Nested
+    class ThrottleFirst {
+      private final VirtualScheduler scheduler = new VirtualScheduler();
+
+      @Test
+      void shouldEmitFirstValueAndIgnoreOthersDuringWindow() {
+        Events.of(property)
+          .throttleFirst(Duration.ofMillis(100), scheduler)
+          .subscribe(strings::add);
+
+        property.set("A");
+
+        assertEquals(List.of("A"), strings.drain());
+
+        property.set("B");
+        scheduler.advance(Duration.ofMillis(60));
+        property.set("C");
+        scheduler.advance(Duration.ofMillis(40));
+
+        assertTrue(strings.isEmpty());
+
+        property.set("D");
+
+        assertEquals(List.of("D"), strings.drain());
+      }
+    }
+
+    @Nested
+    class ThrottleLast {
+      private final VirtualScheduler scheduler = new VirtualScheduler();
+
+      @Test
+      void shouldEmitLastValueAtEndOfWindow() {
+        Events.of(property)
+          .throttleLast(Duration.ofMillis(100), scheduler)
+          .subscribe(strings::add);
+
+        property.set("A");
+        scheduler.advance(Duration.ofMillis(60));
+        property.set("B");
+
+        assertTrue(strings.isEmpty());
+
+        scheduler.advance(Duration.ofMillis(40));
+
+        assertEquals(List.of("B"), strings.drain());
+
+        scheduler.advance(Duration.ofMillis(500));
+
+        assertTrue(strings.isEmpty());
+
+        property.set("C");
+        scheduler.advance(Duration.ofMillis(100));
+
+        assertEquals(List.of("C"), strings.drain());
+      }
+    }
+
     @Nested
     class WithDefaultGet {
 
@@ -0,0 +1,374 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.ListChange.Step;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ListStreamsTest {
+  private final ObservableList<Integer> list = FXCollections.observableArrayList(1, 2, 3);
+
+  @Nested
+  class ListChangesOf {
+    private final Sink<ListChange<Integer>> sink = new Sink<>();
+
+    @Test
+    void shouldEmitOnlyElementsInvolvedInChange() {
+      ListChanges.of(list).subscribe(sink::add);
+
+      assertTrue(sink.isEmpty());
+
+      list.add(1, 5);
+
+      ListChange<Integer> change = sink.single();
+
+      assertEquals(1, change.getSteps().size());
+      assertEquals(ListChange.Type.REPLACEMENT, change.getSteps().get(0).getType());
+      assertEquals(1, change.getSteps().get(0).getFrom());
+      assertEquals(List.of(5), change.getSteps().get(0).getAdded());
+      assertEquals(List.of(), change.getSteps().get(0).getRemoved());
+    }
+
+    @Test
+    void shouldStopObservingListWhenUnsubscribed() {
+      Subscription subscription = ListChanges.of(list).subscribe(sink::add);
+
+      subscription.unsubscribe();
+      list.add(4);
+
+      assertTrue(sink.isEmpty());
+    }
+  }
+
+  @Nested
+  class Of {
+
+    @Test
+    void shouldEmitContentsAndThenChangesWhichReproduceList() {
+      List<Integer> copy = new ArrayList<>();
+
+      ListStreams.of(list).subscribe(c -> c.applyTo(copy));
+
+      assertEquals(List.of(1, 2, 3), copy);
+
+      list.addAll(4, 5);
+      list.remove(0);
+      list.set(1, 7);
+      FXCollections.sort(list, (a, b) -> b - a);
+      list.removeAll(7, 4);
+
+      assertEquals(list, copy);
+    }
+  }
+
+  @Nested
+  class MapList {
+    private final AtomicInteger mapperCalls = new AtomicInteger();
+    private final ValueStream<ListChange<String>> stream = ListStreams.mapList(ListStreams.of(list), i -> {
+      mapperCalls.incrementAndGet();
+
+      return "" + i;
+    });
+
+    @Test
+    void shouldOnlyMapAddedElements() {
+      List<String> copy = new ArrayList<>();
+
+      stream.subscribe(c -> c.applyTo(copy));
+
+      assertEquals(List.of("1", "2", "3"), copy);
+      assertEquals(3, mapperCalls.get());
+
+      list.add(4);
+      list.remove(1);
+
+      assertEquals(List.of("1", "3", "4"), copy);
+      assertEquals(4, mapperCalls.get());
+
+      FXCollections.sort(list, (a, b) -> b - a);
+
+      assertEquals(List.of("4", "3", "1"), copy);
+      assertEquals(4, mapperCalls.get());
+    }
+
+    @Test
+    void shouldSupplyMappedElementsToLateSubscribersWithoutMapping() {
+      stream.subscribe(c -> {});
+
+      int calls = mapperCalls.get();
+      List<String> copy = new ArrayList<>();
+
+      stream.subscribe(c -> c.applyTo(copy));
+
+      assertEquals(List.of("1", "2", "3"), copy);
+      assertEquals(calls, mapperCalls.get());
+    }
+
+    @Test
+    void shouldReplaceUpdatedElements() {
+      ObservableList<IntegerProperty> properties = FXCollections.observableArrayList(p -> new Observable[] {p});
+      List<Integer> copy = new ArrayList<>();
+
+      properties.addAll(new SimpleIntegerProperty(1), new SimpleIntegerProperty(2));
+
+      ListStreams.mapList(ListStreams.of(properties), IntegerProperty::get).subscribe(c -> c.applyTo(copy));
+
+      properties.get(1).set(5);
+
+      assertEquals(List.of(1, 5), copy);
+    }
+  }
+
+  @Nested
+  class FilterList {
+    private final ValueStream<ListChange<Integer>> stream = ListStreams.filterList(ListStreams.of(list), i -> i % 2 == 1);
+
+    @Test
+    void shouldOnlyEmitMatchingElements() {
+      Sink<ListChange<Integer>> sink = new Sink<>();
+      List<Integer> copy = new ArrayList<>();
+
+      stream.subscribe(sink::add);
+      sink.single().applyTo(copy);
+
+      assertEquals(List.of(1, 3), copy);
+
+      list.add(1, 6);  // doesn't match
+
+      assertTrue(sink.isEmpty());
+
+      list.add(0, 9);
+
+      ListChange<Integer> change = sink.single();
+
+      change.applyTo(copy);
+
+      assertEquals(List.of(9, 1, 3), copy);
+    }
+
+    @Test
+    void shouldTrackUpdatedElementsStartingOrStoppingToMatch() {
+      ObservableList<IntegerProperty> properties = FXCollections.observableArrayList(p -> new Observable[] {p});
+      List<IntegerProperty> copy = new ArrayList<>();
+
+      properties.addAll(new SimpleIntegerProperty(1), new SimpleIntegerProperty(2), new SimpleIntegerProperty(3));
+
+      ListStreams.filterList(ListStreams.of(properties), p -> p.get() % 2 == 1).subscribe(c -> c.applyTo(copy));
+
+      assertEquals(List.of(1, 3), values(copy));
+
+      properties.get(1).set(5);
+
+      assertEquals(List.of(1, 5, 3), values(copy));
+
+      properties.get(0).set(4);
+
+      assertEquals(List.of(5, 3), values(copy));
+    }
+
+    @Test
+    void shouldTrackUpdatedNullElements() {
+      AtomicBoolean includeNulls = new AtomicBoolean();
+      ObjectProperty<ListChange<String>> changes = new SimpleObjectProperty<>(ListChange.ofAdded(Arrays.asList(null, "a", null)));
+      List<String> copy = new ArrayList<>();
+
+      ListStreams.filterList(Values.of(changes), s -> s != null || includeNulls.get()).subscribe(c -> c.applyTo(copy));
+
+      assertEquals(List.of("a"), copy);
+
+      includeNulls.set(true);
+      changes.set(ListChange.of(List.of(Step.update(0, Arrays.asList(null, "a", null)))));  // nulls start matching
+
+      assertEquals(Arrays.asList(null, "a", null), copy);
+
+      changes.set(ListChange.of(List.of(Step.update(0, Arrays.asList(null, "a")))));  // still matching
+
+      assertEquals(Arrays.asList(null, "a", null), copy);
+
+      includeNulls.set(false);
+      changes.set(ListChange.of(List.of(Step.update(0, Arrays.asList(null, "a", null)))));  // nulls stop matching
+
+      assertEquals(List.of("a"), copy);
+    }
+
+    private List<Integer> values(List<IntegerProperty> properties) {
+      return properties.stream().map(IntegerProperty::get).collect(Collectors.toList());
+    }
+  }
+
+  @Nested
+  class Aggregates {
+    private final ValueStream<ListChange<Integer>> source = ListStreams.of(list);
+
+    @Test
+    void shouldOnlyEmitAggregatesWhenTheyChange() {
+      Sink<Integer> counts = new Sink<>();
+      Sink<Long> sums = new Sink<>();
+      Sink<Integer> minimums = new Sink<>();
+
+      ListStreams.count(source).subscribe(counts::add);
+      ListStreams.sumLong(source, i -> i).subscribe(sums::add);
+      ListStreams.min(source, i -> i).subscribe(minimums::add);
+
+      assertEquals(List.of(3), counts.drain());
+      assertEquals(List.of(6L), sums.drain());
+      assertEquals(List.of(1), minimums.drain());
+
+      list.add(0);
+
+      assertEquals(List.of(4), counts.drain());
+      assertTrue(sums.isEmpty());
+      assertEquals(List.of(0), minimums.drain());
+
+      FXCollections.sort(list, (a, b) -> b - a);
+
+      assertTrue(counts.isEmpty());
+      assertTrue(sums.isEmpty());
+      assertTrue(minimums.isEmpty());
+
+      list.clear();
+
+      assertEquals(List.of(0), counts.drain());
+      assertEquals(List.of(0L), sums.drain());
+      assertEquals(Arrays.asList((Integer)null), minimums.drain());
+    }
+
+    @Test
+    void shouldUsePreviouslyExtractedValuesForUpdatedElements() {
+      ObservableList<IntegerProperty> properties = FXCollections.observableArrayList(p -> new Observable[] {p});
+
+      properties.addAll(new SimpleIntegerProperty(1), new SimpleIntegerProperty(2), new SimpleIntegerProperty(3));
+
+      ValueStream<ListChange<IntegerProperty>> stream = ListStreams.of(properties);
+      Sink<Double> sums = new Sink<>();
+      Sink<Integer> maximums = new Sink<>();
+
+      ListStreams.sumDouble(stream, p -> p.get() * 0.1).subscribe(sums::add);
+      ListStreams.max(stream, IntegerProperty::get).subscribe(maximums::add);
+
+      properties.get(2).set(1);
+
+      assertEquals(0.4, sums.drain().get(1), 1e-12);
+      assertEquals(List.of(3, 2), maximums.drain());
+
+      properties.remove(1);
+
+      assertEquals(0.2, sums.single(), 1e-12);
+      assertEquals(List.of(1), maximums.drain());
+    }
+
+    @Test
+    void shouldRecoverSumWhenNonFiniteValuesAreRemoved() {
+      ObservableList<Double> values = FXCollections.observableArrayList(1.5, 2.0);
+      Sink<Double> sums = new Sink<>();
+
+      ListStreams.sumDouble(ListStreams.of(values), d -> d).subscribe(sums::add);
+
+      assertEquals(List.of(3.5), sums.drain());
+
+      values.add(Double.NaN);
+
+      assertEquals(List.of(Double.NaN), sums.drain());
+
+      values.remove(2);
+
+      assertEquals(List.of(3.5), sums.drain());
+
+      values.add(Double.POSITIVE_INFINITY);
+      values.add(Double.NEGATIVE_INFINITY);
+      values.set(2, 4.0);
+      values.set(3, 0.5);
+
+      assertEquals(List.of(Double.POSITIVE_INFINITY, Double.NaN, Double.NEGATIVE_INFINITY, 8.0), sums.drain());
+    }
+
+    @Test
+    void shouldComputeAggregateWhenNotSubscribed() {
+      ValueStream<Integer> max = ListStreams.max(source, i -> i);
+
+      assertEquals(3, max.getInitialValue().get());
+
+      list.add(7);
+
+      assertEquals(7, max.getInitialValue().get());
+      assertEquals(Integer.valueOf(4), ListStreams.count(source).toBinding().getValue());
+    }
+  }
+
+  @Test
+  void mappedAndFilteredStreamsShouldReproduceListsAfterRandomChanges() {
+    Random rnd = new Random(42);
+    List<Integer> mapped = new ArrayList<>();
+    List<Integer> filtered = new ArrayList<>();
+
+    ValueStream<ListChange<Integer>> source = ListStreams.of(list);
+
+    ListStreams.mapList(source, i -> i * 10).subscribe(c -> c.applyTo(mapped));
+    ListStreams.filterList(ListStreams.mapList(source, i -> i * 10), i -> i % 20 == 0).subscribe(c -> c.applyTo(filtered));
+
+    ValueStream<Long> sum = ListStreams.sumLong(source, i -> i);
+    ValueStream<Integer> min = ListStreams.min(source, i -> i);
+    ValueStream<Integer> max = ListStreams.max(source, i -> i);
+
+    sum.subscribe(v -> {});
+    min.subscribe(v -> {});
+    max.subscribe(v -> {});
+
+    for(int i = 0; i < 500; i++) {
+      switch(rnd.nextInt(6)) {
+      case 0:
+        list.add(rnd.nextInt(list.size() + 1), rnd.nextInt(100));
+        break;
+      case 1:
+        if(!list.isEmpty()) {
+          list.remove(rnd.nextInt(list.size()));
+        }
+        break;
+      case 2:
+        if(!list.isEmpty()) {
+          list.set(rnd.nextInt(list.size()), rnd.nextInt(100));
+        }
+        break;
+      case 3:
+        FXCollections.sort(list);
+        break;
+      case 4:
+        list.removeAll(rnd.nextInt(100), rnd.nextInt(100), rnd.nextInt(100));
+        break;
+      case 5:
+        list.addAll(rnd.nextInt(100), rnd.nextInt(100));
+        break;
+      }
+
+      List<Integer> expectedMapped = list.stream().map(x -> x * 10).collect(Collectors.toList());
+
+      assertEquals(expectedMapped, mapped);
+      assertEquals(expectedMapped.stream().filter(x -> x % 20 == 0).collect(Collectors.toList()), filtered);
+      assertEquals(list.stream().mapToLong(x -> x).sum(), sum.getInitialValue().get());
+      assertEquals(list.stream().min(Integer::compare).orElse(null), min.getInitialValue().get());
+      assertEquals(list.stream().max(Integer::compare).orElse(null), max.getInitialValue().get());
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MapChangesTest {
+  private final ObservableMap<String, Integer> map = FXCollections.observableHashMap();
+
+  {
+    map.put("a", 1);
+    map.put("b", 2);
+  }
+
+  @Nested
+  class Of {
+    private final Sink<MapChange<String, Integer>> sink = new Sink<>();
+
+    @Test
+    void shouldEmitChangesOfKeys() {
+      MapChanges.of(map).subscribe(sink::add);
+
+      assertTrue(sink.isEmpty());
+
+      map.put("a", 3);
+
+      MapChange<String, Integer> change = sink.single();
+
+      assertEquals("a", change.getKey());
+      assertEquals(1, change.getOldValue());
+      assertEquals(3, change.getNewValue());
+      assertTrue(change.wasAdded());
+      assertTrue(change.wasRemoved());
+
+      map.remove("b");
+
+      change = sink.single();
+
+      assertEquals("b", change.getKey());
+      assertFalse(change.wasAdded());
+      assertTrue(change.wasRemoved());
+    }
+  }
+
+  @Nested
+  class OfKey {
+    private final Sink<Integer> a = new Sink<>();
+    private final Sink<Integer> b = new Sink<>();
+
+    @Test
+    void shouldOnlyEmitChangesOfObservedKey() {
+      MapChanges.ofKey(map, "a").subscribe(a::add);
+      MapChanges.ofKey(map, "b").subscribe(b::add);
+
+      assertEquals(List.of(1), a.drain());
+      assertEquals(List.of(2), b.drain());
+
+      map.put("a", 5);
+      map.put("c", 6);
+
+      assertEquals(List.of(5), a.drain());
+      assertTrue(b.isEmpty());
+
+      map.remove("b");
+
+      assertTrue(a.isEmpty());
+      assertEquals(Arrays.asList((Integer)null), b.drain());
+    }
+
+    @Test
+    void shouldStopEmittingAfterUnsubscribing() {
+      ValueStream<Integer> stream = MapChanges.ofKey(map, "a");
+      Subscription subscription = stream.subscribe(a::add);
+
+      stream.subscribe(b::add);
+      subscription.unsubscribe();
+
+      map.put("a", 7);
+
+      assertEquals(List.of(1), a.drain());
+      assertEquals(List.of(1, 7), b.drain());
+    }
+
+    @Test
+    void shouldSupplyCurrentValueWhenNotSubscribed() {
+      ValueStream<Integer> stream = MapChanges.ofKey(map, "d");
+
+      assertEquals(null, stream.getInitialValue().get());
+
+      map.put("d", 4);
+
+      assertEquals(4, stream.getInitialValue().get());
+    }
+
+    @Test
+    void shouldAllowSubscribingToOtherKeysDuringDispatch() {
+      MapChanges.ofKey(map, "a").subscribe(v -> {
+        if(v == 9) {
+          MapChanges.ofKey(map, "b").subscribe(b::add);
+        }
+      });
+
+      map.put("a", 9);
+      map.put("b", 10);
+
+      assertEquals(List.of(2, 10), b.drain());
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.DoubleValueStream;
+import hs.jfx.eventstream.api.IntEventStream;
+import hs.jfx.eventstream.api.LongValueStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleLongProperty;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrimitiveStreamsTest {
+
+  @Nested
+  class DoubleValues {
+    private final DoubleProperty property = new SimpleDoubleProperty(1.5);
+    private final Sink<Double> sink = new Sink<>();
+
+    @Test
+    void shouldEmitCurrentValueAndChanges() {
+      DoubleValueStream stream = Values.ofDouble(property);
+
+      assertEquals(1.5, stream.getInitialValue());
+
+      Subscription subscription = stream.subscribe(sink::add);
+
+      assertEquals(List.of(1.5), sink.drain());
+
+      property.set(2.5);
+      property.set(2.5);
+      property.set(Double.NaN);
+      property.set(Double.NaN);
+
+      assertEquals(List.of(2.5, Double.NaN), sink.drain());
+
+      subscription.unsubscribe();
+      property.set(3);
+
+      assertTrue(sink.isEmpty());
+    }
+
+    @Test
+    void shouldMapAndFilterValues() {
+      DoubleValueStream stream = Values.ofDouble(property).map(v -> v * 2);
+
+      assertEquals(3.0, stream.getInitialValue());
+
+      stream.filter(v -> v > 4).subscribe(sink::add);
+
+      assertTrue(sink.isEmpty());
+
+      property.set(2);
+      property.set(3);
+
+      assertEquals(List.of(6.0), sink.drain());
+    }
+
+    @Test
+    void shouldBridgeToBoxedValueStream() {
+      Sink<String> strings = new Sink<>();
+
+      Values.ofDouble(property).boxed().subscribe(sink::add);
+      Values.ofDouble(property).mapToObj(v -> "" + v).subscribe(strings::add);
+
+      property.set(4);
+
+      assertEquals(List.of(1.5, 4.0), sink.drain());
+      assertEquals(List.of("1.5", "4.0"), strings.drain());
+    }
+  }
+
+  @Nested
+  class IntEvents {
+    private final IntegerProperty property = new SimpleIntegerProperty(1);
+    private final Sink<Integer> sink = new Sink<>();
+
+    @Test
+    void shouldOnlyEmitChanges() {
+      IntEventStream stream = Events.ofInt(property);
+
+      stream.subscribe(sink::add);
+
+      assertTrue(sink.isEmpty());
+
+      property.set(2);
+      property.set(2);
+      property.set(3);
+
+      assertEquals(List.of(2, 3), sink.drain());
+    }
+
+    @Test
+    void shouldSubscribeLazilyAndCallSideEffectOncePerValue() {
+      AtomicInteger sideEffects = new AtomicInteger();
+      IntEventStream stream = Events.ofInt(property).peek(v -> sideEffects.incrementAndGet());
+
+      property.set(2);
+
+      assertEquals(0, sideEffects.get());
+
+      stream.subscribe(sink::add);
+      stream.subscribe(v -> {});
+
+      property.set(3);
+
+      assertEquals(1, sideEffects.get());
+      assertEquals(List.of(3), sink.drain());
+    }
+
+    @Test
+    void shouldRejectRecursiveEmissionFromSideEffect() {
+      AtomicInteger exceptions = new AtomicInteger();
+      Thread.UncaughtExceptionHandler oldHandler = Thread.currentThread().getUncaughtExceptionHandler();
+
+      Thread.currentThread().setUncaughtExceptionHandler((t, e) -> exceptions.incrementAndGet());
+
+      try {
+        Events.ofInt(property).peek(v -> property.set(v + 1)).subscribe(sink::add);
+
+        property.set(5);
+      }
+      finally {
+        Thread.currentThread().setUncaughtExceptionHandler(oldHandler);
+      }
+
+      assertEquals(1, exceptions.get());
+    }
+
+    @Test
+    void withDefaultShouldCreateValueStream() {
+      Events.ofInt(property).map(v -> v * 10).withDefault(-1).subscribe(sink::add);
+
+      property.set(2);
+
+      assertEquals(List.of(-1, 20), sink.drain());
+    }
+
+    @Test
+    void shouldRejectNullArguments() {
+      IntEventStream stream = Events.ofInt(property);
+
+      assertThrows(NullPointerException.class, () -> stream.map(null));
+      assertThrows(NullPointerException.class, () -> stream.filter(null));
+      assertThrows(NullPointerException.class, () -> stream.peek(null));
+      assertThrows(NullPointerException.class, () -> stream.addObserver(null));
+    }
+  }
+
+  @Nested
+  class LongValues {
+    private final LongProperty property = new SimpleLongProperty(7);
+    private final Sink<Long> sink = new Sink<>();
+
+    @Test
+    void shouldSupplyCurrentValueToEachSubscriber() {
+      LongValueStream stream = Values.ofLong(property).map(v -> v + 1);
+      Sink<Long> secondSink = new Sink<>();
+
+      stream.subscribe(sink::add);
+      property.set(8);
+      stream.subscribe(secondSink::add);
+
+      assertEquals(List.of(8L, 9L), sink.drain());
+      assertEquals(List.of(9L), secondSink.drain());
+    }
+
+    @Test
+    void mapToObjShouldDiscardNullEventsOnly() {
+      Sink<String> strings = new Sink<>();
+
+      Values.ofLong(property).filter(v -> v > 7).mapToObj(v -> v % 2 == 0 ? null : "" + v).subscribe(strings::add);
+
+      property.set(8);
+      property.set(9);
+
+      assertEquals(List.of("9"), strings.drain());
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableSet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SetChangesTest {
+  private final ObservableSet<String> set = FXCollections.observableSet("a", "b");
+
+  @Test
+  void ofShouldEmitAddedAndRemovedElements() {
+    Sink<String> sink = new Sink<>();
+
+    SetChanges.of(set).subscribe(c -> sink.add((c.wasAdded() ? "+" : "-") + c.getElement()));
+
+    set.add("c");
+    set.add("c");
+    set.remove("a");
+
+    assertEquals(List.of("+c", "-a"), sink.drain());
+  }
+
+  @Test
+  void containsShouldOnlyEmitChangesOfObservedElement() {
+    Sink<Boolean> a = new Sink<>();
+    Sink<Boolean> c = new Sink<>();
+
+    Subscription subscription = SetChanges.contains(set, "a").subscribe(a::add);
+
+    SetChanges.contains(set, "c").subscribe(c::add);
+
+    assertEquals(List.of(true), a.drain());
+    assertEquals(List.of(false), c.drain());
+
+    set.add("c");
+    set.remove("b");
+
+    assertTrue(a.isEmpty());
+    assertEquals(List.of(true), c.drain());
+
+    subscription.unsubscribe();
+    set.remove("a");
+    set.remove("c");
+
+    assertTrue(a.isEmpty());
+    assertEquals(List.of(false), c.drain());
+  }
+}
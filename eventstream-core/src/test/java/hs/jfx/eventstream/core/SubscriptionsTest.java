@@ -0,0 +1,231 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.References;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class SubscriptionsTest {
+  private final StringProperty property = new SimpleStringProperty("A");
+  private final AtomicInteger observations = new AtomicInteger();
+  private final EventStream<String> stream = Events.of(property).peek(v -> observations.incrementAndGet());
+  private final Sink<String> sink = new Sink<>();
+
+  @Nested
+  class SubscribeWeak {
+    private final AtomicReference<Object> owner = new AtomicReference<>(new Object());
+
+    @Test
+    void shouldSupplyOwnerWithEachValue() {
+      Subscription subscription = Subscriptions.subscribeWeak(stream, owner.get(), (o, v) -> sink.add(o == owner.get() ? v : "wrong owner"));
+
+      property.set("B");
+
+      assertEquals(List.of("B"), sink.drain());
+
+      subscription.unsubscribe();
+      property.set("C");
+
+      assertTrue(sink.isEmpty());
+      assertEquals(1, observations.get());
+    }
+
+    @Test
+    void shouldNotRetainOwner() {
+      Subscriptions.subscribeWeak(stream, owner.get(), (o, v) -> sink.add(v));
+
+      References.assertCollectable(owner.get(), () -> owner.set(null));
+    }
+
+    @Test
+    void shouldStopObservingStreamOnceOwnerIsCollected() {
+      Subscriptions.subscribeWeak(stream, owner.get(), (o, v) -> sink.add(v));
+
+      References.assertCollectable(owner.get(), () -> owner.set(null));
+
+      property.set("B");
+      property.set("C");
+
+      assertTrue(sink.isEmpty());
+      assertEquals(1, observations.get());  // only the first value reached the subscription after the owner was collected
+    }
+
+    @Test
+    void shouldNotUnsubscribeAgainOnceOwnerOfCancelledSubscriptionIsCollected() {
+      AtomicInteger removals = new AtomicInteger();
+      ObservableStream<String> countingStream = new ObservableStream<>() {
+        @Override
+        public void addObserver(Consumer<? super String> observer) {
+        }
+
+        @Override
+        public void removeObserver(Consumer<? super String> observer) {
+          removals.incrementAndGet();
+        }
+      };
+
+      Subscription subscription = Subscriptions.subscribeWeak(countingStream, owner.get(), (o, v) -> {});
+
+      subscription.unsubscribe();
+
+      // a cleared reference is never enqueued, so collecting the owner cannot unsubscribe it again:
+      assertTrue(subscription instanceof Reference);
+      assertNull(((Reference<?>)subscription).get());
+      assertEquals(1, removals.get());
+    }
+
+    @Test
+    void shouldRejectNullArguments() {
+      assertThrows(NullPointerException.class, () -> Subscriptions.subscribeWeak(null, owner.get(), (o, v) -> {}));
+      assertThrows(NullPointerException.class, () -> Subscriptions.subscribeWeak(stream, null, (o, v) -> {}));
+      assertThrows(NullPointerException.class, () -> Subscriptions.subscribeWeak(stream, owner.get(), null));
+    }
+  }
+
+  @Nested
+  class SubscribeWhile {
+    private final BooleanProperty condition = new SimpleBooleanProperty(false);
+
+    @Test
+    void shouldOnlyObserveStreamWhileConditionHolds() {
+      Subscriptions.subscribeWhile(stream, condition, sink::add);
+
+      property.set("B");
+
+      assertTrue(sink.isEmpty());
+      assertEquals(0, observations.get());
+
+      condition.set(true);
+      property.set("C");
+
+      assertEquals(List.of("C"), sink.drain());
+
+      condition.set(false);
+      property.set("D");
+
+      assertTrue(sink.isEmpty());
+
+      condition.set(true);
+      property.set("E");
+
+      assertEquals(List.of("E"), sink.drain());
+      assertEquals(2, observations.get());
+    }
+
+    @Test
+    void shouldStopObservingStreamAndConditionWhenUnsubscribed() {
+      condition.set(true);
+
+      Subscription subscription = Subscriptions.subscribeWhile(stream, condition, sink::add);
+
+      subscription.unsubscribe();
+      property.set("B");
+      condition.set(false);
+      condition.set(true);
+      property.set("C");
+
+      assertTrue(sink.isEmpty());
+      assertEquals(0, observations.get());
+    }
+  }
+
+  @Nested
+  class SubscribeWhileInScene {
+    private final Group node = new Group();
+
+    @Test
+    void shouldOnlyObserveStreamWhileNodeIsInScene() {
+      assumeTrue(isToolkitAvailable(), "JavaFX toolkit could not be started");
+
+      Group root = new Group();
+
+      Subscriptions.subscribeWhileInScene(stream, node, sink::add);
+
+      property.set("B");
+
+      assertTrue(sink.isEmpty());
+      assertEquals(0, observations.get());
+
+      new Scene(root);
+      root.getChildren().add(node);
+      property.set("C");
+
+      assertEquals(List.of("C"), sink.drain());
+
+      root.getChildren().remove(node);
+      property.set("D");
+
+      assertTrue(sink.isEmpty());
+
+      root.getChildren().add(node);
+      property.set("E");
+
+      assertEquals(List.of("E"), sink.drain());
+      assertEquals(2, observations.get());
+    }
+
+    @Test
+    void shouldNotObserveStreamWhileNodeIsNotInScene() {
+      Subscription subscription = Subscriptions.subscribeWhileInScene(stream, node, sink::add);
+
+      property.set("B");
+
+      assertTrue(sink.isEmpty());
+      assertEquals(0, observations.get());
+
+      subscription.unsubscribe();
+      property.set("C");
+
+      assertTrue(sink.isEmpty());
+    }
+
+    @Test
+    void shouldRejectNullNode() {
+      assertThrows(NullPointerException.class, () -> Subscriptions.subscribeWhileInScene(stream, null, sink::add));
+    }
+  }
+
+  private static Boolean toolkitAvailable;
+
+  // Scenes can only be created with a running toolkit, which requires a display
+  private static synchronized boolean isToolkitAvailable() {
+    if(toolkitAvailable == null) {
+      try {
+        Platform.startup(() -> {});
+        toolkitAvailable = true;
+      }
+      catch(IllegalStateException e) {
+        toolkitAvailable = true;  // already started
+      }
+      catch(UnsupportedOperationException e) {
+        toolkitAvailable = false;  // no display
+      }
+    }
+
+    return toolkitAvailable;
+  }
+}
@@ -0,0 +1,178 @@
+package hs.jfx.eventstream.core;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.Transactions.Transaction;
+import hs.jfx.eventstream.core.impl.RootChangeStream;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransactionsTest {
+  private final StringProperty a = new SimpleStringProperty("A");
+  private final StringProperty b = new SimpleStringProperty("B");
+  private final Sink<String> strings = new Sink<>();
+
+  @Test
+  void shouldEmitImmediatelyWhenNoTransactionInProgress() {
+    Events.of(a).transactional().subscribe(strings::add);
+
+    a.set("1");
+
+    assertEquals(List.of("1"), strings.drain());
+  }
+
+  @Test
+  void shouldOnlyEmitLastValueWhenTransactionEnds() {
+    Events.of(a).transactional().subscribe(strings::add);
+
+    Transactions.run(() -> {
+      a.set("1");
+      a.set("2");
+      a.set("3");
+
+      assertTrue(strings.isEmpty());
+    });
+
+    assertEquals(List.of("3"), strings.drain());
+  }
+
+  @Test
+  void shouldEmitAllValuesWhenCollectingAll() {
+    Events.of(a).transactional(TransactionPolicy.COLLECT_ALL).subscribe(strings::add);
+
+    Transactions.run(() -> {
+      a.set("1");
+      a.set("2");
+    });
+
+    assertEquals(List.of("1", "2"), strings.drain());
+  }
+
+  @Test
+  void shouldOnlyEndWhenOutermostTransactionEnds() {
+    Events.of(a).transactional().subscribe(strings::add);
+
+    try(Transaction outer = Transactions.begin()) {
+      try(Transaction inner = Transactions.begin()) {
+        a.set("1");
+      }
+
+      assertTrue(Transactions.isInProgress());
+      assertTrue(strings.isEmpty());
+
+      a.set("2");
+    }
+
+    assertFalse(Transactions.isInProgress());
+    assertEquals(List.of("2"), strings.drain());
+  }
+
+  @Test
+  void shouldEmitInOrderStreamsFirstReceivedValue() {
+    Events.of(b).transactional().subscribe(v -> strings.add("b" + v));
+    Events.of(a).transactional().subscribe(v -> strings.add("a" + v));
+
+    Transactions.run(() -> {
+      a.set("1");
+      b.set("2");
+      a.set("3");
+    });
+
+    assertEquals(List.of("a3", "b2"), strings.drain());
+  }
+
+  @Test
+  void shouldNotEmitDeferredValuesAfterUnsubscribing() {
+    Subscription subscription = Events.of(a).transactional().subscribe(strings::add);
+
+    Transactions.run(() -> {
+      a.set("1");
+      subscription.unsubscribe();
+    });
+
+    assertTrue(strings.isEmpty());
+  }
+
+  @Test
+  void shouldEmitNullValuesOfChangeStreams() {
+    RootChangeStream.of(a).transactional().subscribe(strings::add);
+
+    Transactions.run(() -> {
+      a.set("1");
+      a.set(null);
+    });
+
+    List<String> expected = new ArrayList<>();
+
+    expected.add(null);
+
+    assertEquals(expected, strings.drain());
+  }
+
+  @Test
+  void shouldEndTransactionWhenActionThrowsException() {
+    AtomicBoolean thrown = new AtomicBoolean();
+
+    try {
+      Transactions.run(() -> {
+        throw new IllegalStateException();
+      });
+    }
+    catch(IllegalStateException e) {
+      thrown.set(true);
+    }
+
+    assertTrue(thrown.get());
+    assertFalse(Transactions.isInProgress());
+  }
+
+  @Nested
+  class WhenDependentStreamCombinesManyProperties {
+    private final ValueStream<String> stream = Values.of(a)
+      .flatMap(x -> Values.of(b).map(y -> x + y))
+      .transactional();
+
+    @Test
+    void shouldEmitOnlyOncePerTransaction() {
+      stream.subscribe(strings::add);
+
+      assertEquals(List.of("AB"), strings.drain());
+
+      Transactions.run(() -> {
+        a.set("1");
+        b.set("2");
+      });
+
+      assertEquals(List.of("12"), strings.drain());
+    }
+
+    @Test
+    void shouldImmediatelySupplyCurrentValueWhenSubscribingDuringTransaction() {
+      Transactions.run(() -> {
+        a.set("1");
+
+        stream.subscribe(strings::add);
+
+        assertEquals(List.of("1B"), strings.drain());
+
+        b.set("2");
+      });
+
+      assertEquals(List.of("12"), strings.drain());
+    }
+  }
+}
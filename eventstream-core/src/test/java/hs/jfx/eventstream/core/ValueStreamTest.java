@@ -1,18 +1,26 @@
 package hs.jfx.eventstream.core;
 
+import hs.jfx.eventstream.api.ChangeStream;
 import hs.jfx.eventstream.api.OptionalValue;
 import hs.jfx.eventstream.api.Subscription;
 import hs.jfx.eventstream.api.ValueStream;
+import hs.jfx.eventstream.core.util.LruCache;
 import hs.jfx.eventstream.core.util.References;
 import hs.jfx.eventstream.core.util.Sink;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Binding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -123,6 +131,147 @@ public class ValueStreamTest {
   @Nested
   class IntermediateOperations {
 
+    @Nested
+    class Cache {
+      private final AtomicInteger mapperCalls = new AtomicInteger();
+      private final ValueStream<String> stream = Values.of(property)
+        .map(s -> {
+          mapperCalls.incrementAndGet();
+
+          return s + "!";
+        })
+        .cache();
+
+      {
+        property.set("A");
+      }
+
+      @Test
+      void shouldSupplyLatestValueToNewSubscribersWithoutReevaluatingChain() {
+        stream.subscribe(strings::add);
+
+        assertEquals("A!", strings.single());
+
+        property.set("B");
+
+        assertEquals("B!", strings.single());
+
+        int calls = mapperCalls.get();
+        Sink<String> sink = new Sink<>();
+
+        stream.subscribe(sink::add);
+
+        assertEquals("B!", sink.single());
+        assertEquals("B!", stream.getInitialValue().get());
+        assertEquals(calls, mapperCalls.get());  // mapper was not called again
+        assertTrue(strings.isEmpty());
+      }
+
+      @Test
+      void shouldEvaluateChainWhenNotObserved() {
+        assertEquals("A!", stream.getInitialValue().get());
+
+        Subscription subscription = stream.subscribe(strings::add);
+
+        assertEquals("A!", strings.single());
+
+        subscription.unsubscribe();
+        property.set("B");
+
+        assertEquals("B!", stream.getInitialValue().get());
+
+        stream.subscribe(strings::add);
+
+        assertEquals("B!", strings.single());
+      }
+
+      @Test
+      void shouldSupplyNothingWhenSourceSuppliesNothing() {
+        ValueStream<String> stream = Values.of(property)
+          .conditionOn(new SimpleBooleanProperty(false))
+          .cache();
+
+        stream.subscribe(strings::add);
+
+        assertTrue(strings.isEmpty());
+        assertFalse(stream.getInitialValue().isPresent());
+      }
+    }
+
+    @Nested
+    class Coalesce {
+      private final VirtualScheduler scheduler = new VirtualScheduler();
+      private final AtomicInteger mapperCalls = new AtomicInteger();
+      private final ValueStream<String> stream = Values.of(property)
+        .coalesce(scheduler)
+        .map(s -> {
+          mapperCalls.incrementAndGet();
+
+          return s + "!";
+        });
+
+      {
+        property.set("A");
+      }
+
+      @Test
+      void shouldEmitOnlyLatestValueWhenSchedulerRuns() {
+        stream.subscribe(strings::add);
+
+        assertEquals("A!", strings.single());
+
+        int calls = mapperCalls.get();
+
+        property.set("B");
+        property.set("C");
+        property.set("D");
+
+        assertTrue(strings.isEmpty());
+        assertEquals(calls, mapperCalls.get());
+
+        scheduler.advance(Duration.ZERO);
+
+        assertEquals("D!", strings.single());
+        assertEquals(calls + 1, mapperCalls.get());
+      }
+
+      @Test
+      void shouldNotEmitWhenLatestValueEqualsLastEmittedValue() {
+        stream.subscribe(strings::add);
+
+        assertEquals("A!", strings.single());
+
+        property.set("B");
+        property.set("A");
+        scheduler.advance(Duration.ZERO);
+
+        assertTrue(strings.isEmpty());
+      }
+
+      @Test
+      void shouldSupplyCurrentValueToNewSubscribersImmediately() {
+        stream.subscribe(strings::add);
+
+        property.set("B");
+
+        Sink<String> sink = new Sink<>();
+
+        stream.subscribe(sink::add);
+
+        assertEquals("B!", sink.single());
+      }
+
+      @Test
+      void shouldCancelPendingEmissionWhenUnsubscribed() {
+        Subscription subscription = stream.subscribe(strings::add);
+
+        property.set("B");
+        subscription.unsubscribe();
+
+        assertEquals(0, scheduler.getPendingActionCount());
+      }
+    }
+
     @Nested
     class ConditionOn {
       private final Sink<String> strings2 = new Sink<>();
@@ -253,6 +402,88 @@ public class ValueStreamTest {
       }
     }
 
+    @Nested
+    class Distinct {
+      private final AtomicInteger mapperCalls = new AtomicInteger();
+      private final ValueStream<String> stream = Values.of(property)
+        .map(String::length)
+        .distinct()
+        .map(n -> {
+          mapperCalls.incrementAndGet();
+
+          return "" + n;
+        });
+
+      {
+        property.set("A");
+      }
+
+      @Test
+      void shouldSkipValuesEqualToLastEmittedValue() {
+        stream.subscribe(strings::add);
+
+        int calls = mapperCalls.get();
+
+        property.set("B");
+        property.set("CC");
+        property.set("DD");
+        property.set(null);
+        property.set("E");
+
+        assertEquals(Arrays.asList("1", "2", null, "1"), strings.drain());
+        assertEquals(calls + 2, mapperCalls.get());  // mapper is not called for skipped values or null
+      }
+
+      @Test
+      void shouldSupplyLastEmittedValueToNewSubscribers() {
+        ValueStream<String> stream = Values.of(property).distinct(String::equalsIgnoreCase);
+
+        stream.subscribe(strings::add);
+        property.set("a");
+
+        assertEquals(List.of("A"), strings.drain());
+        assertEquals("A", stream.getInitialValue().get());
+
+        Sink<String> sink = new Sink<>();
+
+        stream.subscribe(sink::add);
+
+        assertEquals(List.of("A"), sink.drain());
+      }
+
+      @Test
+      void shouldUseCurrentValueWhenNotObserved() {
+        ValueStream<String> stream = Values.of(property).distinct(String::equalsIgnoreCase);
+        Subscription subscription = stream.subscribe(strings::add);
+
+        property.set("a");
+        subscription.unsubscribe();
+
+        assertEquals("a", stream.getInitialValue().get());
+
+        stream.subscribe(strings::add);
+
+        assertEquals(List.of("A", "a"), strings.drain());
+      }
+
+      @Test
+      void shouldSupplyNothingWhenSourceSuppliesNothing() {
+        ValueStream<String> stream = Values.of(property)
+          .conditionOn(new SimpleBooleanProperty(false))
+          .distinct();
+
+        stream.subscribe(strings::add);
+
+        assertTrue(strings.isEmpty());
+        assertFalse(stream.getInitialValue().isPresent());
+      }
+
+      @Test
+      void shouldRejectNullEquality() {
+        assertThrows(NullPointerException.class, () -> Values.of(property).distinct(null));
+      }
+    }
+
     @Nested
     class Filter {
 
@@ -465,6 +696,144 @@ public class ValueStreamTest {
       }
     }
 
+    @Nested
+    class MapCached {
+      private final java.util.Map<String, Integer> calls = new HashMap<>();
+
+      private <T> Function<String, T> counting(Function<String, T> mapper) {
+        return s -> {
+          calls.merge(s, 1, Integer::sum);
+
+          return mapper.apply(s);
+        };
+      }
+
+      @Test
+      void shouldOnlyCallMapperForInputsNotRecentlyUsed() {
+        property.set("A");
+
+        ValueStream<String> stream = Values.of(property).mapCached(counting(String::toLowerCase), 2);
+
+        stream.subscribe(strings::add);
+        property.set("B");
+        property.set(null);
+        property.set("A");
+        property.set("C");  // evicts B
+        property.set("B");
+
+        assertEquals("b", stream.getInitialValue().get());
+        assertEquals(Arrays.asList("a", "b", null, "a", "c", "b"), strings.drain());
+        assertEquals(java.util.Map.of("A", 1, "B", 2, "C", 1), calls);
+      }
+
+      @Test
+      void shouldReuseInnerStreamsWhenFlatMapping() {
+        java.util.Map<String, StringProperty> details = java.util.Map.of("A", new SimpleStringProperty("a1"), "B", new SimpleStringProperty("b1"));
+
+        property.set("A");
+
+        Values.of(property)
+          .flatMap(LruCache.memoize(counting(s -> Values.of(details.get(s)).map(String::toUpperCase)), 10))
+          .subscribe(strings::add);
+
+        property.set("B");
+        property.set("A");
+        details.get("A").set("a2");
+
+        assertEquals(List.of("A1", "B1", "A1", "A2"), strings.drain());
+        assertEquals(java.util.Map.of("A", 1, "B", 1), calls);
+      }
+
+      @Test
+      void shouldRejectInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> Values.of(property).mapCached(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> Values.of(property).mapCached(s -> s, -1));
+      }
+    }
+
+    @Nested
+    class MapAsync {
+      private final java.util.Map<String, CompletableFuture<String>> lookups = new HashMap<>();
+      private final ChangeStream<String> stream = Values.of(property).mapAsync(this::lookup, Runnable::run);
+
+      private CompletableFuture<String> lookup(String key) {
+        return lookups.computeIfAbsent(key, k -> new CompletableFuture<>());
+      }
+
+      @Test
+      void shouldOnlyEmitResultOfLatestValueAndCancelStaleLookups() {
+        property.set("a");
+        stream.subscribe(strings::add);
+
+        assertTrue(strings.isEmpty());
+
+        property.set("ab");
+        property.set("abc");
+
+        assertTrue(lookups.get("a").isCancelled());
+        assertTrue(lookups.get("ab").isCancelled());
+
+        lookups.get("abc").complete("ABC");
+
+        assertEquals(List.of("ABC"), strings.drain());
+      }
+
+      @Test
+      void shouldDiscardResultsCompletingAfterNewerValue() {
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        ChangeStream<String> stream = Values.of(property).mapAsync(k -> k.equals("a") ? slow.thenApply(v -> v) : CompletableFuture.completedFuture(k.toUpperCase()), Runnable::run);
+
+        property.set("a");
+        stream.subscribe(strings::add);
+        property.set("b");
+        slow.complete("A");
+
+        assertEquals(List.of("B"), strings.drain());
+      }
+
+      @Test
+      void shouldEmitNullWithoutCallingMapper() {
+        property.set("a");
+        stream.subscribe(strings::add);
+        property.set(null);
+
+        assertTrue(lookups.get("a").isCancelled());
+        assertEquals(Arrays.asList((String)null), strings.drain());
+      }
+
+      @Test
+      void shouldCancelLookupWhenUnsubscribed() {
+        property.set("a");
+
+        Subscription subscription = stream.subscribe(strings::add);
+
+        subscription.unsubscribe();
+
+        assertTrue(lookups.get("a").isCancelled());
+        assertTrue(strings.isEmpty());
+      }
+
+      @Test
+      void shouldReportFailuresToUncaughtExceptionHandler() {
+        AtomicReference<Throwable> reported = new AtomicReference<>();
+        UncaughtExceptionHandler oldHandler = Thread.currentThread().getUncaughtExceptionHandler();
+
+        Thread.currentThread().setUncaughtExceptionHandler((t, e) -> reported.set(e));
+
+        try {
+          property.set("a");
+          stream.subscribe(strings::add);
+          lookups.get("a").completeExceptionally(new IllegalStateException("failed"));
+        }
+        finally {
+          Thread.currentThread().setUncaughtExceptionHandler(oldHandler);
+        }
+
+        assertTrue(reported.get() instanceof IllegalStateException);
+        assertTrue(strings.isEmpty());
+      }
+    }
+
     @Nested
     class Or {
       private StringProperty otherProperty = new SimpleStringProperty("1");
@@ -736,5 +1105,93 @@ public class ValueStreamTest {
         assertEquals("Hello", binding.getValue());  // unchanged as binding was disposed, resulting in it unsubscribing itself
       }
     }
+
+    @Nested
+    class ToLazyBinding {
+      private final AtomicInteger mapperCalls = new AtomicInteger();
+      private final Binding<String> binding = Values.of(property)
+        .map(s -> {
+          mapperCalls.incrementAndGet();
+
+          return s + "!";
+        })
+        .toLazyBinding();
+
+      @Test
+      void shouldNotObserveStreamWithoutListeners() {
+        property.set("A");
+        property.set("B");
+
+        assertEquals(0, mapperCalls.get());
+        assertFalse(binding.isValid());
+        assertEquals("B!", binding.getValue());
+        assertFalse(binding.isValid());
+      }
+
+      @Test
+      void shouldInvalidateOnceUntilValueIsRequested() {
+        AtomicInteger invalidations = new AtomicInteger();
+
+        property.set("A");
+        binding.addListener(obs -> invalidations.incrementAndGet());
+
+        assertTrue(binding.isValid());
+        assertEquals("A!", binding.getValue());
+
+        property.set("B");
+        property.set("C");
+
+        assertEquals(1, invalidations.get());
+        assertFalse(binding.isValid());
+        assertEquals("C!", binding.getValue());
+        assertTrue(binding.isValid());
+
+        property.set("D");
+
+        assertEquals(2, invalidations.get());
+      }
+
+      @Test
+      void shouldStopObservingStreamWhenLastListenerIsRemoved() {
+        InvalidationListener listener = obs -> {};
+
+        binding.addListener(listener);
+        binding.addListener(listener);
+        binding.removeListener(listener);
+
+        int calls = mapperCalls.get();
+
+        property.set("A");
+
+        assertEquals(calls + 1, mapperCalls.get());
+
+        binding.removeListener(listener);
+        property.set("B");
+
+        assertEquals(calls + 1, mapperCalls.get());
+        assertEquals("B!", binding.getValue());
+      }
+
+      @Test
+      void shouldNotifyChangeListeners() {
+        Sink<String> sink = new Sink<>();
+
+        binding.addListener((obs, old, current) -> sink.add(current));
+        property.set("A");
+        property.set("B");
+
+        assertEquals(List.of("A!", "B!"), sink.drain());
+      }
+
+      @Test
+      void shouldKeepLastValueAfterDispose() {
+        property.set("A");
+        binding.dispose();
+        property.set("B");
+
+        assertEquals("A!", binding.getValue());
+        assertTrue(binding.isValid());
+      }
+    }
   }
 }
@@ -0,0 +1,111 @@
+package hs.jfx.eventstream.core.debug;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.Events;
+import hs.jfx.eventstream.core.metrics.StreamMetrics;
+
+import java.time.Duration;
+import java.util.List;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamDebuggerTest {
+  private final StringProperty property = new SimpleStringProperty("A");
+  private final EventStream<String> root = Events.of(property);
+  private final EventStream<String> lower = root.map(String::toLowerCase);
+
+  {
+    StreamMetrics.instrument(root, "root");
+    StreamMetrics.instrument(lower, "lower");
+  }
+
+  @AfterEach
+  void disable() {
+    StreamDebugger.disable();
+  }
+
+  @Test
+  void shouldDumpGraphOfTrackedStreams() {
+    StreamDebugger.enable(0);
+
+    lower.subscribe(v -> {});
+    lower.subscribe(v -> {});
+
+    String[] lines = StreamDebugger.dumpGraph().split("\n");
+
+    assertEquals(4, lines.length);
+    assertTrue(lines[0].startsWith("root ("), lines[0]);
+    assertTrue(lines[0].endsWith("[1 observer]"), lines[0]);
+    assertTrue(lines[1].startsWith("  lower ("), lines[1]);
+    assertTrue(lines[1].endsWith("[2 observers]"), lines[1]);
+    assertTrue(lines[2].startsWith("    subscription, age "), lines[2]);
+
+    String dot = StreamDebugger.dumpGraphAsDot();
+
+    assertTrue(dot.startsWith("digraph streams {\n"), dot);
+    assertTrue(dot.contains("n0 -> n1;"), dot);
+    assertTrue(dot.contains("n1 -> s1;"), dot);
+  }
+
+  @Test
+  void shouldNotTrackSubscriptionsWhileDisabled() {
+    lower.subscribe(v -> {});
+
+    StreamDebugger.enable(0);
+
+    assertEquals("", StreamDebugger.dumpGraph());
+  }
+
+  @Test
+  void shouldStopTrackingWhenUnsubscribed() {
+    StreamDebugger.enable(0);
+
+    Subscription subscription = lower.subscribe(v -> {});
+
+    subscription.unsubscribe();
+
+    assertEquals("", StreamDebugger.dumpGraph());
+    assertEquals(List.of(), StreamDebugger.findSubscriptionsOlderThan(Duration.ZERO));
+  }
+
+  @Test
+  void shouldFindOldSubscriptionsMadeByUsers() {
+    StreamDebugger.enable(1);
+
+    lower.subscribe(v -> {});
+    root.subscribe(v -> {});
+
+    List<LiveSubscription> subscriptions = StreamDebugger.findSubscriptionsOlderThan(Duration.ZERO);
+
+    assertEquals(2, subscriptions.size());
+    assertTrue(subscriptions.get(0).getStream().startsWith("lower ("));
+    assertNotNull(subscriptions.get(0).getStackTrace());
+    assertTrue(subscriptions.get(1).getStream().startsWith("root ("));
+    assertNotNull(subscriptions.get(1).getStackTrace());
+    assertTrue(subscriptions.get(0).getAge().compareTo(subscriptions.get(1).getAge()) >= 0);
+
+    // ages only increase, so the oldest subscription is always at least as old as it was:
+    Duration oldestAge = subscriptions.get(0).getAge();
+
+    subscriptions = StreamDebugger.findSubscriptionsOlderThan(oldestAge);
+
+    assertTrue(subscriptions.get(0).getStream().startsWith("lower ("));
+    assertTrue(subscriptions.stream().allMatch(s -> s.getAge().compareTo(oldestAge) >= 0));
+    assertEquals(List.of(), StreamDebugger.findSubscriptionsOlderThan(Duration.ofDays(1)));
+  }
+
+  @Test
+  void shouldRejectNegativeSampleInterval() {
+    assertThrows(IllegalArgumentException.class, () -> StreamDebugger.enable(-1));
+  }
+}
@@ -0,0 +1,141 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Emitter;
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FusableSubscriberTest {
+  private final Sink<String> strings = new Sink<>();
+  private final Sink<String> peekedValues = new Sink<>();
+
+  private int subscribeCalls;
+  private int unsubscribeCalls;
+  private Emitter<String> emitter;
+
+  private final EventStream<String> source = new BaseEventStream<>(e -> {
+    subscribeCalls++;
+    emitter = e;
+
+    return () -> unsubscribeCalls++;
+  });
+
+  @Nested
+  class WhenChainOfStatelessStagesIsSubscribed {
+    private final EventStream<String> intermediate = source
+      .map(String::toUpperCase)
+      .filter(s -> !s.startsWith("X"));
+
+    private final Subscription subscription = intermediate
+      .map(s -> s + "!")
+      .subscribe(strings::add);
+
+    @Test
+    void shouldSubscribeToSourceOnlyOnce() {
+      assertEquals(1, subscribeCalls);
+    }
+
+    @Test
+    void shouldApplyAllStages() {
+      emitter.emit("a");
+      emitter.emit("x");
+      emitter.emit("b");
+
+      assertEquals(List.of("A!", "B!"), strings.drain());
+    }
+
+    @Test
+    void shouldUnsubscribeFromSource() {
+      subscription.unsubscribe();
+
+      assertEquals(1, unsubscribeCalls);
+    }
+
+    @Nested
+    class AndAnIntermediateStageIsSubscribedDirectly {
+      private final Sink<String> intermediateStrings = new Sink<>();
+      private final Subscription intermediateSubscription = intermediate.subscribe(intermediateStrings::add);
+
+      @Test
+      void shouldApplyStagesForBothSubscribers() {
+        emitter.emit("a");
+
+        assertEquals(List.of("A!"), strings.drain());
+        assertEquals(List.of("A"), intermediateStrings.drain());
+      }
+
+      @Test
+      void shouldKeepEmittingWhenOtherSubscriberIsRemoved() {
+        subscription.unsubscribe();
+
+        emitter.emit("a");
+
+        assertEquals(List.of(), strings.drain());
+        assertEquals(List.of("A"), intermediateStrings.drain());
+
+        intermediateSubscription.unsubscribe();
+
+        assertEquals(subscribeCalls, unsubscribeCalls);
+      }
+    }
+  }
+
+  @Nested
+  class WhenIntermediateStageIsAlreadyObserving {
+    private final EventStream<String> intermediate = source.map(String::toUpperCase);
+    private final Sink<String> intermediateStrings = new Sink<>();
+
+    {
+      intermediate.subscribe(intermediateStrings::add);
+      intermediate.map(s -> s + "!").subscribe(strings::add);
+    }
+
+    @Test
+    void shouldShareIntermediateStage() {
+      assertEquals(1, subscribeCalls);
+
+      emitter.emit("a");
+
+      assertEquals(List.of("A!"), strings.drain());
+      assertEquals(List.of("A"), intermediateStrings.drain());
+    }
+  }
+
+  @Nested
+  class WhenChainContainsPeek {
+    private final EventStream<String> peeked = source
+      .map(String::toUpperCase)
+      .peek(peekedValues::add);
+
+    {
+      peeked.map(s -> s + "!").subscribe(strings::add);
+    }
+
+    @Test
+    void shouldNotBypassPeekStage() {
+      peeked.subscribe(strings::add);
+
+      emitter.emit("a");
+
+      assertEquals(List.of("A"), peekedValues.drain());  // side effect called only once
+      assertEquals(List.of("A!", "A"), strings.drain());
+    }
+
+    @Test
+    void shouldFuseStagesBeforePeek() {
+      assertEquals(1, subscribeCalls);
+
+      emitter.emit("a");
+
+      assertEquals(List.of("A"), peekedValues.drain());
+      assertEquals(List.of("A!"), strings.drain());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.OptionalValue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OperatorTest {
+
+  @Test
+  void applyShouldReturnEmittedValue() {
+    Operator<String, Integer> operator = (value, emitter) -> emitter.emit(value.length());
+
+    assertEquals(5, operator.apply("Hello").get());
+  }
+
+  @Test
+  void applyShouldReturnNullWhenNullWasEmitted() {
+    Operator<String, String> operator = (value, emitter) -> emitter.emit(null);
+    OptionalValue<String> result = operator.apply("Hello");
+
+    assertTrue(result.isPresent());
+    assertNull(result.get());
+  }
+
+  @Test
+  void applyShouldReturnEmptyWhenNothingWasEmitted() {
+    Operator<String, String> operator = (value, emitter) -> {};
+
+    assertFalse(operator.apply("Hello").isPresent());
+  }
+
+  @Test
+  void identityShouldEmitInput() {
+    assertEquals("Hello", Operator.<String>identity().apply("Hello").get());
+    assertNull(Operator.identity().apply(null).get());
+  }
+}
@@ -0,0 +1,147 @@
+package hs.jfx.eventstream.core.impl;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.Change;
+import hs.jfx.eventstream.core.Changes;
+import hs.jfx.eventstream.core.Events;
+import hs.jfx.eventstream.core.Values;
+import hs.jfx.eventstream.core.util.Sink;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValueBase;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SharedRootsTest {
+  private final CountingObservable observable = new CountingObservable();
+  private final Sink<String> strings = new Sink<>();
+
+  @Test
+  void shouldShareSingleListenerBetweenStreams() {
+    Sink<Change<String>> changes = new Sink<>();
+
+    Subscription s1 = Events.of(observable).subscribe(strings::add);
+    Subscription s2 = Values.of(observable).map(s -> s + "!").subscribe(strings::add);
+    Subscription s3 = Changes.of(observable).subscribe(changes::add);
+    Subscription s4 = RootChangeStream.of(observable).subscribe(strings::add);
+
+    assertEquals(1, observable.listenerCount);
+    assertEquals(List.of("A!"), strings.drain());
+
+    observable.set("B");
+
+    assertEquals(List.of("B", "B!", "B"), strings.drain());
+    assertEquals("A", changes.single().getOldValue());
+
+    s1.unsubscribe();
+    s2.unsubscribe();
+    s3.unsubscribe();
+
+    assertEquals(1, observable.listenerCount);
+
+    s4.unsubscribe();
+
+    assertEquals(0, observable.listenerCount);
+
+    observable.set("C");
+
+    assertEquals(List.of(), strings.drain());
+
+    Events.of(observable).subscribe(strings::add);
+
+    assertEquals(1, observable.listenerCount);
+
+    observable.set("D");
+
+    assertEquals(List.of("D"), strings.drain());
+  }
+
+  @Test
+  void shouldSupplyEachListenerWithConsistentChangesWhenChangedDuringDispatch() {
+    Sink<Change<String>> changes = new Sink<>();
+
+    Changes.of(observable).subscribe(c -> {
+      if(c.getValue().equals("B")) {
+        observable.set("C");
+      }
+    });
+    Changes.of(observable).subscribe(changes::add);
+
+    observable.set("B");
+
+    assertEquals(
+      List.of("B->C", "A->B"),  // nested change is received first, then the original change
+      changes.drain().stream().map(c -> c.getOldValue() + "->" + c.getValue()).collect(Collectors.toList())
+    );
+  }
+
+  @Test
+  void shouldStillDispatchToOtherStreamsWhenOneThrows() {
+    List<Throwable> exceptions = new ArrayList<>();
+    UncaughtExceptionHandler oldHandler = Thread.currentThread().getUncaughtExceptionHandler();
+
+    Thread.currentThread().setUncaughtExceptionHandler((t, e) -> exceptions.add(e));
+
+    try {
+      Events.of(observable).subscribe(v -> { throw new IllegalStateException(v); });
+      Events.of(observable).subscribe(strings::add);
+
+      observable.set("B");
+    }
+    finally {
+      Thread.currentThread().setUncaughtExceptionHandler(oldHandler);
+    }
+
+    assertEquals(List.of("B"), strings.drain());
+    assertEquals(1, exceptions.size());
+    assertEquals("B", exceptions.get(0).getMessage());
+  }
+
+  private static class CountingObservable extends ObservableValueBase<String> {
+    int listenerCount;
+    String value = "A";
+
+    void set(String value) {
+      this.value = value;
+
+      fireValueChangedEvent();
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super String> listener) {
+      listenerCount++;
+      super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super String> listener) {
+      listenerCount--;
+      super.removeListener(listener);
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+      listenerCount++;
+      super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+      listenerCount--;
+      super.removeListener(listener);
+    }
+  }
+}
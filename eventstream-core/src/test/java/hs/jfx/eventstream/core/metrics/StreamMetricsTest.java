@@ -0,0 +1,160 @@
+package hs.jfx.eventstream.core.metrics;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.Events;
+import hs.jfx.eventstream.core.Values;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamMetricsTest {
+  private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+  private final StringProperty property = new SimpleStringProperty("A");
+
+  {
+    StreamMetrics.setRegistry(registry);
+  }
+
+  @AfterEach
+  void restoreRegistry() {
+    StreamMetrics.setRegistry(StreamMetrics.getDefaultRegistry());
+  }
+
+  @Test
+  void shouldRecordObserversAndEmissions() {
+    EventStream<String> stream = Events.of(property).map(String::toLowerCase);
+
+    assertSame(stream, StreamMetrics.instrument(stream, "lower"));
+
+    Subscription subscription = stream.subscribe(v -> {});
+
+    stream.subscribe(v -> {});
+    property.set("B");
+    property.set("C");
+
+    StreamStatistics statistics = registry.getStatistics("lower");
+
+    assertEquals(2, statistics.getEmissions());
+    assertEquals(2, statistics.getObserverCount());
+    assertTrue(statistics.getDispatchNanos() >= 0);
+
+    subscription.unsubscribe();
+    subscription.unsubscribe();  // second time does nothing
+
+    statistics = registry.getStatistics("lower");
+
+    assertEquals(1, statistics.getObserverCount());
+    assertEquals(2, statistics.getObserversAdded());
+    assertEquals(1, statistics.getObserversRemoved());
+  }
+
+  @Test
+  void shouldCombineStreamsWithSameName() {
+    StreamMetrics.instrument(Values.of(property), "values").subscribe(v -> {});
+    StreamMetrics.instrument(Events.of(property), "values").subscribe(v -> {});
+
+    property.set("B");
+
+    assertEquals(2, registry.getStatistics("values").getObserverCount());
+    assertEquals(2, registry.getStatistics("values").getEmissions());
+    assertEquals(1, registry.getStatistics().size());
+  }
+
+  @Test
+  void shouldUseCustomRegistry() {
+    StringBuilder events = new StringBuilder();
+
+    StreamMetrics.setRegistry(name -> new StreamRecorder() {
+      @Override
+      public void observerAdded() {
+        events.append("+" + name);
+      }
+
+      @Override
+      public void observerRemoved() {
+        events.append("-" + name);
+      }
+
+      @Override
+      public void emitted(long dispatchNanos) {
+        events.append("!" + name);
+      }
+    });
+
+    StreamMetrics.instrument(Events.of(property), "x").subscribe(v -> {}).unsubscribe();
+
+    assertEquals("+x-x", events.toString());
+  }
+
+  @Test
+  void shouldRecordFlightRecorderEvents() throws IOException {
+    Path file = Files.createTempFile("streams", ".jfr");
+
+    try {
+      try(Recording recording = new Recording()) {
+        recording.enable("hs.jfx.eventstream.StreamEmit").withThreshold(Duration.ZERO);
+        recording.enable("hs.jfx.eventstream.StreamSubscribe").withThreshold(Duration.ZERO);
+        recording.start();
+
+        StreamMetrics.instrument(Events.of(property), "recorded").subscribe(v -> {});
+        Events.of(property).subscribe(v -> {});  // not instrumented
+
+        property.set("B");
+
+        recording.stop();
+        recording.dump(file);
+      }
+
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+        .filter(e -> e.getEventType().getName().startsWith("hs.jfx.eventstream."))
+        .collect(Collectors.toList());
+
+      assertEquals(2, events.size());
+      assertEquals("hs.jfx.eventstream.StreamSubscribe", events.get(0).getEventType().getName());
+      assertTrue(events.get(0).getBoolean("sourceSubscribed"));
+      assertEquals("hs.jfx.eventstream.StreamEmit", events.get(1).getEventType().getName());
+      assertEquals("recorded", events.get(1).getString("streamName"));
+      assertEquals(1, events.get(1).getInt("observerCount"));
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void shouldRejectStreamsNotSupportingInstrumentation() {
+    ObservableStream<String> stream = new ObservableStream<>() {
+      @Override
+      public void addObserver(Consumer<? super String> observer) {
+      }
+
+      @Override
+      public void removeObserver(Consumer<? super String> observer) {
+      }
+    };
+
+    assertThrows(IllegalArgumentException.class, () -> StreamMetrics.instrument(stream, "custom"));
+  }
+}
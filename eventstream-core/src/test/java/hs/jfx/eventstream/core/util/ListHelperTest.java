@@ -1,6 +1,8 @@
 package hs.jfx.eventstream.core.util;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ListHelperTest {
@@ -94,4 +97,73 @@ public class ListHelperTest {
       assertEquals(3, iterations.get());
       assertArrayEquals(new Integer[] { 0, 1, 2, 2, 1, 0 }, ListHelper.toArray(lh.get(), n -> new Integer[n]));
   }
+
+  @Test
+  public void testRemoveInForEachWithArgument() {
+      ObjectProperty<ListHelper<Integer>> lh = new SimpleObjectProperty<>(null);
+      List<Integer> visited = new ArrayList<>();
+
+      lh.set(ListHelper.add(lh.get(), 0));
+      lh.set(ListHelper.add(lh.get(), 1));
+      lh.set(ListHelper.add(lh.get(), 2));
+
+      ListHelper.forEach(lh.get(), (i, offset) -> {
+          lh.set(ListHelper.remove(lh.get(), 2-i));
+          visited.add(i + offset);
+      }, 10);
+
+      assertEquals(List.of(10, 11, 12), visited);
+      assertEquals(0, ListHelper.size(lh.get()));
+  }
+
+  @Test
+  public void testAddInForEachWithArgument() {
+      ObjectProperty<ListHelper<Integer>> lh = new SimpleObjectProperty<>(null);
+      List<Integer> visited = new ArrayList<>();
+
+      lh.set(ListHelper.add(lh.get(), 0));
+      lh.set(ListHelper.add(lh.get(), 1));
+      lh.set(ListHelper.add(lh.get(), 2));
+
+      ListHelper.forEach(lh.get(), (i, offset) -> {
+          lh.set(ListHelper.add(lh.get(), 2-i));
+          visited.add(i + offset);
+      }, 10);
+
+      assertEquals(List.of(10, 11, 12), visited);
+      assertArrayEquals(new Integer[] { 0, 1, 2, 2, 1, 0 }, ListHelper.toArray(lh.get(), n -> new Integer[n]));
+  }
+
+  @Test
+  public void testForEachWithArgumentEndsIterationOnException() {
+      ListHelper<Integer> lh = null;
+
+      lh = ListHelper.add(lh, 0);
+      lh = ListHelper.add(lh, 1);
+
+      ListHelper<Integer> original = lh;
+
+      assertThrows(IllegalStateException.class, () -> ListHelper.forEach(original, (i, a) -> {
+          throw new IllegalStateException();
+      }, null));
+
+      assertTrue(lh == ListHelper.add(lh, 5)); // test that change is made in place
+  }
+
+  @Test
+  public void testPrimitiveForEachWithArgument() {
+      ObjectProperty<ListHelper<Integer>> lh = new SimpleObjectProperty<>(null);
+      List<Double> visited = new ArrayList<>();
+
+      lh.set(ListHelper.add(lh.get(), 0));
+      lh.set(ListHelper.add(lh.get(), 1));
+
+      ListHelper.forEachDouble(lh.get(), (i, offset) -> {
+          lh.set(ListHelper.add(lh.get(), 5));
+          visited.add(i + offset);
+      }, 0.5);
+
+      assertEquals(List.of(0.5, 1.5), visited);
+      assertEquals(4, ListHelper.size(lh.get()));
+  }
 }
@@ -0,0 +1,76 @@
+package hs.jfx.eventstream.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LruCacheTest {
+  private final List<Integer> calls = new ArrayList<>();
+  private final LruCache<Integer, String> cache = new LruCache<>(k -> {
+    calls.add(k);
+
+    return k == null || k < 0 ? null : "" + k;
+  }, 3);
+
+  @Test
+  void shouldDiscardLeastRecentlyUsedEntry() {
+    assertEquals("1", cache.get(1));
+    assertEquals("2", cache.get(2));
+    assertEquals("3", cache.get(3));
+    assertEquals("1", cache.get(1));
+    assertEquals("4", cache.get(4));  // discards 2
+    assertEquals("3", cache.get(3));
+    assertEquals("2", cache.get(2));  // discards 1
+
+    assertEquals(List.of(1, 2, 3, 4, 2), calls);
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  void shouldCacheNulls() {
+    assertNull(cache.get(-1));
+    assertNull(cache.get(-1));
+    assertNull(cache.get(null));
+    assertNull(cache.get(null));
+
+    assertEquals(2, calls.size());
+  }
+
+  @Test
+  void shouldCallFunctionAgainAfterClearing() {
+    cache.get(1);
+    cache.clear();
+    cache.get(1);
+
+    assertEquals(List.of(1, 1), calls);
+  }
+
+  @Test
+  void memoizeShouldRememberResults() {
+    Function<Integer, Integer> function = LruCache.memoize(k -> {
+      calls.add(k);
+
+      return k * 2;
+    }, 1);
+
+    assertEquals(2, function.apply(1));
+    assertEquals(2, function.apply(1));
+    assertEquals(4, function.apply(2));
+    assertEquals(2, function.apply(1));
+
+    assertEquals(List.of(1, 2, 1), calls);
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(NullPointerException.class, () -> new LruCache<>(null, 1));
+    assertThrows(IllegalArgumentException.class, () -> new LruCache<>(k -> k, 0));
+    assertThrows(IllegalArgumentException.class, () -> LruCache.memoize(k -> k, -1));
+  }
+}
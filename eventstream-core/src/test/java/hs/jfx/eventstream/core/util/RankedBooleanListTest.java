@@ -0,0 +1,63 @@
+package hs.jfx.eventstream.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RankedBooleanListTest {
+  private final RankedBooleanList list = new RankedBooleanList();
+
+  @Test
+  void shouldBehaveLikeListOfBooleans() {
+    Random rnd = new Random(1);
+    List<Boolean> expected = new ArrayList<>();
+
+    for(int i = 0; i < 2000; i++) {
+      int op = rnd.nextInt(3);
+
+      if(op == 0 || expected.isEmpty()) {
+        int index = rnd.nextInt(expected.size() + 1);
+        boolean value = rnd.nextBoolean();
+
+        expected.add(index, value);
+        list.add(index, value);
+      }
+      else if(op == 1) {
+        int index = rnd.nextInt(expected.size());
+
+        assertEquals(expected.remove(index), list.remove(index));
+      }
+      else {
+        int index = rnd.nextInt(expected.size());
+        boolean value = rnd.nextBoolean();
+
+        expected.set(index, value);
+        list.set(index, value);
+      }
+
+      int index = rnd.nextInt(expected.size() + 1);
+
+      assertEquals(expected.size(), list.size());
+      assertEquals(expected.subList(0, index).stream().filter(b -> b).count(), list.countTrue(index));
+
+      if(index < expected.size()) {
+        assertEquals(expected.get(index), list.get(index));
+      }
+    }
+  }
+
+  @Test
+  void shouldRejectIndicesOutOfBounds() {
+    list.add(0, true);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, true));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.countTrue(2));
+  }
+}
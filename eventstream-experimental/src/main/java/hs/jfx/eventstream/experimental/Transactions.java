@@ -1,51 +1,42 @@
 package hs.jfx.eventstream.experimental;
 
 import hs.jfx.eventstream.api.Subscription;
-
-import java.util.ArrayList;
-import java.util.List;
-
-// TODO experimental
+import hs.jfx.eventstream.core.impl.TransactionScope;
+
+/**
+ * Experimental transaction support, now backed by the transactions of the
+ * current thread.
+ *
+ * @deprecated use {@link hs.jfx.eventstream.core.Transactions} instead
+ */
+@Deprecated
 public class Transactions {
-  private static boolean inhibitted;
-  private static List<Runnable> callbacks = new ArrayList<>();
 
   public static void inhibit() {
-    inhibitted = true;
+    TransactionScope.current().begin();
   }
 
   public static void uninhibit() {
-    inhibitted = false;
+    TransactionScope scope = TransactionScope.current();
 
-    for(Runnable runnable : callbacks) {
-      runnable.run();
+    if(scope.isActive()) {
+      scope.end();
     }
-
-    callbacks.clear();
-  }
-
-  public static Subscription register(Runnable callback) {  // TODO should be named registerOnce to make clear this happens only once
-    callbacks.add(callback);
-
-    return () -> unregister(callback);
   }
 
-  public static void unregister(Runnable callback) {
-    callbacks.remove(callback);
+  public static Subscription register(Runnable callback) {
+    return TransactionScope.current().register(callback);
   }
 
   public static boolean inhibitted() {
-    return inhibitted;
+    return inProgress();
   }
 
   public static boolean inProgress() {
-    return inhibitted;
+    return TransactionScope.current().isActive();
   }
 
-  // TODO rename
   public static void doWhile(Runnable runnable) {
-    inhibit();
-    runnable.run();
-    uninhibit();
+    hs.jfx.eventstream.core.Transactions.run(runnable);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package hs.jfx.eventstream.flow;
+
+/**
+ * Determines what happens to values a stream emits while the subscriber of a
+ * {@link java.util.concurrent.Flow.Publisher} has no outstanding demand and
+ * the buffer holding values awaiting demand is full.
+ */
+public enum BackpressureStrategy {
+
+  /**
+   * The subscription fails with an {@link IllegalStateException}, signalled
+   * with {@code onError}.
+   */
+  ERROR,
+
+  /**
+   * The new value is discarded.
+   */
+  DROP,
+
+  /**
+   * The oldest buffered value is discarded to make room for the new value, so
+   * the subscriber always receives the latest values.
+   */
+  LATEST
+}
@@ -0,0 +1,93 @@
+package hs.jfx.eventstream.flow;
+
+import hs.jfx.eventstream.api.EventStream;
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.core.StreamExecutors;
+import hs.jfx.eventstream.core.impl.BaseEventStream;
+import hs.jfx.eventstream.flow.impl.PublisherSubscriber;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Converts between {@link ObservableStream}s and {@link Flow.Publisher}s.
+ */
+public interface Flows {
+
+  /**
+   * Creates a {@link StreamPublisher} which publishes the values of the given stream.
+   * The stream is observed on the JavaFX Application Thread.
+   *
+   * @param <T> the type of values published
+   * @param stream an {@link ObservableStream}, cannot be null
+   * @param strategy a {@link BackpressureStrategy} which determines what happens when a buffer is full, cannot be null
+   * @param bufferSize the maximum number of values buffered per subscriber while awaiting demand, must be positive
+   * @return a {@link StreamPublisher}, never null
+   */
+  static <T> StreamPublisher<T> toPublisher(ObservableStream<T> stream, BackpressureStrategy strategy, int bufferSize) {
+    return toPublisher(stream, strategy, bufferSize, StreamExecutors.fx());
+  }
+
+  /**
+   * Creates a {@link StreamPublisher} which publishes the values of the given stream.
+   * The given {@link Executor} is used to subscribe to and unsubscribe from the stream.
+   *
+   * @param <T> the type of values published
+   * @param stream an {@link ObservableStream}, cannot be null
+   * @param strategy a {@link BackpressureStrategy} which determines what happens when a buffer is full, cannot be null
+   * @param bufferSize the maximum number of values buffered per subscriber while awaiting demand, must be positive
+   * @param executor an {@link Executor} which runs on the thread the stream emits its values on, cannot be null
+   * @return a {@link StreamPublisher}, never null
+   */
+  static <T> StreamPublisher<T> toPublisher(ObservableStream<T> stream, BackpressureStrategy strategy, int bufferSize, Executor executor) {
+    return new StreamPublisher<>(stream, strategy, bufferSize, executor);
+  }
+
+  /**
+   * Creates an {@link EventStream} which emits the items of the given {@link Flow.Publisher}
+   * on the JavaFX Application Thread. The publisher is subscribed to while the stream has
+   * subscribers.<p>
+   *
+   * At most <code>bufferSize</code> items are requested ahead; further items are only
+   * requested as items are emitted, so a publisher which produces items faster than they
+   * can be emitted is slowed down instead of filling an unbounded queue. Errors signalled
+   * by the publisher are reported to the uncaught exception handler.
+   *
+   * @param <T> the type of values the stream emits
+   * @param publisher a {@link Flow.Publisher}, cannot be null
+   * @param bufferSize the maximum number of items requested but not yet emitted, must be positive
+   * @return an {@link EventStream} which emits the items of the given publisher, never null
+   */
+  static <T> EventStream<T> toEventStream(Flow.Publisher<? extends T> publisher, int bufferSize) {
+    return toEventStream(publisher, bufferSize, StreamExecutors.fx());
+  }
+
+  /**
+   * Creates an {@link EventStream} which emits the items of the given {@link Flow.Publisher}
+   * using the given {@link Executor}.
+   *
+   * @param <T> the type of values the stream emits
+   * @param publisher a {@link Flow.Publisher}, cannot be null
+   * @param bufferSize the maximum number of items requested but not yet emitted, must be positive
+   * @param executor an {@link Executor} used to emit items, cannot be null
+   * @return an {@link EventStream} which emits the items of the given publisher, never null
+   * @see #toEventStream(Flow.Publisher, int)
+   */
+  static <T> EventStream<T> toEventStream(Flow.Publisher<? extends T> publisher, int bufferSize, Executor executor) {
+    Objects.requireNonNull(publisher);
+    Objects.requireNonNull(executor);
+
+    if(bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+    }
+
+    return new BaseEventStream<>(emitter -> {
+      PublisherSubscriber<T> subscriber = new PublisherSubscriber<>(emitter, bufferSize, executor);
+
+      publisher.subscribe(subscriber);
+
+      return subscriber::cancel;
+    });
+  }
+}
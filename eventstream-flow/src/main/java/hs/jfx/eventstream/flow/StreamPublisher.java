@@ -0,0 +1,57 @@
+package hs.jfx.eventstream.flow;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.flow.impl.StreamSubscription;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Flow.Publisher} of the values of an {@link ObservableStream}. Each
+ * {@link Flow.Subscriber} gets its own subscription to the stream, with a buffer
+ * for values awaiting demand. When the buffer is full, the {@link BackpressureStrategy}
+ * determines what happens with further values.<p>
+ *
+ * Subscribing to and unsubscribing from the stream is done using an {@link Executor},
+ * as streams must be observed on the thread they emit their values on.
+ *
+ * @param <T> the type of values published
+ */
+public class StreamPublisher<T> implements Flow.Publisher<T> {
+  private final ObservableStream<T> stream;
+  private final BackpressureStrategy strategy;
+  private final int bufferSize;
+  private final Executor executor;
+  private final LongAdder droppedCount = new LongAdder();
+
+  StreamPublisher(ObservableStream<T> stream, BackpressureStrategy strategy, int bufferSize, Executor executor) {
+    if(bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+    }
+
+    this.stream = Objects.requireNonNull(stream);
+    this.strategy = Objects.requireNonNull(strategy);
+    this.bufferSize = bufferSize;
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    StreamSubscription<T> subscription = new StreamSubscription<>(Objects.requireNonNull(subscriber), strategy, bufferSize, droppedCount, executor);
+
+    subscriber.onSubscribe(subscription);
+    executor.execute(() -> subscription.subscribeTo(stream));
+  }
+
+  /**
+   * Returns the number of values discarded for all subscribers so far because
+   * their buffer was full.
+   *
+   * @return the number of values discarded so far
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+}
@@ -0,0 +1,104 @@
+package hs.jfx.eventstream.flow.impl;
+
+import hs.jfx.eventstream.api.Emitter;
+import hs.jfx.eventstream.api.TransactionPolicy;
+import hs.jfx.eventstream.core.impl.DrainingQueue;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Subscriber} which emits the items it receives using an {@link Executor}.
+ * A fixed number of items is requested ahead, and another item is requested each time
+ * an item was emitted, so the number of items received but not yet emitted is bounded.
+ *
+ * @param <T> the type of items
+ */
+public class PublisherSubscriber<T> implements Flow.Subscriber<T> {
+  private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+  private final int bufferSize;
+  private final Executor executor;
+  private final DrainingQueue<T> queue;
+
+  private volatile boolean cancelled;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param emitter an {@link Emitter} for the items, cannot be null
+   * @param bufferSize the maximum number of items received but not yet emitted, must be positive
+   * @param executor an {@link Executor} used to emit items, cannot be null
+   */
+  public PublisherSubscriber(Emitter<T> emitter, int bufferSize, Executor executor) {
+    this.bufferSize = bufferSize;
+    this.executor = executor;
+    this.queue = new DrainingQueue<>(executor, TransactionPolicy.COLLECT_ALL, item -> {
+      emitter.emit(item);
+      request(1);
+    });
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription);
+
+    if(cancelled || !this.subscription.compareAndSet(null, subscription)) {
+      subscription.cancel();  // rule 2.5
+
+      return;
+    }
+
+    if(cancelled) {  // cancelled concurrently
+      subscription.cancel();
+
+      return;
+    }
+
+    subscription.request(bufferSize);
+  }
+
+  @Override
+  public void onNext(T item) {
+    queue.offer(Objects.requireNonNull(item));
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    Objects.requireNonNull(throwable);
+
+    executor.execute(() -> {
+      if(!cancelled) {
+        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), throwable);
+      }
+    });
+  }
+
+  @Override
+  public void onComplete() {
+    // event streams do not complete
+  }
+
+  /**
+   * Cancels the subscription with the publisher and discards any items not yet emitted.
+   */
+  public void cancel() {
+    cancelled = true;
+    queue.close();
+
+    Flow.Subscription s = subscription.get();
+
+    if(s != null) {
+      s.cancel();
+    }
+  }
+
+  private void request(long n) {
+    Flow.Subscription s = subscription.get();
+
+    if(s != null && !cancelled) {
+      s.request(n);
+    }
+  }
+}
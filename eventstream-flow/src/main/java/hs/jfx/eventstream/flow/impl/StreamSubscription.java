@@ -0,0 +1,203 @@
+package hs.jfx.eventstream.flow.impl;
+
+import hs.jfx.eventstream.api.ObservableStream;
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.flow.BackpressureStrategy;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Flow.Subscription} which delivers the values of a stream to a
+ * {@link Flow.Subscriber} as demanded. Values emitted while there is no demand
+ * are buffered, up to a maximum after which the {@link BackpressureStrategy}
+ * applies.<p>
+ *
+ * Signals are delivered by whichever thread emits a value or requests more, but
+ * never concurrently; a thread finding another already delivering leaves any
+ * new values or demand for that thread to handle.
+ *
+ * @param <T> the type of values
+ */
+public class StreamSubscription<T> implements Flow.Subscription {
+  private final Flow.Subscriber<? super T> subscriber;
+  private final BackpressureStrategy strategy;
+  private final int bufferSize;
+  private final LongAdder droppedCount;
+  private final Executor executor;
+  private final Object lock = new Object();
+  private final Queue<T> buffer = new ArrayDeque<>();
+
+  // fields guarded by lock:
+  private long demand;
+  private boolean delivering;
+  private boolean terminated;
+  private Throwable error;
+
+  // only accessed on the stream's thread:
+  private Subscription streamSubscription;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param subscriber a {@link Flow.Subscriber}, cannot be null
+   * @param strategy a {@link BackpressureStrategy}, cannot be null
+   * @param bufferSize the maximum number of values to buffer, must be positive
+   * @param droppedCount a {@link LongAdder} which counts discarded values, cannot be null
+   * @param executor an {@link Executor} which runs on the thread the stream emits its values on, cannot be null
+   */
+  public StreamSubscription(Flow.Subscriber<? super T> subscriber, BackpressureStrategy strategy, int bufferSize, LongAdder droppedCount, Executor executor) {
+    this.subscriber = subscriber;
+    this.strategy = strategy;
+    this.bufferSize = bufferSize;
+    this.droppedCount = droppedCount;
+    this.executor = executor;
+  }
+
+  /**
+   * Subscribes to the given stream, unless this subscription was cancelled already.
+   * Must be called using the executor of this subscription, which also unsubscribes
+   * from the stream again when this subscription ends.
+   *
+   * @param stream an {@link ObservableStream}, cannot be null
+   */
+  public void subscribeTo(ObservableStream<T> stream) {
+    synchronized(lock) {
+      if(terminated) {
+        return;
+      }
+    }
+
+    this.streamSubscription = stream.subscribe(this::offer);
+  }
+
+  @Override
+  public void request(long n) {
+    synchronized(lock) {
+      if(terminated) {
+        return;
+      }
+
+      if(n <= 0) {
+        error = new IllegalArgumentException("Requested number of values must be positive (rule 3.9): " + n);
+      }
+      else {
+        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+      }
+    }
+
+    deliver();
+  }
+
+  @Override
+  public void cancel() {
+    synchronized(lock) {
+      if(terminated) {
+        return;
+      }
+
+      terminated = true;
+      buffer.clear();
+    }
+
+    unsubscribeFromStream();
+  }
+
+  private void offer(T value) {
+    synchronized(lock) {
+      if(terminated || error != null) {
+        return;
+      }
+
+      if(buffer.size() >= bufferSize) {
+        switch(strategy) {
+        case DROP:
+          droppedCount.increment();
+          return;
+        case LATEST:
+          buffer.poll();
+          droppedCount.increment();
+          break;
+        default:
+          error = new IllegalStateException("Buffer of " + bufferSize + " values exceeded");
+          buffer.clear();
+        }
+      }
+
+      if(error == null) {
+        buffer.add(value);
+      }
+    }
+
+    deliver();
+  }
+
+  private void deliver() {
+    synchronized(lock) {
+      if(delivering) {
+        return;
+      }
+
+      delivering = true;
+    }
+
+    for(;;) {
+      T value;
+      Throwable failure = null;
+
+      synchronized(lock) {
+        if(terminated) {
+          delivering = false;
+
+          return;
+        }
+
+        if(error != null) {
+          failure = error;
+          terminated = true;
+          value = null;
+        }
+        else if(demand > 0 && !buffer.isEmpty()) {
+          value = buffer.poll();
+
+          if(demand != Long.MAX_VALUE) {  // Long.MAX_VALUE means unbounded (rule 3.17)
+            demand--;
+          }
+        }
+        else {
+          delivering = false;
+
+          return;
+        }
+      }
+
+      if(failure != null) {
+        unsubscribeFromStream();
+        subscriber.onError(failure);
+
+        return;
+      }
+
+      try {
+        subscriber.onNext(value);
+      }
+      catch(RuntimeException e) {  // violates rule 2.13, consider the subscription cancelled
+        cancel();
+
+        throw e;
+      }
+    }
+  }
+
+  private void unsubscribeFromStream() {
+    executor.execute(() -> {
+      if(streamSubscription != null) {
+        streamSubscription.unsubscribe();
+        streamSubscription = null;
+      }
+    });
+  }
+}
@@ -0,0 +1,221 @@
+package hs.jfx.eventstream.flow;
+
+import hs.jfx.eventstream.api.Subscription;
+import hs.jfx.eventstream.core.EventSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlowsTest {
+  private final Executor direct = Runnable::run;
+
+  @Nested
+  class ToPublisher {
+    private final EventSource<Integer> source = new EventSource<>();
+    private final TestSubscriber subscriber = new TestSubscriber();
+
+    @Test
+    void shouldOnlyDeliverDemandedValuesAndBufferTheRest() {
+      Flows.toPublisher(source, BackpressureStrategy.ERROR, 10, direct).subscribe(subscriber);
+
+      subscriber.subscription.request(2);
+      push(1, 2, 3, 4, 5);
+
+      assertEquals(List.of(1, 2), subscriber.items);
+
+      subscriber.subscription.request(10);
+
+      assertEquals(List.of(1, 2, 3, 4, 5), subscriber.items);
+
+      push(6);
+
+      assertEquals(List.of(1, 2, 3, 4, 5, 6), subscriber.items);
+    }
+
+    @Test
+    void shouldDropNewValuesWhenBufferIsFull() {
+      StreamPublisher<Integer> publisher = Flows.toPublisher(source, BackpressureStrategy.DROP, 2, direct);
+
+      publisher.subscribe(subscriber);
+      push(1, 2, 3, 4, 5);
+      subscriber.subscription.request(10);
+
+      assertEquals(List.of(1, 2), subscriber.items);
+      assertEquals(3, publisher.getDroppedCount());
+    }
+
+    @Test
+    void shouldKeepLatestValuesWhenBufferIsFull() {
+      StreamPublisher<Integer> publisher = Flows.toPublisher(source, BackpressureStrategy.LATEST, 2, direct);
+
+      publisher.subscribe(subscriber);
+      push(1, 2, 3, 4, 5);
+      subscriber.subscription.request(10);
+
+      assertEquals(List.of(4, 5), subscriber.items);
+      assertEquals(3, publisher.getDroppedCount());
+    }
+
+    @Test
+    void shouldSignalErrorWhenBufferOverflows() {
+      Flows.toPublisher(source, BackpressureStrategy.ERROR, 2, direct).subscribe(subscriber);
+
+      push(1, 2, 3);
+      subscriber.subscription.request(10);
+
+      assertTrue(subscriber.error instanceof IllegalStateException);
+      assertTrue(subscriber.items.isEmpty());
+
+      push(4);
+
+      assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    void shouldSignalErrorForNonPositiveRequest() {
+      Flows.toPublisher(source, BackpressureStrategy.ERROR, 2, direct).subscribe(subscriber);
+
+      subscriber.subscription.request(0);
+
+      assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void shouldStopDeliveringWhenCancelled() {
+      Flows.toPublisher(source, BackpressureStrategy.ERROR, 2, direct).subscribe(subscriber);
+
+      subscriber.subscription.request(Long.MAX_VALUE);
+      push(1);
+      subscriber.subscription.cancel();
+      push(2);
+
+      assertEquals(List.of(1), subscriber.items);
+    }
+
+    @Test
+    void shouldAllowRequestingFromOnNext() {
+      TestSubscriber subscriber = new TestSubscriber() {
+        @Override
+        public void onNext(Integer item) {
+          super.onNext(item);
+          subscription.request(1);
+        }
+      };
+
+      Flows.toPublisher(source, BackpressureStrategy.ERROR, 10, direct).subscribe(subscriber);
+
+      push(1, 2, 3);
+      subscriber.subscription.request(1);
+
+      assertEquals(List.of(1, 2, 3), subscriber.items);
+    }
+
+    private void push(int... values) {
+      for(int value : values) {
+        source.push(value);
+      }
+    }
+  }
+
+  @Nested
+  class ToEventStream {
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final TestPublisher publisher = new TestPublisher();
+    private final List<String> values = new ArrayList<>();
+
+    @Test
+    void shouldBoundItemsRequestedButNotYetEmitted() {
+      Flows.toEventStream(publisher, 2, tasks::add).subscribe(values::add);
+
+      assertEquals(2, publisher.requested.get());
+
+      publisher.subscriber.onNext("A");
+      publisher.subscriber.onNext("B");
+
+      assertTrue(values.isEmpty());
+      assertEquals(1, tasks.size());
+
+      tasks.remove(0).run();
+
+      assertEquals(List.of("A", "B"), values);
+      assertEquals(4, publisher.requested.get());
+    }
+
+    @Test
+    void shouldSubscribeLazilyAndCancelWhenUnsubscribed() {
+      Subscription subscription = Flows.toEventStream(publisher, 2, tasks::add).subscribe(values::add);
+
+      assertFalse(publisher.cancelled.get());
+
+      publisher.subscriber.onNext("A");
+      subscription.unsubscribe();
+
+      assertTrue(publisher.cancelled.get());
+
+      tasks.forEach(Runnable::run);
+
+      assertTrue(values.isEmpty());
+    }
+  }
+
+  private static class TestSubscriber implements Flow.Subscriber<Integer> {
+    final List<Integer> items = new ArrayList<>();
+
+    Flow.Subscription subscription;
+    Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(Integer item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+    }
+  }
+
+  private static class TestPublisher implements Flow.Publisher<String> {
+    final AtomicLong requested = new AtomicLong();
+    final AtomicBoolean cancelled = new AtomicBoolean();
+
+    Flow.Subscriber<? super String> subscriber;
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+      this.subscriber = subscriber;
+
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+          cancelled.set(true);
+        }
+      });
+    }
+  }
+}